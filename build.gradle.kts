@@ -26,6 +26,8 @@ repositories {
 dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.9.0")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.9.0")
+    testImplementation("org.openjdk.jmh:jmh-core:1.35")
+    testAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.35")
     compileOnly("com.google.code.findbugs:jsr305:3.0.2")
     compileOnly("org.jetbrains:annotations:23.0.0")
 
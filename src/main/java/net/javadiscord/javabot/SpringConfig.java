@@ -2,15 +2,17 @@ package net.javadiscord.javabot;
 
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 
 import javax.security.auth.login.LoginException;
 import javax.sql.DataSource;
 
+import org.jetbrains.annotations.NotNull;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
 
 import com.dynxsty.dih4jda.DIH4JDA;
 import com.dynxsty.dih4jda.DIH4JDABuilder;
@@ -19,6 +21,7 @@ import com.dynxsty.dih4jda.exceptions.DIH4JDAException;
 import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.JDABuilder;
 import net.dv8tion.jda.api.OnlineStatus;
@@ -31,16 +34,19 @@ import net.javadiscord.javabot.data.config.BotConfig;
 import net.javadiscord.javabot.data.config.SystemsConfig;
 import net.javadiscord.javabot.data.h2db.DbHelper;
 import net.javadiscord.javabot.tasks.PresenceUpdater;
+import net.javadiscord.javabot.util.MonitoredScheduledExecutor;
+import net.javadiscord.javabot.util.VirtualThreads;
 
 /**
  * This class holds all configuration settings and {@link Bean}s.
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class SpringConfig {
 	@Bean
-	public PresenceUpdater standardActivityPresenceUpdater() {
-		return PresenceUpdater.standardActivities();
+	public PresenceUpdater standardActivityPresenceUpdater(MonitoredScheduledExecutor schedulerPool) {
+		return PresenceUpdater.standardActivities(schedulerPool);
 	}
 
 	@Bean
@@ -48,9 +54,55 @@ public class SpringConfig {
 		return DbHelper.initDataSource(config);
 	}
 
+	/**
+	 * The general purpose thread pool, which is mostly used for Discord REST requests.
+	 * Other subsystems use their own pools, so that they can't starve each other.
+	 * @param config the main configuration of the bot
+	 * @return the thread pool
+	 */
+	@Bean
+	public MonitoredScheduledExecutor asyncPool(BotConfig config) {
+		return createBlockingPool("async", config.getSystems().getAsyncPoolSize(), config.getSystems());
+	}
+
+	/**
+	 * The thread pool for blocking database work.
+	 * @param config the main configuration of the bot
+	 * @return the thread pool
+	 */
+	@Bean
+	public MonitoredScheduledExecutor dbPool(BotConfig config) {
+		return createBlockingPool("db", config.getSystems().getDbPoolSize(), config.getSystems());
+	}
+
+	/**
+	 * The thread pool for rendering images.
+	 * @param config the main configuration of the bot
+	 * @return the thread pool
+	 */
 	@Bean
-	public ScheduledExecutorService asyncPool(BotConfig config) {
-		return Executors.newScheduledThreadPool(config.getSystems().getAsyncPoolSize());
+	public MonitoredScheduledExecutor imagePool(BotConfig config) {
+		return new MonitoredScheduledExecutor("image", config.getSystems().getImagePoolSize());
+	}
+
+	/**
+	 * The thread pool for periodic and scheduled jobs, including the {@link org.springframework.scheduling.annotation.Scheduled} ones.
+	 * @param config the main configuration of the bot
+	 * @return the thread pool
+	 */
+	@Bean
+	public MonitoredScheduledExecutor schedulerPool(BotConfig config) {
+		return new MonitoredScheduledExecutor("scheduler", config.getSystems().getSchedulerPoolSize());
+	}
+
+	/**
+	 * Runs all {@link org.springframework.scheduling.annotation.Scheduled} jobs on the scheduler pool.
+	 * @param schedulerPool the thread pool for periodic and scheduled jobs
+	 * @return the task scheduler
+	 */
+	@Bean
+	public TaskScheduler taskScheduler(MonitoredScheduledExecutor schedulerPool) {
+		return new ConcurrentTaskScheduler(schedulerPool);
 	}
 
 	@Bean
@@ -102,4 +154,16 @@ public class SpringConfig {
 	public BotConfig botConfig() {
 		return new BotConfig(Path.of("config"));
 	}
+
+	// creates a pool for blocking work, which hands off immediate tasks to virtual threads if enabled and supported
+	private static @NotNull MonitoredScheduledExecutor createBlockingPool(String name, int poolSize, @NotNull SystemsConfig config) {
+		ExecutorService virtualThreads = null;
+		if (config.isUseVirtualThreads()) {
+			virtualThreads = VirtualThreads.newVirtualThreadPerTaskExecutor().orElse(null);
+			if (virtualThreads == null) {
+				log.warn("Virtual threads are not supported by this JDK, the {} pool uses {} platform threads instead.", name, poolSize);
+			}
+		}
+		return new MonitoredScheduledExecutor(name, poolSize, virtualThreads);
+	}
 }
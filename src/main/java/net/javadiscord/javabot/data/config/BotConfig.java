@@ -1,7 +1,5 @@
 package net.javadiscord.javabot.data.config;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Guild;
@@ -10,11 +8,12 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,6 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class BotConfig {
 	private static final String SYSTEMS_FILE = "systems.json";
+	private static final long WRITE_DELAY_MILLIS = 2000;
 
 	/**
 	 * The map containing guild-specific configuration settings for each guild
@@ -42,6 +42,11 @@ public class BotConfig {
 	 */
 	private final Path dir;
 
+	/**
+	 * Writes all changed configuration files in the background.
+	 */
+	private final ConfigPersister persister;
+
 	/**
 	 * Constructs a new empty configuration.
 	 *
@@ -63,11 +68,12 @@ public class BotConfig {
 			}
 		}
 		this.guilds = new ConcurrentHashMap<>();
-		Gson gson = new GsonBuilder().enableComplexMapKeySerialization().create();
+		this.persister = new ConfigPersister(WRITE_DELAY_MILLIS);
+		Runtime.getRuntime().addShutdownHook(new Thread(persister::flushAll, "config-persister-shutdown"));
 		Path systemsFile = dir.resolve(SYSTEMS_FILE);
 		if (Files.exists(systemsFile)) {
 			try (BufferedReader reader = Files.newBufferedReader(systemsFile)) {
-				this.systemsConfig = gson.fromJson(reader, SystemsConfig.class);
+				this.systemsConfig = ConfigPersister.GSON.fromJson(reader, SystemsConfig.class);
 				log.info("Loaded systems config from {}", systemsFile);
 			} catch (JsonSyntaxException e) {
 				ExceptionLogger.capture(e, getClass().getSimpleName());
@@ -91,7 +97,7 @@ public class BotConfig {
 	public void loadGuilds(@NotNull List<Guild> guilds) {
 		for (Guild guild : guilds) {
 			Path file = dir.resolve(guild.getId() + ".json");
-			GuildConfig config = GuildConfig.loadOrCreate(guild, file);
+			GuildConfig config = GuildConfig.loadOrCreate(guild, file, persister);
 			this.guilds.put(guild.getIdLong(), config);
 			log.info("Loaded guild config for guild {} ({}).", guild.getName(), guild.getId());
 		}
@@ -106,7 +112,7 @@ public class BotConfig {
 	 */
 	public void addGuild(@NotNull Guild guild) {
 		Path file = dir.resolve(guild.getId() + ".json");
-		this.guilds.put(guild.getIdLong(), GuildConfig.loadOrCreate(guild, file));
+		this.guilds.put(guild.getIdLong(), GuildConfig.loadOrCreate(guild, file, persister));
 		log.info("Added guild config for guild {} ({}).", guild.getName(), guild.getId());
 	}
 
@@ -120,29 +126,44 @@ public class BotConfig {
 		if (guild == null) return null;
 		return this.guilds.computeIfAbsent(
 				guild.getIdLong(),
-				guildId -> new GuildConfig(guild, this.dir.resolve(guild.getId() + ".json"))
+				guildId -> {
+					GuildConfig config = new GuildConfig(guild, this.dir.resolve(guild.getId() + ".json"));
+					config.setPersister(persister);
+					return config;
+				}
 		);
 	}
 
+	/**
+	 * Gets the configuration of all guilds which have been loaded so far.
+	 *
+	 * @return An unmodifiable view of the loaded guild configs.
+	 */
+	public Collection<GuildConfig> getGuildConfigs() {
+		return Collections.unmodifiableCollection(this.guilds.values());
+	}
+
 	public SystemsConfig getSystems() {
 		return this.systemsConfig;
 	}
 
 	/**
-	 * Flushes all configuration to the disk.
+	 * Schedules all configuration to be flushed to the disk. Changes made within a short time
+	 * are written together, in the background.
 	 */
 	public void flush() {
-		Gson gson = new GsonBuilder().serializeNulls().setPrettyPrinting().create();
-		Path systemsFile = this.dir.resolve(SYSTEMS_FILE);
-		try (BufferedWriter writer = Files.newBufferedWriter(systemsFile)) {
-			gson.toJson(this.systemsConfig, writer);
-			writer.flush();
-		} catch (IOException e) {
-			ExceptionLogger.capture(e, getClass().getSimpleName());
-			log.error("Could not save systems config.", e);
-		}
+		persister.schedule(this.dir.resolve(SYSTEMS_FILE), this.systemsConfig);
 		for (GuildConfig config : this.guilds.values()) {
 			config.flush();
 		}
 	}
+
+	/**
+	 * Immediately flushes all configuration to the disk, including all changes that
+	 * have been scheduled before.
+	 */
+	public void flushNow() {
+		flush();
+		persister.flushAll();
+	}
 }
@@ -0,0 +1,166 @@
+package net.javadiscord.javabot.data.config;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.util.ExceptionLogger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes configuration objects to their files in the background.
+ * <p>
+ * Changes are debounced: the first change to a file schedules a write after a short delay, and all further changes
+ * until then are coalesced into that single write. Every file is written to a temporary file first, which is then
+ * atomically moved over the actual file, so that a crash never leaves a partially written configuration behind.
+ * </p>
+ */
+@Slf4j
+public class ConfigPersister {
+	/**
+	 * The {@link Gson} instance used to read and write all configuration files.
+	 */
+	public static final Gson GSON = new GsonBuilder().serializeNulls().setPrettyPrinting().enableComplexMapKeySerialization().create();
+
+	private final Map<Path, Object> pending = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService executor;
+	private final long delayMillis;
+
+	/**
+	 * Creates a new persister, which uses its own background thread.
+	 *
+	 * @param delayMillis The amount of milliseconds to wait for further changes, before a file is written.
+	 */
+	public ConfigPersister(long delayMillis) {
+		this.delayMillis = delayMillis;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "config-persister");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Serializes the given object and writes it to the given file, using a temporary file and an atomic move.
+	 * The object is serialized while holding its monitor, so all changes to it must hold that monitor as well,
+	 * like {@link GuildConfig#edit} does.
+	 *
+	 * @param file   The file to write.
+	 * @param config The object to write.
+	 * @throws IOException If the file cannot be written. In that case, the previous file is left untouched.
+	 */
+	public static void writeAtomically(@NotNull Path file, @NotNull Object config) throws IOException {
+		writeAtomically(file, config, ConfigPersister::move);
+	}
+
+	/**
+	 * Serializes the given object and writes it to the given file, using a temporary file which is then moved over
+	 * the actual file by the given {@link FileMover}.
+	 *
+	 * @param file   The file to write.
+	 * @param config The object to write.
+	 * @param mover  Moves the temporary file over the actual file.
+	 * @throws IOException If the file cannot be written. In that case, the previous file is left untouched.
+	 */
+	static void writeAtomically(@NotNull Path file, @NotNull Object config, @NotNull FileMover mover) throws IOException {
+		String json;
+		synchronized (config) {
+			json = GSON.toJson(config);
+		}
+		Path directory = file.toAbsolutePath().getParent();
+		Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				ByteBuffer buffer = ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				channel.force(true);
+			}
+			mover.move(tempFile, file);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Schedules the given object to be written to the given file. If a write of that file is already pending,
+	 * this change is included in that write.
+	 *
+	 * @param file   The file to write.
+	 * @param config The object to write.
+	 */
+	public void schedule(@NotNull Path file, @NotNull Object config) {
+		if (pending.put(file, config) == null) {
+			executor.schedule(() -> write(file), delayMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Immediately writes all pending files on the calling thread.
+	 */
+	public void flushAll() {
+		for (Path file : List.copyOf(pending.keySet())) {
+			write(file);
+		}
+	}
+
+	/**
+	 * Gets the amount of files that are waiting to be written.
+	 *
+	 * @return The amount of files.
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	private synchronized void write(Path file) {
+		// the file may have already been written by flushAll
+		Object config = pending.remove(file);
+		if (config == null) return;
+		try {
+			writeAtomically(file, config);
+		} catch (IOException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			log.error("Could not write config file " + file, e);
+		}
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Moves a fully written temporary file over the actual file.
+	 */
+	@FunctionalInterface
+	interface FileMover {
+		/**
+		 * Moves the given file, replacing the target.
+		 *
+		 * @param source The temporary file.
+		 * @param target The actual file.
+		 * @throws IOException If the file cannot be moved.
+		 */
+		void move(Path source, Path target) throws IOException;
+	}
+}
@@ -1,24 +1,19 @@
 package net.javadiscord.javabot.data.config;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Guild;
 import net.javadiscord.javabot.data.config.guild.*;
 import net.javadiscord.javabot.util.ExceptionLogger;
-import net.javadiscord.javabot.util.Pair;
 
 import javax.annotation.Nullable;
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * A collection of guild-specific configuration items, each of which represents
@@ -29,6 +24,8 @@ import java.util.Optional;
 public class GuildConfig {
 	private transient Guild guild;
 	private transient Path file;
+	@Nullable
+	private transient ConfigPersister persister;
 
 	private HelpConfig helpConfig;
 	private HelpForumConfig helpForumConfig;
@@ -63,20 +60,21 @@ public class GuildConfig {
 	 * Loads an instance of the configuration from the given path, or creates a
 	 * new empty configuration file there if none exists yet.
 	 *
-	 * @param guild The guild to load config for.
-	 * @param file  The path to the configuration JSON file.
+	 * @param guild     The guild to load config for.
+	 * @param file      The path to the configuration JSON file.
+	 * @param persister The {@link ConfigPersister} which writes all changes, or null if they should be written immediately.
 	 * @return The config that was loaded.
 	 * @throws JsonSyntaxException  if the config file's JSON is invalid.
 	 * @throws UncheckedIOException if an IO error occurs.
 	 */
-	public static GuildConfig loadOrCreate(Guild guild, Path file) {
-		Gson gson = new GsonBuilder().create();
+	public static GuildConfig loadOrCreate(Guild guild, Path file, @Nullable ConfigPersister persister) {
 		GuildConfig config;
 		if (Files.exists(file)) {
 			try (BufferedReader reader = Files.newBufferedReader(file)) {
-				config = gson.fromJson(reader, GuildConfig.class);
+				config = ConfigPersister.GSON.fromJson(reader, GuildConfig.class);
 				config.setFile(file);
 				config.setGuild(guild);
+				config.setPersister(persister);
 				log.info("Loaded config from {}", file);
 			} catch (JsonSyntaxException e) {
 				log.error("Invalid JSON found! Please fix or remove config file " + file + " and restart.", e);
@@ -87,6 +85,7 @@ public class GuildConfig {
 		} else {
 			log.info("No config file found. Creating an empty one at {}", file);
 			config = new GuildConfig(guild, file);
+			config.setPersister(persister);
 			config.flush();
 		}
 
@@ -114,19 +113,35 @@ public class GuildConfig {
 	}
 
 	/**
-	 * Saves this config to its file path.
+	 * Saves this config to its file path. If this config has a {@link ConfigPersister}, the write is
+	 * only scheduled, so that many changes in a short time result in a single write.
 	 */
-	public synchronized void flush() {
-		Gson gson = new GsonBuilder().serializeNulls().setPrettyPrinting().create();
-		try (BufferedWriter writer = Files.newBufferedWriter(this.file)) {
-			gson.toJson(this, writer);
-			writer.flush();
+	public void flush() {
+		if (persister != null) {
+			persister.schedule(this.file, this);
+			return;
+		}
+		try {
+			ConfigPersister.writeAtomically(this.file, this);
 		} catch (IOException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			log.error("Could not flush config.", e);
 		}
 	}
 
+	/**
+	 * Changes this config and saves it. The change is made while holding this config's monitor, which is the
+	 * same lock that the {@link ConfigPersister} holds while serializing it, so a write never sees a partial change.
+	 *
+	 * @param edit The change to make.
+	 */
+	public void edit(Consumer<GuildConfig> edit) {
+		synchronized (this) {
+			edit.accept(this);
+		}
+		this.flush();
+	}
+
 	/**
 	 * Attempts to resolve a configuration property value by its name, using a
 	 * '.' to concatenate property names. For example, the {@link ModerationConfig} has
@@ -140,15 +155,7 @@ public class GuildConfig {
 	 */
 	@Nullable
 	public Object resolve(String propertyName) throws UnknownPropertyException {
-		Optional<Pair<Field, Object>> result = ReflectionUtils.resolveField(propertyName, this);
-		return result.map(pair -> {
-			try {
-				return pair.first().get(pair.second());
-			} catch (IllegalAccessException e) {
-				ExceptionLogger.capture(e, getClass().getSimpleName());
-				return null;
-			}
-		}).orElse(null);
+		return ReflectionUtils.resolve(propertyName, this);
 	}
 
 	/**
@@ -159,14 +166,16 @@ public class GuildConfig {
 	 * @param value        The value to set.
 	 */
 	public void set(String propertyName, String value) throws UnknownPropertyException {
-		Optional<Pair<Field, Object>> result = ReflectionUtils.resolveField(propertyName, this);
-		result.ifPresent(pair -> {
-			try {
-				ReflectionUtils.set(pair.first(), pair.second(), value);
+		try {
+			boolean changed;
+			synchronized (this) {
+				changed = ReflectionUtils.set(propertyName, this, value);
+			}
+			if (changed) {
 				this.flush();
-			} catch (IllegalAccessException e) {
-				ExceptionLogger.capture(e, getClass().getSimpleName());
 			}
-		});
+		} catch (IllegalAccessException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+		}
 	}
-}
\ No newline at end of file
+}
@@ -1,26 +1,37 @@
 package net.javadiscord.javabot.data.config;
 
-import lombok.extern.slf4j.Slf4j;
-import net.javadiscord.javabot.util.ExceptionLogger;
-import net.javadiscord.javabot.util.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * Utility class for resolving JSON files.
  */
-@Slf4j
 public class ReflectionUtils {
 	private static final Map<Class<?>, Function<String, Object>> propertyTypeParsers = new HashMap<>();
 
+	/**
+	 * The accessors of all (non-transient, non-static) fields of a class, by their name. They're only built once per class.
+	 */
+	private static final ClassValue<Map<String, PropertyAccessor>> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected Map<String, PropertyAccessor> computeValue(@NotNull Class<?> type) {
+			Map<String, PropertyAccessor> accessors = new HashMap<>();
+			for (Field field : type.getDeclaredFields()) {
+				if (Modifier.isTransient(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) continue;
+				accessors.put(field.getName(), PropertyAccessor.of(field));
+			}
+			return Map.copyOf(accessors);
+		}
+	};
+
 	static {
 		propertyTypeParsers.put(Integer.class, Integer::parseInt);
 		propertyTypeParsers.put(int.class, Integer::parseInt);
@@ -37,44 +48,64 @@ public class ReflectionUtils {
 	private ReflectionUtils() {
 	}
 
-	public static Optional<Pair<Field, Object>> resolveField(@NotNull String propertyName, Object parent) throws UnknownPropertyException {
-		return Optional.ofNullable(resolveField(propertyName.split("\\."), parent));
+	/**
+	 * Resolves the value of a property, using '.' to concatenate property names.
+	 *
+	 * @param propertyName The name of the property.
+	 * @param parent       The object to resolve the property on.
+	 * @return The value of the property, or null if the property or one of its parents is null.
+	 * @throws UnknownPropertyException If no property with that name exists.
+	 */
+	public static @Nullable Object resolve(@NotNull String propertyName, @NotNull Object parent) throws UnknownPropertyException {
+		Object current = parent;
+		int start = 0;
+		while (current != null) {
+			int end = propertyName.indexOf('.', start);
+			String name = end == -1 ? propertyName.substring(start) : propertyName.substring(start, end);
+			current = getAccessor(current.getClass(), name).get(current);
+			if (end == -1) return current;
+			start = end + 1;
+		}
+		return null;
 	}
 
 	/**
-	 * Finds a field and the object whose type contains it, for a given parent
-	 * object.
+	 * Sets the value of a property, using '.' to concatenate property names, and
+	 * {@link ReflectionUtils#propertyTypeParsers} to try and parse the correct value.
 	 *
-	 * @param fieldNames An array containing an ordered list of the names of all
-	 *                   fields to traverse.
-	 * @param parent     The object whose fields to traverse.
-	 * @return The field and the object upon which it can be applied.
-	 * @throws UnknownPropertyException If no field could be resolved.
+	 * @param propertyName The name of the property.
+	 * @param parent       The object to set the property on.
+	 * @param s            The string representation of the value.
+	 * @return Whether the property was set, which is not the case if one of its parents is null.
+	 * @throws UnknownPropertyException If no property with that name exists.
+	 * @throws IllegalAccessException   If the property cannot be set.
 	 */
-	public static @Nullable Pair<Field, Object> resolveField(@NotNull String[] fieldNames, @NotNull Object parent) throws UnknownPropertyException {
-		if (fieldNames.length == 0) return null;
-		try {
-			Field field = parent.getClass().getDeclaredField(fieldNames[0]);
-			// Transient fields should not exist in the context of property resolution, treat them as unknown.
-			if (Modifier.isTransient(field.getModifiers())) {
-				throw new UnknownPropertyException(fieldNames[0], parent.getClass());
-			}
-			field.setAccessible(true);
-			Object value = field.get(parent);
-			if (fieldNames.length == 1) {
-				return new Pair<>(field, parent);
-			} else if (value != null) {
-				return resolveField(Arrays.copyOfRange(fieldNames, 1, fieldNames.length), value);
-			} else {
-				return null;
-			}
-		} catch (NoSuchFieldException e) {
-			throw new UnknownPropertyException(fieldNames[0], parent.getClass());
-		} catch (IllegalAccessException e) {
-			ExceptionLogger.capture(e, ReflectionUtils.class.getSimpleName());
-			log.warn("Reflection error occurred while resolving property " + Arrays.toString(fieldNames) + " of object of type " + parent.getClass().getSimpleName(), e);
-			return null;
+	public static boolean set(@NotNull String propertyName, @NotNull Object parent, @NotNull String s) throws UnknownPropertyException, IllegalAccessException {
+		int lastDot = propertyName.lastIndexOf('.');
+		Object owner = lastDot == -1 ? parent : resolve(propertyName.substring(0, lastDot), parent);
+		if (owner == null) return false;
+		PropertyAccessor accessor = getAccessor(owner.getClass(), propertyName.substring(lastDot + 1));
+		Function<String, Object> parser = propertyTypeParsers.get(accessor.field().getType());
+		if (parser == null) {
+			throw new IllegalArgumentException("No supported property type parser for the type " + accessor.field().getType().getSimpleName());
 		}
+		accessor.set(owner, parser.apply(s));
+		return true;
+	}
+
+	/**
+	 * Gets the cached accessor of a single property of a class.
+	 *
+	 * @param type The class that declares the property.
+	 * @param name The property's name.
+	 * @return The {@link PropertyAccessor}.
+	 * @throws UnknownPropertyException If the class does not declare a (non-transient, non-static) field with that name.
+	 */
+	public static @NotNull PropertyAccessor getAccessor(@NotNull Class<?> type, @NotNull String name) throws UnknownPropertyException {
+		PropertyAccessor accessor = ACCESSORS.get(type).get(name);
+		// Transient fields should not exist in the context of property resolution, treat them as unknown.
+		if (accessor == null) throw new UnknownPropertyException(name, type);
+		return accessor;
 	}
 
 	/**
@@ -106,19 +137,41 @@ public class ReflectionUtils {
 	}
 
 	/**
-	 * Sets the value of a field to a certain value, using {@link ReflectionUtils#propertyTypeParsers}
-	 * to try and parse the correct value.
+	 * Reads and writes a single field using a {@link VarHandle}, which is created once and then reused.
 	 *
-	 * @param field  The field to set.
-	 * @param parent The object whose property value to set.
-	 * @param s      The string representation of the value.
-	 * @throws IllegalAccessException If the field cannot be set.
+	 * @param field  The field.
+	 * @param handle A handle that reads and writes the field.
 	 */
-	public static void set(@NotNull Field field, @NotNull Object parent, @NotNull String s) throws IllegalAccessException {
-		Function<String, Object> parser = propertyTypeParsers.get(field.getType());
-		if (parser == null) {
-			throw new IllegalArgumentException("No supported property type parser for the type " + field.getType().getSimpleName());
+	public record PropertyAccessor(Field field, VarHandle handle) {
+		private static @NotNull PropertyAccessor of(@NotNull Field field) {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+				return new PropertyAccessor(field, lookup.unreflectVarHandle(field));
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException("Could not access field " + field, e);
+			}
+		}
+
+		/**
+		 * Reads the field's value.
+		 *
+		 * @param owner The object to read the field of.
+		 * @return The field's value.
+		 */
+		public Object get(@NotNull Object owner) {
+			return handle.get(owner);
+		}
+
+		/**
+		 * Writes the field's value.
+		 *
+		 * @param owner The object to write the field of.
+		 * @param value The new value.
+		 * @throws IllegalAccessException If the field is final.
+		 */
+		public void set(@NotNull Object owner, Object value) throws IllegalAccessException {
+			if (Modifier.isFinal(field.getModifiers())) throw new IllegalAccessException("Field " + field + " is final.");
+			handle.set(owner, value);
 		}
-		field.set(parent, parser.apply(s));
 	}
 }
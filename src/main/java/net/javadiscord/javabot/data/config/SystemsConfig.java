@@ -32,10 +32,49 @@ public class SystemsConfig {
 
 	/**
 	 * The number of threads to allocate to the bot's general purpose async
-	 * thread pool.
+	 * thread pool, which is mostly used for Discord REST requests.
 	 */
 	private int asyncPoolSize = 4;
 
+	/**
+	 * The number of threads to allocate to the thread pool for blocking
+	 * database work, like exports, migrations and the message cache sync.
+	 */
+	private int dbPoolSize = 2;
+
+	/**
+	 * The number of threads to allocate to the thread pool for rendering
+	 * images, like the leaderboards.
+	 */
+	private int imagePoolSize = 2;
+
+	/**
+	 * The number of threads to allocate to the thread pool which runs
+	 * periodic and scheduled jobs.
+	 */
+	private int schedulerPoolSize = 2;
+
+	/**
+	 * Whether tasks submitted to the general purpose and database thread pools
+	 * should run on virtual threads, so that blocking Discord REST requests and
+	 * JDBC calls don't occupy one of the pools' threads. Requires a JDK with
+	 * virtual threads; otherwise, the fixed pools are used.
+	 */
+	private boolean useVirtualThreads = false;
+
+	/**
+	 * The maximum amount of rows which are sent to the database in a single
+	 * JDBC batch.
+	 */
+	private int jdbcBatchSize = 100;
+
+	/**
+	 * Path to a local file containing additional spam domains, one per line.
+	 * The file is re-read periodically. If left blank, only the bundled list
+	 * of spam links is used.
+	 */
+	private String spamLinksFile = "";
+
 	/**
 	 * Configuration for the Hikari connection pool that's used for the bot's
 	 * SQL data source.
@@ -74,9 +113,50 @@ public class SystemsConfig {
 	 */
 	@Data
 	public static class HikariConfig {
+		/**
+		 * The JDBC url of the database. Urls of the form {@code jdbc:h2:tcp://localhost:<port>/<path>} go over the
+		 * bot's own H2 TCP server, while {@code jdbc:h2:file:<path>} urls open the database in-process, without
+		 * starting the TCP server at all.
+		 */
 		private String jdbcUrl = "jdbc:h2:tcp://localhost:9122/./java_bot";
 		private int maximumPoolSize = 5;
 		private long leakDetectionThreshold = 10000;
+
+		/**
+		 * The minimum amount of idle connections in the pool, or -1 to keep the pool at its maximum size.
+		 */
+		private int minimumIdle = -1;
+
+		/**
+		 * The maximum amount of milliseconds to wait for a connection from the pool.
+		 */
+		private long connectionTimeout = 30000;
+
+		/**
+		 * The amount of milliseconds after which idle connections above {@link HikariConfig#minimumIdle} are closed.
+		 */
+		private long idleTimeout = 600000;
+
+		/**
+		 * The maximum lifetime of a connection in the pool, in milliseconds.
+		 */
+		private long maxLifetime = 1800000;
+
+		/**
+		 * The size of H2's page cache, in KB, or -1 to use H2's default.
+		 */
+		private int cacheSize = -1;
+
+		/**
+		 * The amount of milliseconds after which H2 writes committed changes to disk, or -1 to use H2's default.
+		 */
+		private int writeDelay = -1;
+
+		/**
+		 * The amount of parsed statements H2 keeps per connection, so that repeatedly prepared
+		 * statements don't have to be parsed again.
+		 */
+		private int queryCacheSize = 64;
 	}
 
 	/**
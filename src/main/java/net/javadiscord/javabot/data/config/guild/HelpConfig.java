@@ -116,7 +116,9 @@ public class HelpConfig extends GuildConfigItem {
 	private int removeThanksTimeoutMinutes = 15;
 
 	/**
-	 * The number of seconds to wait between each help channel update check.
+	 * The number of seconds to wait between each help channel update, which balances the
+	 * open channels and refreshes the help overview. Reserved channels are not polled, but
+	 * checked once one of their timeouts has passed.
 	 */
 	private long updateIntervalSeconds = 60;
 
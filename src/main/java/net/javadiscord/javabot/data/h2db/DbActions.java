@@ -14,14 +14,26 @@ import javax.sql.DataSource;
 
 /**
  * Utility that provides some convenience methods for performing database
- * actions.
+ * actions. All statements and result sets are closed once they were used, and
+ * the execution time of every query is recorded in the {@link QueryStatistics}.
  */
 @Service
 @RequiredArgsConstructor
 public class DbActions {
+	/**
+	 * The maximum amount of distinct queries to keep latency histograms for.
+	 */
+	private static final int MAX_TRACKED_QUERIES = 500;
+
 	@Getter
 	private final DataSource dataSource;
 
+	/**
+	 * The execution times of all queries run through this object.
+	 */
+	@Getter
+	private final QueryStatistics queryStatistics = new QueryStatistics(MAX_TRACKED_QUERIES);
+
 	/**
 	 * Maps a query.
 	 *
@@ -33,10 +45,14 @@ public class DbActions {
 	 * @throws SQLException If an error occurs.
 	 */
 	public <T> T mapQuery(@NotNull String query, @NotNull StatementModifier modifier, @NotNull ResultSetMapper<T> mapper) throws SQLException {
+		long start = System.nanoTime();
 		try (Connection c = dataSource.getConnection(); PreparedStatement stmt = c.prepareStatement(query)) {
 			modifier.modify(stmt);
-			ResultSet rs = stmt.executeQuery();
-			return mapper.map(rs);
+			try (ResultSet rs = stmt.executeQuery()) {
+				return mapper.map(rs);
+			}
+		} finally {
+			queryStatistics.record(query, System.nanoTime() - start);
 		}
 	}
 
@@ -47,17 +63,10 @@ public class DbActions {
 	 * @param query    The query.
 	 * @param modifier A modifier to use to set parameters for the query.
 	 * @return The column value.
+	 * @throws SQLException If an error occurs.
 	 */
-	public long count(@NotNull String query, @NotNull StatementModifier modifier) {
-		try (Connection c = dataSource.getConnection(); PreparedStatement stmt = c.prepareStatement(query)) {
-			modifier.modify(stmt);
-			ResultSet rs = stmt.executeQuery();
-			if (!rs.next()) return 0;
-			return rs.getLong(1);
-		} catch (SQLException e) {
-			ExceptionLogger.capture(e, DbActions.class.getSimpleName());
-			return 0;
-		}
+	public long count(@NotNull String query, @NotNull StatementModifier modifier) throws SQLException {
+		return mapQuery(query, modifier, rs -> rs.next() ? rs.getLong(1) : 0);
 	}
 
 	/**
@@ -66,19 +75,10 @@ public class DbActions {
 	 *
 	 * @param query The query.
 	 * @return The column value.
+	 * @throws SQLException If an error occurs.
 	 */
-	public long count(@NotNull String query) {
-		try (
-				Connection conn = dataSource.getConnection();
-				Statement stmt = conn.createStatement()
-		) {
-			ResultSet rs = stmt.executeQuery(query);
-			if (!rs.next()) return 0;
-			return rs.getLong(1);
-		} catch (SQLException e) {
-			ExceptionLogger.capture(e, DbActions.class.getSimpleName());
-			return 0;
-		}
+	public long count(@NotNull String query) throws SQLException {
+		return count(query, stmt -> {});
 	}
 
 	/**
@@ -90,12 +90,15 @@ public class DbActions {
 	 * @throws SQLException If an error occurs.
 	 */
 	public int update(@NotNull String query, Object @NotNull ... params) throws SQLException {
+		long start = System.nanoTime();
 		try (Connection c = dataSource.getConnection(); PreparedStatement stmt = c.prepareStatement(query)) {
 			int i = 1;
 			for (Object param : params) {
 				stmt.setObject(i++, param);
 			}
 			return stmt.executeUpdate();
+		} finally {
+			queryStatistics.record(query, System.nanoTime() - start);
 		}
 	}
 
@@ -130,9 +133,10 @@ public class DbActions {
 	public int getLogicalSize(String table) {
 		try (Connection c = dataSource.getConnection(); PreparedStatement stmt = c.prepareStatement("CALL DISK_SPACE_USED(?)")) {
 			stmt.setString(1, table);
-			ResultSet rs = stmt.executeQuery();
-			if (rs.next()) {
-				return rs.getInt(1);
+			try (ResultSet rs = stmt.executeQuery()) {
+				if (rs.next()) {
+					return rs.getInt(1);
+				}
 			}
 		} catch (SQLException e) {
 			ExceptionLogger.capture(e, DbActions.class.getSimpleName());
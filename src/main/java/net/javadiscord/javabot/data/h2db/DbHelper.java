@@ -20,12 +20,10 @@ import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
@@ -36,9 +34,12 @@ import javax.sql.DataSource;
 @Service
 @RequiredArgsConstructor
 public class DbHelper {
+	private static final Pattern TCP_URL_PATTERN = Pattern.compile("^jdbc:h2:tcp://localhost:(\\d+)/([^;]+)");
+	private static final Pattern FILE_URL_PATTERN = Pattern.compile("^jdbc:h2:file:([^;]+)");
+
 	@Getter
 	private final DataSource dataSource;
-	private final ExecutorService asyncPool;
+	private final ExecutorService dbPool;
 	private final BotConfig botConfig;
 
 	/**
@@ -51,72 +52,111 @@ public class DbHelper {
 	 *                               start the database.
 	 */
 	public static @NotNull HikariDataSource initDataSource(@NotNull BotConfig config) {
+		SystemsConfig.HikariConfig hikariConfigSource = config.getSystems().getHikariConfig();
+		String jdbcUrl = hikariConfigSource.getJdbcUrl();
 		// Determine if we need to initialize the schema, before starting up the server.
-		boolean shouldInitSchema = shouldInitSchema(config.getSystems().getHikariConfig().getJdbcUrl());
+		boolean shouldInitSchema = shouldInitSchema(jdbcUrl);
 
 		// Now that we have remembered whether we need to initialize the schema, start up the server.
-		Server server;
-		try {
-			System.setProperty("h2.bindAddress", "127.0.0.1");
-			server = Server.createTcpServer("-tcpPort", "9122", "-ifNotExists").start();
-		} catch (SQLException e) {
-			ExceptionLogger.capture(e, DbHelper.class.getSimpleName());
-			throw new IllegalStateException("Cannot start database server.", e);
+		// Embedded databases are opened in-process by the pool itself, and don't need a server.
+		Server server = null;
+		Matcher tcpMatcher = TCP_URL_PATTERN.matcher(jdbcUrl);
+		if (tcpMatcher.find()) {
+			try {
+				System.setProperty("h2.bindAddress", "127.0.0.1");
+				server = Server.createTcpServer("-tcpPort", tcpMatcher.group(1), "-ifNotExists").start();
+			} catch (SQLException e) {
+				ExceptionLogger.capture(e, DbHelper.class.getSimpleName());
+				throw new IllegalStateException("Cannot start database server.", e);
+			}
 		}
-		HikariConfig hikariConfig = new HikariConfig();
-		SystemsConfig.HikariConfig hikariConfigSource = config.getSystems().getHikariConfig();
-		hikariConfig.setJdbcUrl(hikariConfigSource.getJdbcUrl());
-		hikariConfig.setMaximumPoolSize(hikariConfigSource.getMaximumPoolSize());
-		hikariConfig.setLeakDetectionThreshold(hikariConfigSource.getLeakDetectionThreshold());
-		HikariDataSource ds = new HikariDataSource(hikariConfig);
+		HikariDataSource ds = new HikariDataSource(createHikariConfig(hikariConfigSource));
 		// Add a shutdown hook to close down the datasource and server when the JVM terminates.
+		Server tcpServer = server;
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
 			ds.close();
-			server.stop();
+			if (tcpServer != null) tcpServer.stop();
 		}));
-		if (shouldInitSchema) {
-			try {
-				initializeSchema(ds);
-			} catch (IOException | SQLException e) {
-				ExceptionLogger.capture(e, DbHelper.class.getSimpleName());
-				throw new IllegalStateException("Cannot initialize database schema.", e);
-			}
+		try {
+			initializeSchema(ds, shouldInitSchema);
+		} catch (IOException | SQLException e) {
+			ExceptionLogger.capture(e, DbHelper.class.getSimpleName());
+			throw new IllegalStateException("Cannot initialize database schema.", e);
 		}
 		return ds;
 	}
 
+	/**
+	 * Creates the configuration of the connection pool, including all H2 settings that are passed to the driver.
+	 *
+	 * @param source The bot's pool configuration.
+	 * @return The {@link HikariConfig}.
+	 */
+	public static @NotNull HikariConfig createHikariConfig(@NotNull SystemsConfig.HikariConfig source) {
+		HikariConfig hikariConfig = new HikariConfig();
+		hikariConfig.setJdbcUrl(source.getJdbcUrl());
+		hikariConfig.setMaximumPoolSize(source.getMaximumPoolSize());
+		if (source.getMinimumIdle() >= 0) {
+			hikariConfig.setMinimumIdle(source.getMinimumIdle());
+		}
+		hikariConfig.setConnectionTimeout(source.getConnectionTimeout());
+		hikariConfig.setIdleTimeout(source.getIdleTimeout());
+		hikariConfig.setMaxLifetime(source.getMaxLifetime());
+		hikariConfig.setLeakDetectionThreshold(source.getLeakDetectionThreshold());
+		// H2 caches prepared statements per session, rather than in the driver
+		hikariConfig.addDataSourceProperty("QUERY_CACHE_SIZE", source.getQueryCacheSize());
+		if (source.getCacheSize() >= 0) {
+			hikariConfig.addDataSourceProperty("CACHE_SIZE", source.getCacheSize());
+		}
+		if (source.getWriteDelay() >= 0) {
+			hikariConfig.addDataSourceProperty("WRITE_DELAY", source.getWriteDelay());
+		}
+		return hikariConfig;
+	}
+
 	private static boolean shouldInitSchema(String jdbcUrl) {
-		Pattern p = Pattern.compile("jdbc:h2:tcp://localhost:\\d+/(.*)");
-		Matcher m = p.matcher(jdbcUrl);
-		boolean shouldInitSchema = false;
-		if (m.find()) {
-			String dbFilePath = m.group(1) + ".mv.db";
-			if (Files.notExists(Path.of(dbFilePath))) {
-				log.info("Database file doesn't exist yet. Initializing schema.");
-				shouldInitSchema = true;
-			}
+		Matcher tcpMatcher = TCP_URL_PATTERN.matcher(jdbcUrl);
+		Matcher fileMatcher = FILE_URL_PATTERN.matcher(jdbcUrl);
+		String dbPath;
+		if (tcpMatcher.find()) {
+			dbPath = tcpMatcher.group(2);
+		} else if (fileMatcher.find()) {
+			dbPath = fileMatcher.group(1);
 		} else {
 			throw new IllegalArgumentException("Invalid JDBC URL. Should point to a file.");
 		}
+		boolean shouldInitSchema = false;
+		if (Files.notExists(Path.of(dbPath + ".mv.db"))) {
+			log.info("Database file doesn't exist yet. Initializing schema.");
+			shouldInitSchema = true;
+		}
 		return shouldInitSchema;
 	}
 
-	private static void initializeSchema(HikariDataSource dataSource) throws IOException, SQLException {
-		try (InputStream is = DbHelper.class.getClassLoader().getResourceAsStream("database/schema.sql")) {
-			if (is == null) throw new IOException("Could not load schema.sql.");
-			List<String> queries = Arrays.stream(new String(is.readAllBytes()).split(";"))
-					.filter(s -> !s.isBlank()).toList();
-			try (Connection c = dataSource.getConnection()) {
-				for (String rawQuery : queries) {
-					String query = rawQuery.lines()
-							.map(s -> s.strip().stripIndent())
-							.collect(Collectors.joining(""));
-					try (Statement stmt = c.createStatement()) {
-						stmt.executeUpdate(query);
+	/**
+	 * Initializes the database schema. If the database is new, the initial schema is created first. Afterwards,
+	 * all pending versioned migrations are applied using the {@link MigrationRunner}.
+	 *
+	 * @param dataSource   The data source to use.
+	 * @param createTables Whether the initial schema should be created.
+	 * @throws IOException  If the schema or a migration cannot be read.
+	 * @throws SQLException If an error occurs.
+	 */
+	public static void initializeSchema(@NotNull DataSource dataSource, boolean createTables) throws IOException, SQLException {
+		if (createTables) {
+			try (InputStream is = DbHelper.class.getClassLoader().getResourceAsStream("database/schema.sql")) {
+				if (is == null) throw new IOException("Could not load schema.sql.");
+				List<String> queries = MigrationUtils.splitStatements(new String(is.readAllBytes()));
+				try (Connection c = dataSource.getConnection()) {
+					for (String query : queries) {
+						try (Statement stmt = c.createStatement()) {
+							stmt.executeUpdate(query);
+						}
 					}
 				}
+				log.info("Successfully initialized H2 database.");
 			}
-			log.info("Successfully initialized H2 database.");
 		}
+		new MigrationRunner(dataSource).migrate();
 	}
 }
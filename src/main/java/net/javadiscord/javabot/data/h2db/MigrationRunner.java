@@ -0,0 +1,228 @@
+package net.javadiscord.javabot.data.h2db;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+/**
+ * Applies all pending versioned migrations to the database.
+ * <p>
+ * Versioned migrations are located in the /database/migrations/ resource directory and are named
+ * {@code V<version>__<description>.sql}. They're applied in the order of their version, and every applied version
+ * is recorded in the {@code schema_version} table, so that each migration is only ever applied once. All other files
+ * in that directory are legacy migrations, which are ignored here.
+ * </p>
+ * <p>
+ * H2 commits schema changes implicitly, so a failing migration cannot simply be rolled back. Instead, the tables
+ * and indexes it created are dropped again. Any other schema changes of a failing migration are kept, which is
+ * why migrations should be re-runnable, for example by using {@code IF NOT EXISTS}.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MigrationRunner {
+	private static final Pattern VERSIONED_MIGRATION = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+	private static final Pattern CREATE_STATEMENT = Pattern.compile("^\\s*CREATE\\s+(?:UNIQUE\\s+)?(TABLE|INDEX)\\s+(IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+
+	private final DataSource dataSource;
+
+	/**
+	 * Gets the version of a versioned migration, based on its file name.
+	 *
+	 * @param fileName The migration's file name.
+	 * @return The migration's version, or an empty {@link Optional} if the file is not a versioned migration.
+	 */
+	public static Optional<Integer> getVersion(@NotNull String fileName) {
+		Matcher matcher = VERSIONED_MIGRATION.matcher(fileName);
+		return matcher.matches() ? Optional.of(Integer.parseInt(matcher.group(1))) : Optional.empty();
+	}
+
+	/**
+	 * Loads all versioned migrations from the /database/migrations/ resource directory.
+	 *
+	 * @return A {@link List} with all versioned {@link Migration}s, sorted by their version.
+	 * @throws IOException If the migrations cannot be read, or if two migrations share the same version.
+	 */
+	public static @NotNull List<Migration> loadMigrations() throws IOException {
+		List<Migration> migrations = new ArrayList<>();
+		Path migrationsDir;
+		try {
+			migrationsDir = MigrationUtils.getMigrationsDirectory();
+		} catch (URISyntaxException e) {
+			throw new IOException("Could not locate the migrations directory.", e);
+		}
+		try (Stream<Path> s = Files.list(migrationsDir)) {
+			for (Path path : s.toList()) {
+				String fileName = path.getFileName().toString();
+				Optional<Integer> version = getVersion(fileName);
+				if (version.isEmpty()) continue;
+				migrations.add(new Migration(version.get(), fileName, MigrationUtils.splitStatements(Files.readString(path))));
+			}
+		}
+		migrations.sort(Comparator.comparingInt(Migration::version));
+		for (int i = 1; i < migrations.size(); i++) {
+			if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+				throw new IOException("Duplicate migration version: " + migrations.get(i).version());
+			}
+		}
+		return migrations;
+	}
+
+	/**
+	 * Applies all versioned migrations which haven't been applied yet.
+	 *
+	 * @return The amount of migrations that were applied.
+	 * @throws IOException  If the migrations cannot be read.
+	 * @throws SQLException If a migration fails. All migrations that were applied before are kept.
+	 */
+	public int migrate() throws IOException, SQLException {
+		createVersionTable();
+		Set<Integer> applied = getAppliedVersions();
+		int count = 0;
+		for (Migration migration : loadMigrations()) {
+			if (applied.contains(migration.version())) continue;
+			apply(migration);
+			count++;
+		}
+		log.info("Database schema is up to date, applied {} new migration(s).", count);
+		return count;
+	}
+
+	/**
+	 * Applies a single migration and records its version, regardless of whether it was applied before.
+	 *
+	 * @param migration The {@link Migration} to apply.
+	 * @throws SQLException If an error occurs. In that case, the version is not recorded, and the tables and
+	 *                      indexes which the migration created are dropped again.
+	 */
+	public void apply(@NotNull Migration migration) throws SQLException {
+		createVersionTable();
+		long start = System.currentTimeMillis();
+		try (Connection con = dataSource.getConnection()) {
+			boolean autoCommit = con.getAutoCommit();
+			con.setAutoCommit(false);
+			Deque<String> compensations = new ArrayDeque<>();
+			try {
+				for (String query : migration.statements()) {
+					Optional<String> compensation = getCompensation(con, query);
+					try (Statement stmt = con.createStatement()) {
+						stmt.executeUpdate(query);
+					}
+					compensation.ifPresent(compensations::push);
+				}
+				try (PreparedStatement stmt = con.prepareStatement("MERGE INTO schema_version (version, name, execution_millis) KEY (version) VALUES (?, ?, ?)")) {
+					stmt.setInt(1, migration.version());
+					stmt.setString(2, migration.name());
+					stmt.setLong(3, System.currentTimeMillis() - start);
+					stmt.executeUpdate();
+				}
+				con.commit();
+			} catch (SQLException e) {
+				con.rollback();
+				compensate(con, compensations, e);
+				throw e;
+			} finally {
+				con.setAutoCommit(autoCommit);
+			}
+		}
+		log.info("Applied migration {} in {} ms.", migration.name(), System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * Gets all migration versions that have been applied to the database.
+	 *
+	 * @return A {@link Set} with all applied versions.
+	 * @throws SQLException If an error occurs.
+	 */
+	public @NotNull Set<Integer> getAppliedVersions() throws SQLException {
+		createVersionTable();
+		Set<Integer> versions = new HashSet<>();
+		try (Connection con = dataSource.getConnection(); Statement stmt = con.createStatement()) {
+			ResultSet rs = stmt.executeQuery("SELECT version FROM schema_version");
+			while (rs.next()) {
+				versions.add(rs.getInt(1));
+			}
+		}
+		return versions;
+	}
+
+	// gets the statement which drops the table or index that the given statement creates, unless it already exists
+	private @NotNull Optional<String> getCompensation(@NotNull Connection con, @NotNull String query) throws SQLException {
+		Matcher matcher = CREATE_STATEMENT.matcher(query);
+		if (!matcher.find()) return Optional.empty();
+		String type = matcher.group(1).toUpperCase(Locale.ROOT);
+		String name = matcher.group(3);
+		if (matcher.group(2) != null && exists(con, type, name)) return Optional.empty();
+		return Optional.of("DROP " + type + " IF EXISTS " + name);
+	}
+
+	private boolean exists(@NotNull Connection con, @NotNull String type, @NotNull String name) throws SQLException {
+		String query = type.equals("TABLE")
+				? "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = ?"
+				: "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_SCHEMA = SCHEMA() AND INDEX_NAME = ?";
+		try (PreparedStatement stmt = con.prepareStatement(query)) {
+			stmt.setString(1, name.toUpperCase(Locale.ROOT));
+			ResultSet rs = stmt.executeQuery();
+			return rs.next() && rs.getInt(1) > 0;
+		}
+	}
+
+	// drops the tables and indexes of a failed migration, in reverse order of their creation
+	private void compensate(@NotNull Connection con, @NotNull Deque<String> compensations, @NotNull SQLException cause) {
+		while (!compensations.isEmpty()) {
+			String compensation = compensations.pop();
+			try (Statement stmt = con.createStatement()) {
+				stmt.executeUpdate(compensation);
+			} catch (SQLException e) {
+				log.error("Could not undo a change of a failed migration: {}", compensation, e);
+				cause.addSuppressed(e);
+			}
+		}
+	}
+
+	private void createVersionTable() throws SQLException {
+		try (Connection con = dataSource.getConnection(); Statement stmt = con.createStatement()) {
+			stmt.executeUpdate("""
+					CREATE TABLE IF NOT EXISTS schema_version (
+						version          INTEGER PRIMARY KEY,
+						name             VARCHAR(255) NOT NULL,
+						applied_at       TIMESTAMP(0) NOT NULL DEFAULT CURRENT_TIMESTAMP(0),
+						execution_millis BIGINT       NOT NULL
+					)""");
+		}
+	}
+
+	/**
+	 * A single versioned migration.
+	 *
+	 * @param version    The migration's version.
+	 * @param name       The migration's file name.
+	 * @param statements All SQL statements of the migration.
+	 */
+	public record Migration(int version, String name, List<String> statements) {
+	}
+}
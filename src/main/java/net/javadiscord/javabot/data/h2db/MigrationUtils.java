@@ -1,14 +1,18 @@
 package net.javadiscord.javabot.data.h2db;
 
 import net.javadiscord.javabot.data.h2db.commands.MigrationsListSubcommand;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.*;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Utility class that handles SQL Migrations.
@@ -33,8 +37,30 @@ public class MigrationUtils {
 			return Path.of(uri);
 		} catch (FileSystemNotFoundException e) {
 			Map<String, String> env = new HashMap<>();
-			FileSystem dir = FileSystems.newFileSystem(uri, env);
+			FileSystem dir;
+			try {
+				dir = FileSystems.newFileSystem(uri, env);
+			} catch (FileSystemAlreadyExistsException alreadyExists) {
+				dir = FileSystems.getFileSystem(uri);
+			}
 			return dir.getPath("/database/migrations/");
 		}
 	}
+
+	/**
+	 * Splits an SQL script into its single statements. Lines starting with {@code //} or {@code --} are
+	 * treated as comments and removed.
+	 *
+	 * @param sql The SQL script.
+	 * @return An unmodifiable {@link List} with all non-blank statements, in order.
+	 */
+	public static @NotNull List<String> splitStatements(@NotNull String sql) {
+		String withoutComments = sql.lines()
+				.filter(line -> !line.strip().startsWith("//") && !line.strip().startsWith("--"))
+				.collect(Collectors.joining("\n"));
+		return Arrays.stream(withoutComments.split(";"))
+				.map(String::strip)
+				.filter(statement -> !statement.isEmpty())
+				.toList();
+	}
 }
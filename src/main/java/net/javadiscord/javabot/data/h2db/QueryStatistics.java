@@ -0,0 +1,159 @@
+package net.javadiscord.javabot.data.h2db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects a latency histogram per SQL query.
+ * <p>
+ * Each histogram uses logarithmic buckets: bucket 0 counts all executions that took less than a microsecond,
+ * and bucket {@code i} counts all executions that took between 2<sup>i-1</sup> and 2<sup>i</sup> microseconds.
+ * Recording is lock-free, so this can be used on every query without noticeable overhead.
+ * </p>
+ */
+public class QueryStatistics {
+	/**
+	 * The amount of buckets of each histogram. The last bucket covers everything above ~18 minutes.
+	 */
+	public static final int BUCKET_COUNT = 32;
+
+	/**
+	 * The key under which all queries are recorded once {@link QueryStatistics#maxQueries} distinct queries were seen.
+	 */
+	public static final String OTHER_QUERIES = "<other>";
+
+	private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+	private final int maxQueries;
+
+	/**
+	 * Creates a new, empty instance.
+	 *
+	 * @param maxQueries The maximum amount of distinct queries to keep a histogram for.
+	 */
+	public QueryStatistics(int maxQueries) {
+		this.maxQueries = maxQueries;
+	}
+
+	/**
+	 * Gets the histogram bucket of a single duration.
+	 *
+	 * @param nanos The duration, in nanoseconds.
+	 * @return The bucket's index.
+	 */
+	public static int getBucket(long nanos) {
+		long micros = nanos / 1000;
+		if (micros <= 0) return 0;
+		return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+	}
+
+	/**
+	 * Gets the (exclusive) upper bound of a single bucket.
+	 *
+	 * @param bucket The bucket's index.
+	 * @return The bucket's upper bound, in nanoseconds.
+	 */
+	public static long getBucketUpperBound(int bucket) {
+		return (1L << bucket) * 1000;
+	}
+
+	/**
+	 * Records a single execution of a query.
+	 *
+	 * @param sql   The query.
+	 * @param nanos The execution time, in nanoseconds.
+	 */
+	public void record(@NotNull String sql, long nanos) {
+		Histogram histogram = histograms.get(sql);
+		if (histogram == null) {
+			String key = histograms.size() < maxQueries ? sql : OTHER_QUERIES;
+			histogram = histograms.computeIfAbsent(key, k -> new Histogram());
+		}
+		histogram.record(nanos);
+	}
+
+	/**
+	 * Takes a snapshot of all histograms.
+	 *
+	 * @return A {@link List} with a {@link Snapshot} per query, sorted by the total execution time, descending.
+	 */
+	public @NotNull List<Snapshot> getSnapshots() {
+		return histograms.entrySet().stream()
+				.map(entry -> entry.getValue().snapshot(entry.getKey()))
+				.sorted(Comparator.comparingLong(Snapshot::totalNanos).reversed())
+				.toList();
+	}
+
+	/**
+	 * Removes all recorded executions.
+	 */
+	public void reset() {
+		histograms.clear();
+	}
+
+	/**
+	 * An immutable snapshot of a single query's histogram.
+	 *
+	 * @param sql        The query.
+	 * @param count      The amount of executions.
+	 * @param totalNanos The total execution time, in nanoseconds.
+	 * @param maxNanos   The longest execution time, in nanoseconds.
+	 * @param buckets    The amount of executions per bucket.
+	 */
+	public record Snapshot(String sql, long count, long totalNanos, long maxNanos, long[] buckets) {
+		/**
+		 * Gets the mean execution time.
+		 *
+		 * @return The mean execution time, in nanoseconds.
+		 */
+		public long meanNanos() {
+			return count == 0 ? 0 : totalNanos / count;
+		}
+
+		/**
+		 * Estimates a percentile of the execution time, using the upper bound of the bucket it falls into.
+		 *
+		 * @param percentile The percentile, between 0 and 1.
+		 * @return The estimated execution time, in nanoseconds, which never exceeds the longest execution time.
+		 */
+		public long percentileNanos(double percentile) {
+			long target = (long) Math.ceil(count * percentile);
+			long seen = 0;
+			for (int i = 0; i < buckets.length; i++) {
+				seen += buckets[i];
+				if (seen >= target && seen > 0) {
+					return Math.min(getBucketUpperBound(i), maxNanos);
+				}
+			}
+			return maxNanos;
+		}
+	}
+
+	private static class Histogram {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+		private void record(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+			buckets.incrementAndGet(getBucket(nanos));
+		}
+
+		private @NotNull Snapshot snapshot(String sql) {
+			long[] counts = new long[BUCKET_COUNT];
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				counts[i] = buckets.get(i);
+			}
+			return new Snapshot(sql, count.sum(), totalNanos.sum(), maxNanos.get(), counts);
+		}
+	}
+}
@@ -26,14 +26,16 @@ public class DbAdminCommand extends SlashCommand {
 	 * @param migrateSubcommand /db-admin migrate
 	 * @param quickMigrateSubcommand /db-admin quick-migrate
 	 * @param messageCacheInfoSubcommand /db-admin message-cache info
+	 * @param queryStatsSubcommand /db-admin query-stats
+	 * @param executorStatsSubcommand /db-admin executor-stats
 	 */
-	public DbAdminCommand(BotConfig botConfig, ExportSchemaSubcommand exportSchemaSubcommand, ExportTableSubcommand exportTableSubcommand, MigrationsListSubcommand migrationsListSubcommand, MigrateSubcommand migrateSubcommand, QuickMigrateSubcommand quickMigrateSubcommand, MessageCacheInfoSubcommand messageCacheInfoSubcommand) {
+	public DbAdminCommand(BotConfig botConfig, ExportSchemaSubcommand exportSchemaSubcommand, ExportTableSubcommand exportTableSubcommand, MigrationsListSubcommand migrationsListSubcommand, MigrateSubcommand migrateSubcommand, QuickMigrateSubcommand quickMigrateSubcommand, MessageCacheInfoSubcommand messageCacheInfoSubcommand, QueryStatsSubcommand queryStatsSubcommand, ExecutorStatsSubcommand executorStatsSubcommand) {
 		setRegistrationType(RegistrationType.GUILD);
 		setSlashCommandData(Commands.slash("db-admin", "(ADMIN ONLY) Administrative Commands for managing the bot's database.")
 				.setDefaultPermissions(DefaultMemberPermissions.enabledFor(Permission.MANAGE_SERVER))
 				.setGuildOnly(true)
 		);
-		addSubcommands(exportSchemaSubcommand, exportTableSubcommand, migrationsListSubcommand, migrateSubcommand, quickMigrateSubcommand);
+		addSubcommands(exportSchemaSubcommand, exportTableSubcommand, migrationsListSubcommand, migrateSubcommand, quickMigrateSubcommand, queryStatsSubcommand, executorStatsSubcommand);
 		addSubcommandGroups(Map.of(
 				new SubcommandGroupData("message-cache", "Administrative tools for managing the Message Cache."), Set.of(messageCacheInfoSubcommand)
 		));
@@ -0,0 +1,57 @@
+package net.javadiscord.javabot.data.h2db.commands;
+
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.util.MonitoredScheduledExecutor;
+import net.javadiscord.javabot.util.Responses;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <h3>This class represents the /db-admin executor-stats command.</h3>
+ * Displays the queue depth and task latencies of the bot's thread pools.
+ */
+public class ExecutorStatsSubcommand extends SlashCommand.Subcommand {
+	private final List<MonitoredScheduledExecutor> executors;
+
+	/**
+	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
+	 *
+	 * @param executors     All of the bot's thread pools
+	 * @param systemsConfig Configuration for various systems
+	 */
+	public ExecutorStatsSubcommand(List<MonitoredScheduledExecutor> executors, SystemsConfig systemsConfig) {
+		this.executors = executors.stream().sorted(Comparator.comparing(MonitoredScheduledExecutor::getName)).toList();
+		setSubcommandData(new SubcommandData("executor-stats", "(ADMIN ONLY) Displays the queue depth and task latencies of the bot's thread pools."));
+		requireUsers(systemsConfig.getAdminConfig().getAdminUsers());
+		requirePermissions(Permission.MANAGE_SERVER);
+	}
+
+	@Override
+	public void execute(@NotNull SlashCommandInteractionEvent event) {
+		event.replyEmbeds(buildStatsEmbed(executors.stream().map(MonitoredScheduledExecutor::snapshot).toList())).queue();
+	}
+
+	private @NotNull MessageEmbed buildStatsEmbed(@NotNull List<MonitoredScheduledExecutor.Snapshot> snapshots) {
+		EmbedBuilder embed = new EmbedBuilder()
+				.setTitle("Executor Statistics")
+				.setColor(Responses.Type.DEFAULT.getColor());
+		for (MonitoredScheduledExecutor.Snapshot snapshot : snapshots) {
+			embed.addField(snapshot.immediate() ? snapshot.name() + " (virtual threads)" : snapshot.name(), String.format("`%d`/`%d` threads active, `%d` tasks due, `%d` scheduled, `%d` completed\nwait mean `%.2f` ms, max `%.2f` ms\nrun mean `%.2f` ms, max `%.2f` ms",
+					snapshot.activeThreads(), snapshot.poolSize(), snapshot.queueDepth(), snapshot.scheduledTasks(), snapshot.completedTasks(),
+					toMillis(snapshot.meanWaitNanos()), toMillis(snapshot.maxWaitNanos()), toMillis(snapshot.meanRunNanos()), toMillis(snapshot.maxRunNanos())), false);
+		}
+		return embed.build();
+	}
+
+	private double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
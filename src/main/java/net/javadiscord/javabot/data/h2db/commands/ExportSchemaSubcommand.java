@@ -28,17 +28,17 @@ import javax.sql.DataSource;
 public class ExportSchemaSubcommand extends SlashCommand.Subcommand {
 	private static final Path SCHEMA_FILE = Path.of("___schema.sql");
 
-	private final ExecutorService asyncPool;
+	private final ExecutorService dbPool;
 	private final DataSource dataSource;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
-	 * @param asyncPool The main thread pool for asynchronous operations
+	 * @param dbPool The thread pool for blocking database work
 	 * @param botConfig The main configuration of the bot
 	 * @param dataSource A factory for connections to the main database
 	 */
-	public ExportSchemaSubcommand(ExecutorService asyncPool, BotConfig botConfig, DataSource dataSource) {
-		this.asyncPool = asyncPool;
+	public ExportSchemaSubcommand(ExecutorService dbPool, BotConfig botConfig, DataSource dataSource) {
+		this.dbPool = dbPool;
 		this.dataSource = dataSource;
 		setSubcommandData(new SubcommandData("export-schema", "(ADMIN ONLY) Exports the bot's schema.")
 				.addOption(OptionType.BOOLEAN, "include-data", "Should data be included in the export?"));
@@ -50,7 +50,7 @@ public class ExportSchemaSubcommand extends SlashCommand.Subcommand {
 	public void execute(SlashCommandInteractionEvent event) {
 		boolean includeData = event.getOption("include-data", false, OptionMapping::getAsBoolean);
 		event.deferReply(false).queue();
-		asyncPool.submit(() -> {
+		dbPool.submit(() -> {
 			try (Connection con = dataSource.getConnection()) {
 				PreparedStatement stmt = con.prepareStatement(String.format("SCRIPT %s TO '%s';", includeData ? "" : "NODATA", SCHEMA_FILE));
 				boolean success = stmt.execute();
@@ -30,18 +30,18 @@ import javax.sql.DataSource;
 public class ExportTableSubcommand extends SlashCommand.Subcommand {
 	private static final Path TABLE_FILE = Path.of("___table.sql");
 
-	private final ExecutorService asyncPool;
+	private final ExecutorService dbPool;
 
 	private final DataSource dataSource;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
-	 * @param asyncPool The thread pool for asynchronous operations
+	 * @param dbPool The thread pool for blocking database work
 	 * @param systemsConfig Configuration for various systems
 	 * @param dataSource A factory for connections to the main database
 	 */
-	public ExportTableSubcommand(ExecutorService asyncPool, SystemsConfig systemsConfig, DataSource dataSource) {
-		this.asyncPool = asyncPool;
+	public ExportTableSubcommand(ExecutorService dbPool, SystemsConfig systemsConfig, DataSource dataSource) {
+		this.dbPool = dbPool;
 		this.dataSource = dataSource;
 		setSubcommandData(new SubcommandData("export-table", "(ADMIN ONLY) Export a single database table")
 				.addOptions(new OptionData(OptionType.STRING, "table", "What table should be exported", true)
@@ -71,7 +71,7 @@ public class ExportTableSubcommand extends SlashCommand.Subcommand {
 			return;
 		}
 		event.deferReply(false).queue();
-		asyncPool.submit(() -> {
+		dbPool.submit(() -> {
 			try (Connection con = dataSource.getConnection()) {
 				PreparedStatement stmt = con.prepareStatement(String.format("SCRIPT %s TO '%s' TABLE %s;", includeData ? "COLUMNS" : "NODATA", TABLE_FILE, tableOption.getAsString()));
 				boolean success = stmt.execute();
@@ -11,8 +11,11 @@ import net.javadiscord.javabot.data.config.BotConfig;
 import net.javadiscord.javabot.data.config.GuildConfig;
 import net.javadiscord.javabot.data.h2db.DbActions;
 import net.javadiscord.javabot.data.h2db.message_cache.MessageCache;
+import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.Responses;
 
+import java.sql.SQLException;
+
 /**
  * Allows staff members to get more detailed information about the message cache.
  */
@@ -38,10 +41,15 @@ public class MessageCacheInfoSubcommand extends SlashCommand.Subcommand {
 
 	@Override
 	public void execute(SlashCommandInteractionEvent event) {
-		event.replyEmbeds(buildInfoEmbed(botConfig.get(event.getGuild()), event.getUser())).queue();
+		try {
+			event.replyEmbeds(buildInfoEmbed(botConfig.get(event.getGuild()), event.getUser())).queue();
+		} catch (SQLException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			Responses.error(event, e.getMessage()).queue();
+		}
 	}
 
-	private MessageEmbed buildInfoEmbed(GuildConfig config, User author) {
+	private MessageEmbed buildInfoEmbed(GuildConfig config, User author) throws SQLException {
 		long messages = dbActions.count("SELECT count(*) FROM message_cache");
 		int maxMessages = config.getMessageCacheConfig().getMaxCachedMessages();
 		return new EmbedBuilder()
@@ -49,8 +57,8 @@ public class MessageCacheInfoSubcommand extends SlashCommand.Subcommand {
 				.setTitle("Message Cache Info")
 				.setColor(Responses.Type.DEFAULT.getColor())
 				.addField("Table Size", dbActions.getLogicalSize("message_cache") + " bytes", false)
-				.addField("Message Count", String.valueOf(messageCache.messageCount), true)
-				.addField("Cached (Memory)", String.format("%s/%s (%.2f%%)", messageCache.cache.size(), maxMessages, ((float) messageCache.cache.size() / maxMessages) * 100), true)
+				.addField("Pending Changes", String.valueOf(messageCache.getPendingChanges()), true)
+				.addField("Cached (Memory)", String.format("%s/%s (%.2f%%)", messageCache.size(), maxMessages, ((float) messageCache.size() / maxMessages) * 100), true)
 				.addField("Cached (Database)", String.format("%s/%s (%.2f%%)", messages, maxMessages, ((float) messages / maxMessages) * 100), true)
 				.build();
 	}
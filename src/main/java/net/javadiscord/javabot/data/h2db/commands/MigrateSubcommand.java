@@ -11,6 +11,7 @@ import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.data.h2db.MigrationRunner;
 import net.javadiscord.javabot.data.h2db.MigrationUtils;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.Responses;
@@ -26,6 +27,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
@@ -41,20 +43,24 @@ import javax.sql.DataSource;
  * found the file, it will split it up into a list of statements by the ';'
  * character, and then proceed to execute each statement.
  * </p>
+ * <p>
+ * Versioned migrations (see {@link MigrationRunner}) are applied by the {@link MigrationRunner} instead, and their
+ * version is recorded, so that they're neither applied twice nor again on the next startup.
+ * </p>
  */
 public class MigrateSubcommand extends SlashCommand.Subcommand implements AutoCompletable {
 
-	private final ExecutorService asyncPool;
+	private final ExecutorService dbPool;
 	private final DataSource dataSource;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
-	 * @param asyncPool The thread pool for asynchronous operations
+	 * @param dbPool The thread pool for blocking database work
 	 * @param dataSource A factory for connections to the main database
 	 * @param systemsConfig Configuration for various systems
 	 */
-	public MigrateSubcommand(ExecutorService asyncPool, DataSource dataSource, SystemsConfig systemsConfig) {
-		this.asyncPool = asyncPool;
+	public MigrateSubcommand(ExecutorService dbPool, DataSource dataSource, SystemsConfig systemsConfig) {
+		this.dbPool = dbPool;
 		this.dataSource = dataSource;
 		setSubcommandData(new SubcommandData("migrate", "(ADMIN ONLY) Run a single database migration")
 				.addOption(OptionType.STRING, "name", "The migration's filename", true, true));
@@ -94,13 +100,18 @@ public class MigrateSubcommand extends SlashCommand.Subcommand implements AutoCo
 			}
 			String sql = Files.readString(migrationFile);
 			migrationsDir.getFileSystem().close();
+			Optional<Integer> version = MigrationRunner.getVersion(migrationName);
+			if (version.isPresent()) {
+				applyVersionedMigration(event, new MigrationRunner.Migration(version.get(), migrationName, MigrationUtils.splitStatements(sql)));
+				return;
+			}
 			String[] statements = sql.split("\\s*;\\s*");
 			if (statements.length == 0) {
 				Responses.error(event, "The migration `" + migrationName + "` does not contain any statements. Please remove or edit it before running again.").queue();
 				return;
 			}
 			event.deferReply().queue();
-			asyncPool.submit(() -> {
+			dbPool.submit(() -> {
 				try (Connection con = dataSource.getConnection()) {
 					for (int i = 0; i < statements.length; i++) {
 						if (statements[i].isBlank()) {
@@ -131,6 +142,25 @@ public class MigrateSubcommand extends SlashCommand.Subcommand implements AutoCo
 		}
 	}
 
+	private void applyVersionedMigration(@NotNull SlashCommandInteractionEvent event, @NotNull MigrationRunner.Migration migration) {
+		event.deferReply().queue();
+		dbPool.submit(() -> {
+			MigrationRunner runner = new MigrationRunner(dataSource);
+			try {
+				if (runner.getAppliedVersions().contains(migration.version())) {
+					Responses.warning(event.getHook(), "The migration `" + migration.name() + "` has already been applied.").queue();
+					return;
+				}
+				runner.apply(migration);
+				Responses.info(event.getHook(), "Migration Applied",
+						"The migration `" + migration.name() + "` has been applied. " + migration.statements().size() + " statements were executed.").queue();
+			} catch (SQLException e) {
+				ExceptionLogger.capture(e, getClass().getSimpleName());
+				Responses.error(event.getHook(), "Could not apply the migration `" + migration.name() + "`. Its tables and indexes were dropped again, but other schema changes may have been kept: " + e.getMessage()).queue();
+			}
+		});
+	}
+
 	@Override
 	public void handleAutoComplete(@NotNull CommandAutoCompleteInteractionEvent event, @NotNull AutoCompleteQuery target) {
 		event.replyChoices(AutoCompleteUtils.handleChoices(event, MigrateSubcommand::replyMigrations)).queue();
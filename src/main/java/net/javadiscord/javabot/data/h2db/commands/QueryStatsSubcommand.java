@@ -0,0 +1,72 @@
+package net.javadiscord.javabot.data.h2db.commands;
+
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.data.h2db.DbActions;
+import net.javadiscord.javabot.data.h2db.QueryStatistics;
+import net.javadiscord.javabot.util.Responses;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * <h3>This class represents the /db-admin query-stats command.</h3>
+ * Displays the latency histograms of the queries that took the most time in total.
+ */
+public class QueryStatsSubcommand extends SlashCommand.Subcommand {
+	private static final int MAX_QUERIES = 10;
+	private static final int MAX_SQL_LENGTH = 400;
+
+	private final DbActions dbActions;
+
+	/**
+	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
+	 *
+	 * @param dbActions     A service object responsible for various operations on the main database
+	 * @param systemsConfig Configuration for various systems
+	 */
+	public QueryStatsSubcommand(DbActions dbActions, SystemsConfig systemsConfig) {
+		this.dbActions = dbActions;
+		setSubcommandData(new SubcommandData("query-stats", "(ADMIN ONLY) Displays the execution times of the most expensive queries.")
+				.addOption(OptionType.BOOLEAN, "reset", "Whether all recorded execution times should be reset afterwards.", false));
+		requireUsers(systemsConfig.getAdminConfig().getAdminUsers());
+		requirePermissions(Permission.MANAGE_SERVER);
+	}
+
+	@Override
+	public void execute(@NotNull SlashCommandInteractionEvent event) {
+		QueryStatistics statistics = dbActions.getQueryStatistics();
+		event.replyEmbeds(buildStatsEmbed(statistics.getSnapshots())).queue();
+		if (event.getOption("reset", false, OptionMapping::getAsBoolean)) {
+			statistics.reset();
+		}
+	}
+
+	private @NotNull MessageEmbed buildStatsEmbed(@NotNull List<QueryStatistics.Snapshot> snapshots) {
+		EmbedBuilder embed = new EmbedBuilder()
+				.setTitle("Query Statistics")
+				.setColor(Responses.Type.DEFAULT.getColor());
+		if (snapshots.isEmpty()) {
+			return embed.setDescription("No queries have been recorded yet.").build();
+		}
+		for (int i = 0; i < Math.min(snapshots.size(), MAX_QUERIES); i++) {
+			QueryStatistics.Snapshot snapshot = snapshots.get(i);
+			String sql = snapshot.sql().length() > MAX_SQL_LENGTH ? snapshot.sql().substring(0, MAX_SQL_LENGTH) + "..." : snapshot.sql();
+			embed.addField("#" + (i + 1), String.format("```sql\n%s\n```\n`%d` executions, `%.2f` ms total\nmean `%.2f` ms, p50 `%.2f` ms, p99 `%.2f` ms, max `%.2f` ms",
+					sql, snapshot.count(), toMillis(snapshot.totalNanos()), toMillis(snapshot.meanNanos()),
+					toMillis(snapshot.percentileNanos(0.5)), toMillis(snapshot.percentileNanos(0.99)), toMillis(snapshot.maxNanos())), false);
+		}
+		return embed.build();
+	}
+
+	private double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
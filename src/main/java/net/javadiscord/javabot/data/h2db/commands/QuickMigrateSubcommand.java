@@ -34,17 +34,17 @@ import javax.sql.DataSource;
 @AutoDetectableComponentHandler("quick-migrate")
 public class QuickMigrateSubcommand extends SlashCommand.Subcommand implements ModalHandler {
 
-	private final ExecutorService asyncPool;
+	private final ExecutorService dbPool;
 	private final DataSource dataSource;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
-	 * @param asyncPool The thread pool for asynchronous operations
+	 * @param dbPool The thread pool for blocking database work
 	 * @param dataSource A factory for connections to the main database
 	 * @param systemsConfig Configuration for various systems
 	 */
-	public QuickMigrateSubcommand(DataSource dataSource, ExecutorService asyncPool, SystemsConfig systemsConfig) {
-		this.asyncPool = asyncPool;
+	public QuickMigrateSubcommand(DataSource dataSource, ExecutorService dbPool, SystemsConfig systemsConfig) {
+		this.dbPool = dbPool;
 		this.dataSource = dataSource;
 		setSubcommandData(new SubcommandData("quick-migrate", "(ADMIN ONLY) Run a single quick database migration"));
 		requireUsers(systemsConfig.getAdminConfig().getAdminUsers());
@@ -75,7 +75,7 @@ public class QuickMigrateSubcommand extends SlashCommand.Subcommand implements M
 			Responses.error(event.getHook(), "The provided migration does not contain any statements. Please remove or edit it before running again.").queue();
 			return;
 		}
-		asyncPool.submit(() -> {
+		dbPool.submit(() -> {
 			TextChannel channel = event.getChannel().asTextChannel();
 			try (Connection con = dataSource.getConnection()) {
 				for (int i = 0; i < statements.length; i++) {
@@ -22,9 +22,10 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
@@ -36,50 +37,64 @@ import org.springframework.stereotype.Service;
 @Service
 public class MessageCache {
 	/**
-	 * A memory-cache (list) of sent Messages, wrapped to a {@link CachedMessage} object.
+	 * A memory-cache (ring buffer) of sent Messages, wrapped to a {@link CachedMessage} object.
 	 */
-	public List<CachedMessage> cache = new ArrayList<>();
+	private final MessageRingBuffer cache;
 	/**
-	 * Amount of messages since the last synchronization.
+	 * All changes since the last synchronization.
 	 * <p>
 	 * If a certain threshold is reached, messages will be synchronized to reduce the chances of loosing
 	 * messages during an unexpected shutdown.
 	 */
-	public int messageCount = 0;
+	private final MessageCacheJournal journal = new MessageCacheJournal();
+	private final AtomicBoolean synchronizationScheduled = new AtomicBoolean(false);
 
-	private final ExecutorService asyncPool;
+	private final ExecutorService dbPool;
 	private final BotConfig botConfig;
 	private final MessageCacheRepository cacheRepository;
 
 	/**
-	 * Creates a new messages & loads messages from the DB into a List.
+	 * Creates a new messages & loads messages from the DB into a ring buffer.
 	 * @param botConfig The main configuration of the bot
 	 * @param cacheRepository Dao class that represents the QOTW_POINTS SQL Table.
-	 * @param asyncPool The main thread pool for asynchronous operations
+	 * @param dbPool The thread pool for blocking database work
 	 */
-	public MessageCache(BotConfig botConfig, MessageCacheRepository cacheRepository, ExecutorService asyncPool) {
-		this.asyncPool = asyncPool;
+	public MessageCache(BotConfig botConfig, MessageCacheRepository cacheRepository, ExecutorService dbPool) {
+		this.dbPool = dbPool;
 		this.botConfig = botConfig;
 		this.cacheRepository = cacheRepository;
+		List<CachedMessage> stored = List.of();
 		try {
-			cache = cacheRepository.getAll();
+			stored = cacheRepository.getAll();
 		} catch (DataAccessException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			log.error("Something went wrong during retrieval of stored messages.");
 		}
-
+		cache = new MessageRingBuffer(Math.max(stored.size(), getTotalCapacity()));
+		stored.forEach(cache::put);
 	}
 
 	/**
-	 * Synchronizes Messages saved in the Database with what is currently stored in memory.
+	 * Writes all changes since the last synchronization to the Database.
+	 * This blocks until all pending changes are written.
 	 */
-	public void synchronize() {
-		asyncPool.execute(()->{
-			cacheRepository.delete(cache.size());
-			cacheRepository.insertList(cache);
-			messageCount = 0;
-			log.info("Synchronized Database with local Cache.");
-		});
+	public synchronized void synchronize() {
+		synchronizationScheduled.set(false);
+		MessageCacheJournal.Changes changes = journal.drain();
+		if (changes.isEmpty()) return;
+		int batchSize = botConfig.getSystems().getJdbcBatchSize();
+		try {
+			if (!changes.deletions().isEmpty()) {
+				cacheRepository.deleteList(changes.deletions(), batchSize);
+			}
+			if (!changes.upserts().isEmpty()) {
+				cacheRepository.insertList(changes.upserts(), batchSize);
+			}
+			log.info("Synchronized Database with local Cache ({} upserted, {} deleted).", changes.upserts().size(), changes.deletions().size());
+		} catch (DataAccessException e) {
+			journal.restore(changes);
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+		}
 	}
 
 	/**
@@ -89,14 +104,78 @@ public class MessageCache {
 	 */
 	public void cache(Message message) {
 		MessageCacheConfig config = botConfig.get(message.getGuild()).getMessageCacheConfig();
-		if (cache.size() + 1 > config.getMaxCachedMessages()) {
-			cache.remove(0);
+		int capacity = getTotalCapacity();
+		if (cache.capacity() != capacity) {
+			cache.resize(capacity).forEach(m -> journal.recordDeletion(m.getMessageId()));
+		}
+		CachedMessage cachedMessage = CachedMessage.of(message);
+		CachedMessage evicted = cache.put(cachedMessage);
+		if (evicted != null) {
+			journal.recordDeletion(evicted.getMessageId());
+		}
+		journal.recordUpsert(cachedMessage);
+		if (journal.size() >= config.getMessageSynchronizationInterval() && synchronizationScheduled.compareAndSet(false, true)) {
+			dbPool.execute(this::synchronize);
+		}
+	}
+
+	/**
+	 * Gets a single cached message.
+	 *
+	 * @param messageId The message's id.
+	 * @return The {@link CachedMessage}, if it is cached.
+	 */
+	public Optional<CachedMessage> getCachedMessage(long messageId) {
+		return Optional.ofNullable(cache.get(messageId));
+	}
+
+	/**
+	 * Updates an already cached message. If it isn't cached yet, it will be cached instead.
+	 *
+	 * @param message The updated {@link Message}.
+	 * @return The {@link CachedMessage} before the update, if it was cached.
+	 */
+	public Optional<CachedMessage> update(Message message) {
+		CachedMessage cachedMessage = CachedMessage.of(message);
+		CachedMessage before = cache.replace(cachedMessage);
+		if (before == null) {
+			cache(message);
+		} else {
+			journal.recordUpsert(cachedMessage);
 		}
-		if (messageCount >= config.getMessageSynchronizationInterval()) {
-			synchronize();
+		return Optional.ofNullable(before);
+	}
+
+	/**
+	 * Removes a single message from the cache.
+	 *
+	 * @param messageId The message's id.
+	 * @return The removed {@link CachedMessage}, if it was cached.
+	 */
+	public Optional<CachedMessage> remove(long messageId) {
+		CachedMessage removed = cache.remove(messageId);
+		if (removed != null) {
+			journal.recordDeletion(messageId);
 		}
-		messageCount++;
-		cache.add(CachedMessage.of(message));
+		return Optional.ofNullable(removed);
+	}
+
+	/**
+	 * Gets the amount of messages which are currently held in memory.
+	 *
+	 * @return The amount of cached messages.
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Gets the amount of changes since the last synchronization.
+	 *
+	 * @return The amount of messages that still need to be written to the Database.
+	 */
+	public int getPendingChanges() {
+		return journal.size();
 	}
 
 	/**
@@ -204,4 +283,12 @@ public class MessageCache {
 				""", author.getAsTag(), before.getMessageId(), formatter.format(instant), before.getMessageContent(), after.getContentRaw());
 		return new ByteArrayInputStream(in.getBytes(StandardCharsets.UTF_8));
 	}
+
+	// the buffer is shared by all guilds, so it holds the sum of their configured limits
+	private int getTotalCapacity() {
+		int total = botConfig.getGuildConfigs().stream()
+				.mapToInt(config -> config.getMessageCacheConfig().getMaxCachedMessages())
+				.sum();
+		return total > 0 ? total : new MessageCacheConfig().getMaxCachedMessages();
+	}
 }
@@ -0,0 +1,95 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A write-behind journal which records all changes made to the in-memory message cache
+ * since the last synchronization, so that only those changes need to be written to the database.
+ * <p>
+ * Multiple changes to the same message are coalesced: only the latest state of a message is kept.
+ * All methods are thread-safe.
+ */
+public class MessageCacheJournal {
+	private Map<Long, CachedMessage> upserts = new LinkedHashMap<>();
+	private Set<Long> deletions = new HashSet<>();
+
+	/**
+	 * Records that a message was inserted or edited.
+	 *
+	 * @param message The message's latest state.
+	 */
+	public synchronized void recordUpsert(@NotNull CachedMessage message) {
+		deletions.remove(message.getMessageId());
+		upserts.put(message.getMessageId(), message);
+	}
+
+	/**
+	 * Records that a message was deleted or evicted from the cache.
+	 *
+	 * @param messageId The message's id.
+	 */
+	public synchronized void recordDeletion(long messageId) {
+		upserts.remove(messageId);
+		deletions.add(messageId);
+	}
+
+	/**
+	 * Gets the amount of pending changes.
+	 *
+	 * @return The amount of messages which still need to be written to (or deleted from) the database.
+	 */
+	public synchronized int size() {
+		return upserts.size() + deletions.size();
+	}
+
+	/**
+	 * Takes all pending changes out of the journal, leaving it empty.
+	 *
+	 * @return The pending changes.
+	 */
+	public synchronized @NotNull Changes drain() {
+		Changes changes = new Changes(new ArrayList<>(upserts.values()), new ArrayList<>(deletions));
+		upserts = new LinkedHashMap<>();
+		deletions = new HashSet<>();
+		return changes;
+	}
+
+	/**
+	 * Puts changes which could not be written back into the journal. Changes that were recorded
+	 * in the meantime take precedence over the restored ones.
+	 *
+	 * @param changes The changes which were previously obtained using {@link MessageCacheJournal#drain()}.
+	 */
+	public synchronized void restore(@NotNull Changes changes) {
+		for (CachedMessage message : changes.upserts()) {
+			if (!deletions.contains(message.getMessageId())) {
+				upserts.putIfAbsent(message.getMessageId(), message);
+			}
+		}
+		for (Long id : changes.deletions()) {
+			if (!upserts.containsKey(id)) {
+				deletions.add(id);
+			}
+		}
+	}
+
+	/**
+	 * A set of changes which were taken out of the journal.
+	 *
+	 * @param upserts   All messages which were inserted or edited.
+	 * @param deletions The ids of all messages which were deleted or evicted.
+	 */
+	public record Changes(List<CachedMessage> upserts, List<Long> deletions) {
+		public boolean isEmpty() {
+			return upserts.isEmpty() && deletions.isEmpty();
+		}
+	}
+}
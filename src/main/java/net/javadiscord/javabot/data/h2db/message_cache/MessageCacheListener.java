@@ -12,9 +12,6 @@ import org.jetbrains.annotations.NotNull;
 
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-import java.util.Optional;
-
 /**
  * Listener class that listens for incoming, updated or deleted messages.
  */
@@ -32,28 +29,19 @@ public class MessageCacheListener extends ListenerAdapter {
 	@Override
 	public void onMessageUpdate(@NotNull MessageUpdateEvent event) {
 		if (this.ignoreMessageCache(event.getMessage())) return;
-		List<CachedMessage> cache = messageCache.cache;
-		Optional<CachedMessage> optional = cache.stream().filter(m -> m.getMessageId() == event.getMessageIdLong()).findFirst();
-		CachedMessage before;
-		if (optional.isPresent()) {
-			before = optional.get();
-			cache.set(cache.indexOf(before), CachedMessage.of(event.getMessage()));
-		} else {
-			before = new CachedMessage();
-			before.setMessageId(event.getMessageIdLong());
-			before.setMessageContent("[unknown content]");
-			messageCache.cache(event.getMessage());
-		}
+		CachedMessage before = messageCache.update(event.getMessage()).orElseGet(() -> {
+			CachedMessage unknown = new CachedMessage();
+			unknown.setMessageId(event.getMessageIdLong());
+			unknown.setMessageContent("[unknown content]");
+			return unknown;
+		});
 		messageCache.sendUpdatedMessageToLog(event.getMessage(), before);
 	}
 
 	@Override
 	public void onMessageDelete(@NotNull MessageDeleteEvent event) {
-		Optional<CachedMessage> optional = messageCache.cache.stream().filter(m -> m.getMessageId() == event.getMessageIdLong()).findFirst();
-		optional.ifPresent(message -> {
-			messageCache.sendDeletedMessageToLog(event.getGuild(), event.getChannel(), message);
-			messageCache.cache.remove(message);
-		});
+		messageCache.remove(event.getMessageIdLong()).ifPresent(message ->
+				messageCache.sendDeletedMessageToLog(event.getGuild(), event.getChannel(), message));
 	}
 
 
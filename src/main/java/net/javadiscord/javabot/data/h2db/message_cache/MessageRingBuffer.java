@@ -0,0 +1,153 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A fixed-capacity ring buffer of {@link CachedMessage}s, indexed by their message id.
+ * <p>
+ * Inserting a message into a full buffer overwrites (and thus evicts) the oldest slot, which makes
+ * insertion, lookup, replacement and removal constant-time operations. All methods are thread-safe.
+ */
+public class MessageRingBuffer {
+	private Map<Long, Integer> index;
+	private CachedMessage[] slots;
+	private int next = 0;
+
+	/**
+	 * Creates a new, empty ring buffer.
+	 *
+	 * @param capacity The maximum amount of messages this buffer can hold.
+	 */
+	public MessageRingBuffer(int capacity) {
+		if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive.");
+		this.slots = new CachedMessage[capacity];
+		this.index = createIndex(capacity);
+	}
+
+	/**
+	 * Inserts a message into the next slot of this buffer. If a message with the same id is
+	 * already present, it is replaced in-place instead.
+	 *
+	 * @param message The message to insert.
+	 * @return The message that got evicted to make room for the new one, or null if no message was evicted.
+	 */
+	public synchronized @Nullable CachedMessage put(@NotNull CachedMessage message) {
+		Integer existing = index.get(message.getMessageId());
+		if (existing != null) {
+			slots[existing] = message;
+			return null;
+		}
+		CachedMessage evicted = slots[next];
+		if (evicted != null) {
+			index.remove(evicted.getMessageId());
+		}
+		slots[next] = message;
+		index.put(message.getMessageId(), next);
+		next = (next + 1) % slots.length;
+		return evicted;
+	}
+
+	/**
+	 * Gets a single message by its id.
+	 *
+	 * @param messageId The message's id.
+	 * @return The {@link CachedMessage}, or null if it isn't cached.
+	 */
+	public synchronized @Nullable CachedMessage get(long messageId) {
+		Integer slot = index.get(messageId);
+		return slot == null ? null : slots[slot];
+	}
+
+	/**
+	 * Replaces an already cached message, keeping its position in the buffer.
+	 *
+	 * @param message The new version of the message.
+	 * @return The previous version of the message, or null if it wasn't cached (in which case nothing is changed).
+	 */
+	public synchronized @Nullable CachedMessage replace(@NotNull CachedMessage message) {
+		Integer slot = index.get(message.getMessageId());
+		if (slot == null) return null;
+		CachedMessage before = slots[slot];
+		slots[slot] = message;
+		return before;
+	}
+
+	/**
+	 * Removes a single message from the buffer.
+	 *
+	 * @param messageId The message's id.
+	 * @return The removed message, or null if it wasn't cached.
+	 */
+	public synchronized @Nullable CachedMessage remove(long messageId) {
+		Integer slot = index.remove(messageId);
+		if (slot == null) return null;
+		CachedMessage removed = slots[slot];
+		slots[slot] = null;
+		return removed;
+	}
+
+	/**
+	 * Changes the capacity of this buffer. If the buffer shrinks, the oldest messages are evicted.
+	 * This copies the whole buffer and should thus only happen rarely, e.g. after a config change.
+	 *
+	 * @param capacity The new capacity.
+	 * @return A {@link List} with all messages that got evicted.
+	 */
+	public synchronized @NotNull List<CachedMessage> resize(int capacity) {
+		if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive.");
+		if (capacity == slots.length) return List.of();
+		List<CachedMessage> messages = snapshot();
+		List<CachedMessage> evicted = new ArrayList<>(messages.subList(0, Math.max(0, messages.size() - capacity)));
+		slots = new CachedMessage[capacity];
+		index = createIndex(capacity);
+		next = 0;
+		for (CachedMessage message : messages.subList(evicted.size(), messages.size())) {
+			put(message);
+		}
+		return evicted;
+	}
+
+	/**
+	 * Returns a copy of all cached messages, ordered from oldest to newest.
+	 *
+	 * @return A {@link List} of {@link CachedMessage}s.
+	 */
+	public synchronized @NotNull List<CachedMessage> snapshot() {
+		List<CachedMessage> messages = new ArrayList<>(index.size());
+		for (int i = 0; i < slots.length; i++) {
+			CachedMessage message = slots[(next + i) % slots.length];
+			if (message != null) messages.add(message);
+		}
+		return messages;
+	}
+
+	/**
+	 * Gets the amount of messages that are currently cached.
+	 *
+	 * @return The amount of cached messages.
+	 */
+	public synchronized int size() {
+		return index.size();
+	}
+
+	/**
+	 * Gets the maximum amount of messages this buffer can hold.
+	 *
+	 * @return The buffer's capacity.
+	 */
+	public synchronized int capacity() {
+		return slots.length;
+	}
+
+	// sizes the index so that it never has to be rehashed while the buffer fills up
+	private static @NotNull Map<Long, Integer> createIndex(int capacity) {
+		return new HashMap<>((int) (capacity / 0.75f) + 1);
+	}
+}
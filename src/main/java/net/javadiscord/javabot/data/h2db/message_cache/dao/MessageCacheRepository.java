@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -35,27 +34,19 @@ public class MessageCacheRepository {
 	}
 
 	/**
-	 * Inserts a {@link List} of {@link CachedMessage} objects.
+	 * Inserts or updates a {@link List} of {@link CachedMessage} objects. The statements are sent to the
+	 * database in JDBC batches, each containing at most {@code batchSize} rows.
 	 *
-	 * @param messages The List to insert.
-	 * @throws SQLException If an error occurs.
+	 * @param messages  The List to insert.
+	 * @param batchSize The maximum amount of rows per batch.
+	 * @throws DataAccessException If an error occurs.
 	 */
-	public void insertList(@NotNull List<CachedMessage> messages) throws DataAccessException {
+	public void insertList(@NotNull List<CachedMessage> messages, int batchSize) throws DataAccessException {
 		jdbcTemplate.batchUpdate("MERGE INTO message_cache (message_id, author_id, message_content) VALUES (?, ?, ?)",
-				new BatchPreparedStatementSetter() {
-					@Override
-					public void setValues(PreparedStatement stmt, int i) throws SQLException {
-						CachedMessage msg = messages.get(i);
-						stmt.setLong(1, msg.getMessageId());
-						stmt.setLong(2, msg.getAuthorId());
-						stmt.setString(3, msg.getMessageContent());
-						stmt.executeUpdate();
-					}
-
-					@Override
-					public int getBatchSize() {
-						return messages.size();
-					}
+				messages, batchSize, (stmt, msg) -> {
+					stmt.setLong(1, msg.getMessageId());
+					stmt.setLong(2, msg.getAuthorId());
+					stmt.setString(3, msg.getMessageContent());
 				});
 	}
 
@@ -84,6 +75,18 @@ public class MessageCacheRepository {
 		return rows > 0;
 	}
 
+	/**
+	 * Deletes a {@link List} of {@link CachedMessage} objects by their id.
+	 *
+	 * @param messageIds The ids of all messages to delete.
+	 * @param batchSize  The maximum amount of rows per batch.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	public void deleteList(@NotNull List<Long> messageIds, int batchSize) throws DataAccessException {
+		jdbcTemplate.batchUpdate("DELETE FROM message_cache WHERE message_id = ?", messageIds, batchSize,
+				(stmt, id) -> stmt.setLong(1, id));
+	}
+
 	/**
 	 * Gets all Messages from the Database.
 	 *
@@ -91,7 +94,7 @@ public class MessageCacheRepository {
 	 * @throws SQLException If anything goes wrong.
 	 */
 	public List<CachedMessage> getAll() throws DataAccessException {
-		return jdbcTemplate.query("SELECT * FROM message_cache",(RowMapper<CachedMessage>) (rs, rowNum) -> this.read(rs));
+		return jdbcTemplate.query("SELECT * FROM message_cache ORDER BY message_id",(RowMapper<CachedMessage>) (rs, rowNum) -> this.read(rs));
 	}
 
 	/**
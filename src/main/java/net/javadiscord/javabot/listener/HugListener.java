@@ -10,8 +10,9 @@ import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.javadiscord.javabot.data.config.BotConfig;
 import net.javadiscord.javabot.systems.moderation.AutoMod;
+import net.javadiscord.javabot.systems.moderation.MessageScanner;
+import net.javadiscord.javabot.systems.moderation.MessageVerdict;
 import net.javadiscord.javabot.util.WebhookUtil;
-import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 
@@ -22,6 +23,7 @@ import javax.annotation.Nonnull;
 @RequiredArgsConstructor
 public class HugListener extends ListenerAdapter {
 	private final AutoMod autoMod;
+	private final MessageScanner messageScanner;
 	private final BotConfig botConfig;
 
 	@Override
@@ -57,21 +59,20 @@ public class HugListener extends ListenerAdapter {
 		}
 		final TextChannel textChannel = tc;
 		String content = event.getMessage().getContentRaw();
-		String lowerCaseContent = content.toLowerCase();
+		MessageVerdict verdict = messageScanner.scan(event.getMessage());
 		// cannot be higher; words like "fun" will be mistaken
-		if (damerauLevenshteinVsFuck(lowerCaseContent) <= 1) {
+		if (verdict.profanity()) {
 			long threadId = event.isFromThread() ? event.getChannel().getIdLong() : 0;
 			StringBuilder sb = new StringBuilder(content.length());
-			int index = 0;
-			int indexBkp = index;
-			while ((index = lowerCaseContent.indexOf("fuck", index)) != -1) {
+			int indexBkp = 0;
+			for (int index : verdict.profanityIndices()) {
+				if (index < indexBkp) continue;
 				sb.append(content, indexBkp, index);
 				sb.append(loadHug(content, index));
-				indexBkp = index++ + 4;
-				if (content.length() >= indexBkp + 3 && "ing".equals(lowerCaseContent.substring(indexBkp, indexBkp + 3))) {
+				indexBkp = index + 4;
+				if (content.length() >= indexBkp + 3 && content.regionMatches(true, indexBkp, "ing", 0, 3)) {
 					sb.append(copyCase(content, indexBkp-1, 'g'));
 					sb.append(content, indexBkp, indexBkp + 3);
-					index+=3;
 					indexBkp+=3;
 				}
 			}
@@ -105,33 +106,4 @@ public class HugListener extends ListenerAdapter {
 				});
 	}
 
-	/**
-	 * Calculates the true Damerau-Levenshtein string distance (with adjacent transpositions) of a {@link String}
-	 * against the string {@code "fuck"}.
-	 * @param string The string to compare against.
-	 * @return the distance of the given string.
-	 */
-	private int damerauLevenshteinVsFuck(@NotNull String string) {
-		int sourceLength = string.length();
-		int targetLength = "fuck".length();
-		if (sourceLength == 0) return targetLength;
-		int[][] dist = new int[sourceLength + 1][targetLength + 1];
-		for (int i = 0; i < sourceLength + 1; i++) {
-			dist[i][0] = i;
-		}
-		for (int j = 0; j < targetLength + 1; j++) {
-			dist[0][j] = j;
-		}
-		for (int i = 1; i < sourceLength + 1; i++) {
-			for (int j = 1; j < targetLength + 1; j++) {
-				int cost = string.charAt(i - 1) == "fuck".charAt(j - 1) ? 0 : 1;
-				dist[i][j] = Math.min(Math.min(dist[i - 1][j] + 1, dist[i][j - 1] + 1), dist[i - 1][j - 1] + cost);
-				if (i > 1 && j > 1 && string.charAt(i - 1) == "fuck".charAt(j - 2) && string.charAt(i - 2) == "fuck".charAt(j - 1)) {
-					dist[i][j] = Math.min(dist[i][j], dist[i - 2][j - 2] + cost);
-				}
-			}
-		}
-		return dist[sourceLength][targetLength];
-	}
-
 }
@@ -1,26 +1,44 @@
 package net.javadiscord.javabot.listener;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.events.message.MessageDeleteEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
 import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveAllEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveEmojiEvent;
 import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.javadiscord.javabot.data.config.BotConfig;
-import net.javadiscord.javabot.util.StringUtils;
+import net.javadiscord.javabot.util.ExceptionLogger;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Generic listener that can be extended to add the ability for users to vote
  * on whether a message should stay in the channel.
+ * <p>
+ * The votes on each message are tallied in memory and updated from the reaction events. They are only retrieved
+ * from Discord if a message's tally is not cached, for example after a restart. That happens asynchronously, and
+ * votes which are cast in the meantime are applied once the retrieved votes have been loaded.
+ * </p>
  */
 @RequiredArgsConstructor
 public abstract class MessageVoteListener extends ListenerAdapter {
@@ -29,6 +47,10 @@ public abstract class MessageVoteListener extends ListenerAdapter {
 	 */
 	protected final BotConfig botConfig;
 	private final ExecutorService asyncPool;
+	private final Cache<Long, VoteTally> tallies = Caffeine.newBuilder()
+			.expireAfterAccess(Duration.ofDays(1))
+			.maximumSize(10_000)
+			.build();
 
 	/**
 	 * Gets the text channel in which this vote listener operates.
@@ -108,12 +130,31 @@ public abstract class MessageVoteListener extends ListenerAdapter {
 
 	@Override
 	public void onMessageReactionAdd(@NotNull MessageReactionAddEvent event) {
-		asyncPool.submit(() -> handleReactionEvent(event));
+		if (isReactionEventValid(event)) {
+			asyncPool.submit(() -> handleReactionEvent(event, true));
+		}
 	}
 
 	@Override
 	public void onMessageReactionRemove(@NotNull MessageReactionRemoveEvent event) {
-		asyncPool.submit(() -> handleReactionEvent(event));
+		if (isReactionEventValid(event)) {
+			asyncPool.submit(() -> handleReactionEvent(event, false));
+		}
+	}
+
+	@Override
+	public void onMessageReactionRemoveAll(@NotNull MessageReactionRemoveAllEvent event) {
+		tallies.invalidate(event.getMessageIdLong());
+	}
+
+	@Override
+	public void onMessageReactionRemoveEmoji(@NotNull MessageReactionRemoveEmojiEvent event) {
+		tallies.invalidate(event.getMessageIdLong());
+	}
+
+	@Override
+	public void onMessageDelete(@NotNull MessageDeleteEvent event) {
+		tallies.invalidate(event.getMessageIdLong());
 	}
 
 	/**
@@ -133,58 +174,158 @@ public abstract class MessageVoteListener extends ListenerAdapter {
 	}
 
 	/**
-	 * Checks if a reaction event is valid for this vote listener. Note that
-	 * this method may use blocking calls to check if the user who sent the
-	 * reaction is valid.
+	 * Checks if a reaction event is valid for this vote listener, meaning that
+	 * it is a voting reaction in this listener's channel, which was not added by the bot itself.
 	 *
 	 * @param event The event to check.
 	 * @return True if the event is valid, meaning that this listener should
 	 * proceed to check the votes on the message.
 	 */
 	private boolean isReactionEventValid(@NotNull GenericMessageReactionEvent event) {
-		if (!event.getChannel().getId().equals(getChannel(event.getGuild()).getId())) return false;
+		if (!event.isFromGuild()) return false;
+		TextChannel channel = getChannel(event.getGuild());
+		if (channel == null || event.getChannel().getIdLong() != channel.getIdLong()) return false;
+		if (event.getUserIdLong() == event.getJDA().getSelfUser().getIdLong()) return false;
 		Emoji reaction = event.getEmoji();
-		if (
-				!reaction.equals(getUpvoteEmote(event.getJDA())) &&
-						!reaction.equals(getDownvoteEmote(event.getJDA()))
-		) {
-			return false;
-		}
+		return reaction.equals(getUpvoteEmote(event.getJDA())) || reaction.equals(getDownvoteEmote(event.getJDA()));
+	}
 
-		User user = event.retrieveUser().complete();
+	/**
+	 * Checks whether the user who added a reaction may vote. Note that this
+	 * method may use a blocking call if the user is not cached.
+	 *
+	 * @param event The reaction event.
+	 * @return True if the user is neither a bot nor a system user.
+	 */
+	private boolean isVoter(@NotNull MessageReactionAddEvent event) {
+		User user = event.getUser();
+		if (user == null) {
+			user = event.retrieveUser().complete();
+		}
 		return !user.isBot() && !user.isSystem();
 	}
 
 	/**
 	 * Handles voting reaction events, including both the addition and removal
-	 * of votes. Note that this is a blocking method.
+	 * of votes, by updating the message's tally. If the tally is not cached,
+	 * it is retrieved in the background, and the vote is applied once that is done.
 	 *
 	 * @param event The reaction event to handle.
+	 * @param added Whether the reaction was added or removed.
 	 */
-	private void handleReactionEvent(GenericMessageReactionEvent event) {
-		if (isReactionEventValid(event)) {
-			Message message = event.retrieveMessage().complete();
+	private void handleReactionEvent(GenericMessageReactionEvent event, boolean added) {
+		if (added && !isVoter((MessageReactionAddEvent) event)) return;
+		boolean upvote = event.getEmoji().equals(getUpvoteEmote(event.getJDA()));
+		long messageId = event.getMessageIdLong();
+		VoteTally tally = tallies.get(messageId, id -> new VoteTally());
+		if (tally.startLoading()) {
+			loadTally(event, tally).whenComplete((result, error) -> {
+				if (error != null) {
+					// the next vote retrieves the tally again, which then contains all votes cast so far
+					tallies.asMap().remove(messageId, tally);
+					ExceptionLogger.capture(error, getClass().getSimpleName());
+				} else {
+					checkVotes(event, tally);
+				}
+			});
+		}
+		// a tally which is still loading applies the vote after it has been loaded
+		if (tally.update(upvote, event.getUserIdLong(), added)) {
+			checkVotes(event, tally);
+		}
+	}
+
+	private void checkVotes(@NotNull GenericMessageReactionEvent event, @NotNull VoteTally tally) {
+		if (tally.getDownvoteDifference() < getMessageDeleteVoteThreshold(event.getGuild())) return;
+		event.retrieveMessage().queue(message -> {
 			if (isMessageEligibleForVoting(message)) {
-				checkVotes(message, event.getGuild());
+				tallies.invalidate(event.getMessageIdLong());
+				deleteMessage(message, event.getGuild());
 			}
-		}
+		});
+	}
+
+	private @NotNull CompletableFuture<Void> loadTally(@NotNull GenericMessageReactionEvent event, @NotNull VoteTally tally) {
+		Emoji upvote = getUpvoteEmote(event.getJDA());
+		Emoji downvote = getDownvoteEmote(event.getJDA());
+		return event.retrieveMessage().submit().thenCompose(message -> {
+			Set<Long> upvoters = ConcurrentHashMap.newKeySet();
+			Set<Long> downvoters = ConcurrentHashMap.newKeySet();
+			return CompletableFuture.allOf(retrieveVoters(message, upvote, upvoters), retrieveVoters(message, downvote, downvoters))
+					.thenRun(() -> tally.load(upvoters, downvoters));
+		});
+	}
+
+	private @NotNull CompletableFuture<?> retrieveVoters(@NotNull Message message, Emoji emoji, Set<Long> voters) {
+		MessageReaction reaction = message.getReaction(emoji);
+		if (reaction == null) return CompletableFuture.completedFuture(null);
+		return reaction.retrieveUsers().forEachAsync(user -> {
+			if (!user.isBot() && !user.isSystem()) {
+				voters.add(user.getIdLong());
+			}
+			return true;
+		});
+	}
+
+	private void deleteMessage(@NotNull Message msg, @NotNull Guild guild) {
+		msg.delete().queue();
+		msg.getAuthor().openPrivateChannel()
+				.queue(
+						s -> s.sendMessageFormat("Your message in %s has been removed due to community feedback.", getChannel(guild).getAsMention()).queue(),
+						e -> {}
+				);
 	}
 
-	private void checkVotes(Message msg, @NotNull Guild guild) {
-		Emoji upvoteId = getUpvoteEmote(guild.getJDA());
-		Emoji downvoteId = getDownvoteEmote(guild.getJDA());
+	/**
+	 * The ids of all users who have voted on a single message. Until the votes which were cast before the tally
+	 * was created have been loaded, all updates are deferred, and applied in order once the tally is loaded.
+	 */
+	private static final class VoteTally {
+		private final Set<Long> upvoters = new HashSet<>();
+		private final Set<Long> downvoters = new HashSet<>();
+		private boolean loading = false;
+		@Nullable
+		private List<Vote> pendingVotes = new ArrayList<>();
 
-		int upvotes = StringUtils.countReactions(msg, upvoteId);
-		int downvotes = StringUtils.countReactions(msg, downvoteId);
-		int downvoteDifference = downvotes - upvotes;
+		synchronized boolean startLoading() {
+			if (loading || pendingVotes == null) return false;
+			loading = true;
+			return true;
+		}
+
+		synchronized void load(Set<Long> loadedUpvoters, Set<Long> loadedDownvoters) {
+			upvoters.addAll(loadedUpvoters);
+			downvoters.addAll(loadedDownvoters);
+			if (pendingVotes != null) {
+				pendingVotes.forEach(this::apply);
+			}
+			pendingVotes = null;
+		}
+
+		synchronized boolean update(boolean upvote, long userId, boolean added) {
+			Vote vote = new Vote(upvote, userId, added);
+			if (pendingVotes != null) {
+				pendingVotes.add(vote);
+				return false;
+			}
+			apply(vote);
+			return true;
+		}
+
+		synchronized int getDownvoteDifference() {
+			return downvoters.size() - upvoters.size();
+		}
+
+		private void apply(@NotNull Vote vote) {
+			Set<Long> voters = vote.upvote() ? upvoters : downvoters;
+			if (vote.added()) {
+				voters.add(vote.userId());
+			} else {
+				voters.remove(vote.userId());
+			}
+		}
 
-		if (downvoteDifference >= getMessageDeleteVoteThreshold(guild)) {
-			msg.delete().queue();
-			msg.getAuthor().openPrivateChannel()
-					.queue(
-							s -> s.sendMessageFormat("Your message in %s has been removed due to community feedback.", getChannel(guild).getAsMention()).queue(),
-							e -> {}
-					);
+		private record Vote(boolean upvote, long userId, boolean added) {
 		}
 	}
 }
@@ -15,6 +15,7 @@ import net.javadiscord.javabot.data.config.BotConfig;
 import net.javadiscord.javabot.data.config.guild.HelpConfig;
 import net.javadiscord.javabot.data.h2db.DbActions;
 import net.javadiscord.javabot.systems.help.ChannelSemanticCheck;
+import net.javadiscord.javabot.systems.help.HelpChannelInactivityScheduler;
 import net.javadiscord.javabot.systems.help.HelpChannelUpdater;
 import net.javadiscord.javabot.systems.help.HelpExperienceService;
 import net.javadiscord.javabot.systems.notification.NotificationService;
@@ -42,8 +43,10 @@ public class StateListener extends ListenerAdapter {
 	private final List<ChannelSemanticCheck> channelSemanticChecks;
 	private final BotConfig botConfig;
 	private final ScheduledExecutorService asyncPool;
+	private final ScheduledExecutorService schedulerPool;
 	private final DbActions dbActions;
 	private final HelpExperienceService helpExperienceService;
+	private final HelpChannelInactivityScheduler helpChannelInactivityScheduler;
 
 	@Override
 	public void onReady(@NotNull ReadyEvent event) {
@@ -53,10 +56,13 @@ public class StateListener extends ListenerAdapter {
 		log.info("Logged in as " + event.getJDA().getSelfUser().getAsTag());
 		log.info("Guilds: " + event.getJDA().getGuilds().stream().map(Guild::getName).collect(Collectors.joining(", ")));
 		for (Guild guild : event.getJDA().getGuilds()) {
-			// Schedule the help channel updater to run periodically for each guild.
+			// Schedule the help channel updater to run periodically for each guild, reserved channels are checked
+			// by the inactivity scheduler once they become inactive.
 			HelpConfig helpConfig = botConfig.get(guild).getHelpConfig();
-			asyncPool.scheduleAtFixedRate(
-					new HelpChannelUpdater(guild, botConfig, dbActions, asyncPool, channelSemanticChecks, helpExperienceService),
+			HelpChannelUpdater updater = new HelpChannelUpdater(guild, botConfig, dbActions, asyncPool, channelSemanticChecks, helpExperienceService, helpChannelInactivityScheduler);
+			updater.start();
+			schedulerPool.scheduleAtFixedRate(
+					updater,
 					5,
 					helpConfig.getUpdateIntervalSeconds(),
 					TimeUnit.SECONDS
@@ -79,7 +85,7 @@ public class StateListener extends ListenerAdapter {
 
 	@Override
 	public void onShutdown(@NotNull ShutdownEvent event) {
-		botConfig.flush();
+		botConfig.flushNow();
 	}
 
 	private @NotNull MessageEmbed buildBootedUpEmbed() {
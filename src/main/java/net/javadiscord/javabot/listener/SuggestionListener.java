@@ -11,6 +11,8 @@ import net.dv8tion.jda.api.requests.RestAction;
 import net.javadiscord.javabot.data.config.BotConfig;
 import net.javadiscord.javabot.data.config.SystemsConfig;
 import net.javadiscord.javabot.systems.moderation.AutoMod;
+import net.javadiscord.javabot.systems.moderation.MessageScanner;
+import net.javadiscord.javabot.systems.moderation.MessageVerdict;
 import net.javadiscord.javabot.util.MessageActionUtils;
 import net.javadiscord.javabot.util.Responses;
 import org.jetbrains.annotations.NotNull;
@@ -25,12 +27,14 @@ import java.time.Instant;
 @RequiredArgsConstructor
 public class SuggestionListener extends ListenerAdapter {
 	private final AutoMod autoMod;
+	private final MessageScanner messageScanner;
 	private final BotConfig botConfig;
 
 	@Override
 	public void onMessageReceived(@NotNull MessageReceivedEvent event) {
 		if (!canCreateSuggestion(event)) return;
-		if (autoMod.hasSuspiciousLink(event.getMessage()) || autoMod.hasAdvertisingLink(event.getMessage())) {
+		MessageVerdict verdict = messageScanner.scan(event.getMessage());
+		if (verdict.suspiciousLink() || autoMod.hasAdvertisingLink(event.getGuild(), verdict)) {
 			event.getMessage().delete().queue();
 			return;
 		}
@@ -0,0 +1,130 @@
+package net.javadiscord.javabot.systems.help;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.javadiscord.javabot.util.TimerWheel;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Schedules the inactivity checks of all reserved help channels.
+ * <p>
+ * Instead of polling the message history of every reserved channel, the help listeners report each message
+ * sent in a reserved channel. The {@link HelpChannelUpdater} of the channel's guild then decides when the
+ * next inactivity threshold is crossed, and that deadline is kept in a {@link TimerWheel}. A channel is only
+ * checked once its deadline passed.
+ */
+@Slf4j
+@Service
+public class HelpChannelInactivityScheduler {
+	/**
+	 * The precision of all scheduled checks.
+	 */
+	private static final long TICK_MILLIS = 5_000;
+
+	/**
+	 * One rotation of the wheel covers roughly 85 minutes, longer timeouts take multiple rotations.
+	 */
+	private static final int BUCKET_COUNT = 1024;
+
+	private final TimerWheel<Long> wheel = new TimerWheel<>(TICK_MILLIS, BUCKET_COUNT, System.currentTimeMillis());
+	/**
+	 * The guild of each scheduled channel. It's only changed together with the wheel, while holding this scheduler's
+	 * monitor, so that a channel which is rescheduled while its previous deadline expires keeps its guild.
+	 */
+	private final Map<Long, Long> guildsByChannel = new HashMap<>();
+	private final Map<Long, HelpChannelUpdater> updaters = new ConcurrentHashMap<>();
+	private final ExecutorService asyncPool;
+
+	/**
+	 * The constructor of this class.
+	 *
+	 * @param asyncPool The thread pool for asynchronous operations
+	 */
+	public HelpChannelInactivityScheduler(ExecutorService asyncPool) {
+		this.asyncPool = asyncPool;
+	}
+
+	/**
+	 * Registers the {@link HelpChannelUpdater} of a guild, which decides about the deadlines of and checks the
+	 * reserved help channels in that guild.
+	 *
+	 * @param guild   The {@link Guild}.
+	 * @param updater The guild's {@link HelpChannelUpdater}.
+	 */
+	public void register(@NotNull Guild guild, @NotNull HelpChannelUpdater updater) {
+		updaters.put(guild.getIdLong(), updater);
+	}
+
+	/**
+	 * Records a message that was sent in a reserved help channel and reschedules the channel's inactivity check.
+	 *
+	 * @param message The {@link Message} that was sent.
+	 */
+	public void recordActivity(@NotNull Message message) {
+		if (!message.isFromGuild()) return;
+		HelpChannelUpdater updater = updaters.get(message.getGuild().getIdLong());
+		if (updater == null) return;
+		schedule(message.getChannel().asTextChannel(), updater.getNextDeadline(message));
+	}
+
+	/**
+	 * Schedules the inactivity check of a single help channel, replacing any previously scheduled check.
+	 *
+	 * @param channel  The reserved help channel.
+	 * @param deadline The time at which the channel should be checked.
+	 */
+	public synchronized void schedule(@NotNull TextChannel channel, @NotNull Instant deadline) {
+		guildsByChannel.put(channel.getIdLong(), channel.getGuild().getIdLong());
+		wheel.schedule(channel.getIdLong(), deadline.toEpochMilli());
+	}
+
+	/**
+	 * Cancels the inactivity check of a single help channel, which is used once the channel is no longer reserved
+	 * or has been deleted.
+	 *
+	 * @param channelId The channel's id.
+	 */
+	public synchronized void cancel(long channelId) {
+		wheel.cancel(channelId);
+		guildsByChannel.remove(channelId);
+	}
+
+	/**
+	 * Gets the amount of help channels which currently have an inactivity check scheduled.
+	 *
+	 * @return The amount of channels.
+	 */
+	public int size() {
+		return wheel.size();
+	}
+
+	/**
+	 * Advances the {@link TimerWheel} and checks all channels whose deadline passed.
+	 */
+	@Scheduled(fixedRate = TICK_MILLIS)
+	public void tick() {
+		Map<Long, Long> expired = new HashMap<>();
+		synchronized (this) {
+			for (long channelId : wheel.advance(System.currentTimeMillis())) {
+				Long guildId = guildsByChannel.remove(channelId);
+				if (guildId != null) expired.put(channelId, guildId);
+			}
+		}
+		expired.forEach((channelId, guildId) -> {
+			HelpChannelUpdater updater = updaters.get(guildId);
+			if (updater == null) return;
+			// failed checks are rescheduled by the updater itself
+			asyncPool.execute(() -> updater.checkInactiveChannel(channelId));
+		});
+	}
+}
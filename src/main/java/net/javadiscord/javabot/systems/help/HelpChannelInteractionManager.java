@@ -100,13 +100,20 @@ public class HelpChannelInteractionManager implements ButtonHandler {
 
 	private void thankHelper(@NotNull ButtonInteractionEvent event, TextChannel channel, User owner, long helperId, ChannelReservation reservation, HelpChannelManager channelManager) {
 		Button btn = event.getButton();
-		long thankCount = dbActions.count(
-				"SELECT COUNT(id) FROM help_channel_thanks WHERE reservation_id = ? AND helper_id = ?",
-				s -> {
-					s.setLong(1, reservation.getId());
-					s.setLong(2, helperId);
-				}
-		);
+		long thankCount;
+		try {
+			thankCount = dbActions.count(
+					"SELECT COUNT(id) FROM help_channel_thanks WHERE reservation_id = ? AND helper_id = ?",
+					s -> {
+						s.setLong(1, reservation.getId());
+						s.setLong(2, helperId);
+					}
+			);
+		} catch (SQLException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			event.getInteraction().getHook().sendMessage("Could not check whether you already thanked this user.").setEphemeral(true).queue();
+			return;
+		}
 		if (thankCount > 0) {
 			event.getInteraction().getHook().sendMessage("You can't thank someone twice!").setEphemeral(true).queue();
 			if (btn != null) {
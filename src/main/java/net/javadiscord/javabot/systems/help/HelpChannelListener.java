@@ -6,6 +6,8 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.entities.channel.concrete.Category;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.events.channel.ChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.update.ChannelUpdateParentEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.javadiscord.javabot.data.config.BotConfig;
@@ -36,14 +38,22 @@ public class HelpChannelListener extends ListenerAdapter {
 	private final ScheduledExecutorService asyncPool;
 	private final DbActions dbActions;
 	private final HelpExperienceService helpExperienceService;
+	private final HelpChannelInactivityScheduler inactivityScheduler;
 
 	@Override
 	public void onMessageReceived(@Nonnull MessageReceivedEvent event) {
-		if (event.getAuthor().isBot() || event.getAuthor().isSystem() || event.getChannelType() != ChannelType.TEXT) {
+		if (event.getAuthor().isSystem() || event.getChannelType() != ChannelType.TEXT) {
 			return;
 		}
 		HelpConfig config = botConfig.get(event.getGuild()).getHelpConfig();
 		TextChannel channel = event.getChannel().asTextChannel();
+		// Every message in a reserved channel (including the bot's own ones) postpones its next inactivity check.
+		if (config.getReservedChannelCategory() != null && config.getReservedChannelCategory().equals(channel.getParentCategory())) {
+			inactivityScheduler.recordActivity(event.getMessage());
+		}
+		if (event.getAuthor().isBot()) {
+			return;
+		}
 		HelpChannelManager manager = new HelpChannelManager(botConfig, event.getGuild(),dbActions, asyncPool, helpExperienceService);
 
 		// If a message was sent in an open text channel, reserve it.
@@ -56,6 +66,7 @@ public class HelpChannelListener extends ListenerAdapter {
 			if (manager.mayUserReserveChannel(event.getAuthor())) {
 				try {
 					manager.reserve(channel, event.getAuthor(), event.getMessage());
+					inactivityScheduler.recordActivity(event.getMessage());
 				} catch (SQLException e) {
 					ExceptionLogger.capture(e, getClass().getSimpleName());
 					channel.sendMessage("An error occurred and this channel could not be reserved.").queue();
@@ -78,4 +89,19 @@ public class HelpChannelListener extends ListenerAdapter {
 			event.getMessage().delete().queue();
 		}
 	}
+
+	@Override
+	public void onChannelDelete(@Nonnull ChannelDeleteEvent event) {
+		inactivityScheduler.cancel(event.getChannel().getIdLong());
+	}
+
+	@Override
+	public void onChannelUpdateParent(@Nonnull ChannelUpdateParentEvent event) {
+		if (!event.isFromGuild()) return;
+		Category reservedCategory = botConfig.get(event.getGuild()).getHelpConfig().getReservedChannelCategory();
+		// unreserved channels are moved out of the reserved category
+		if (reservedCategory != null && reservedCategory.equals(event.getOldValue()) && !reservedCategory.equals(event.getNewValue())) {
+			inactivityScheduler.cancel(event.getChannel().getIdLong());
+		}
+	}
 }
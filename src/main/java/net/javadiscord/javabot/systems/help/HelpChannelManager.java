@@ -21,7 +21,7 @@ import net.javadiscord.javabot.data.config.BotConfig;
 import net.javadiscord.javabot.data.config.guild.HelpConfig;
 import net.javadiscord.javabot.data.h2db.DbActions;
 import net.javadiscord.javabot.systems.help.model.ChannelReservation;
-import net.javadiscord.javabot.systems.help.model.HelpTransactionMessage;
+import net.javadiscord.javabot.systems.help.model.TrackedHelpMessage;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.MessageActionUtils;
 import net.javadiscord.javabot.util.Responses;
@@ -350,9 +350,7 @@ public class HelpChannelManager {
 				if (reservationOptional.isPresent()) {
 					ChannelReservation reservation = reservationOptional.get();
 					Map<Long, Double> experience = calculateExperience(HelpChannelListener.reservationMessages.get(reservation.getId()), reservation.getUserId(), config);
-					for (Long recipient : experience.keySet()) {
-						helpExperienceService.performTransaction(recipient, experience.get(recipient), HelpTransactionMessage.HELPED, channel.getGuild());
-					}
+					helpExperienceService.awardHelpers(reservation.getId(), reservation.getUserId(), channel.getIdLong(), experience, List.of(), channel.getGuild());
 				}
 				try (PreparedStatement stmt = con.prepareStatement("DELETE FROM reserved_help_channels WHERE channel_id = ?")) {
 					stmt.setLong(1, channel.getIdLong());
@@ -553,16 +551,29 @@ public class HelpChannelManager {
 	 * @return A {@link Map}, containing the users' id as the key, and the amount of xp as the value.
 	 */
 	public static Map<Long, Double> calculateExperience(List<Message> messages, long ownerId, HelpConfig config) {
+		if (messages == null || messages.isEmpty()) return Map.of();
+		return calculateTrackedExperience(messages.stream().map(TrackedHelpMessage::of).toList(), ownerId, config);
+	}
+
+	/**
+	 * Calculates the experience for each user, based on the compact information about the messages they sent.
+	 *
+	 * @param messages The list of {@link TrackedHelpMessage}s.
+	 * @param ownerId The owner id.
+	 * @param config The {@link HelpConfig}, containing some static info for the calculation.
+	 * @return A {@link Map}, containing the users' id as the key, and the amount of xp as the value.
+	 */
+	public static Map<Long, Double> calculateTrackedExperience(List<TrackedHelpMessage> messages, long ownerId, HelpConfig config) {
 		Map<Long, Double> experience = new HashMap<>();
 		if (messages == null || messages.isEmpty()) return Map.of();
-		for (User user : messages.stream().map(Message::getAuthor).collect(Collectors.toSet())) {
-			if (user.getIdLong() == ownerId) continue;
+		for (long userId : messages.stream().map(TrackedHelpMessage::authorId).collect(Collectors.toSet())) {
+			if (userId == ownerId) continue;
 			int xp = 0;
-			for (Message message : messages.stream()
-					.filter(f -> f.getAuthor().getIdLong() != ownerId && f.getContentDisplay().length() > config.getMinimumMessageLength()).toList()) {
-				xp += config.getBaseExperience() + config.getPerCharacterExperience() * (Math.log(message.getContentDisplay().trim().length()) / Math.log(2));
+			for (TrackedHelpMessage message : messages.stream()
+					.filter(f -> f.authorId() != ownerId && f.contentLength() > config.getMinimumMessageLength()).toList()) {
+				xp += config.getBaseExperience() + config.getPerCharacterExperience() * (Math.log(message.trimmedContentLength()) / Math.log(2));
 			}
-			experience.put(user.getIdLong(), Math.min(xp, config.getMaxExperiencePerChannel()));
+			experience.put(userId, Math.min(xp, config.getMaxExperiencePerChannel()));
 		}
 		return experience;
 	}
@@ -8,11 +8,13 @@ import net.dv8tion.jda.api.entities.channel.concrete.Category;
 import net.dv8tion.jda.api.entities.channel.concrete.ForumChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.exceptions.InsufficientPermissionException;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
 import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.requests.restaction.AuditableRestAction;
+import net.dv8tion.jda.api.utils.TimeUtil;
 import net.dv8tion.jda.internal.interactions.component.ButtonImpl;
 import net.dv8tion.jda.internal.requests.CompletedRestAction;
 import net.javadiscord.javabot.data.config.BotConfig;
@@ -30,6 +32,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -38,16 +41,26 @@ import java.util.stream.Collectors;
 
 /**
  * Task that updates all help channels in a particular guild.
+ * <p>
+ * Running this task periodically only balances the open channels and refreshes the help overview. Reserved
+ * channels are checked for inactivity by the {@link HelpChannelInactivityScheduler}, once their next
+ * inactivity threshold was crossed.
  */
 @Slf4j
 public class HelpChannelUpdater implements Runnable {
+	/**
+	 * The delay after which a reserved channel is checked again, if its previous check failed.
+	 */
+	private static final Duration CHECK_RETRY_DELAY = Duration.ofMinutes(5);
 	private static final String ACTIVITY_CHECK_MESSAGE = "Hey %s, it looks like this channel is inactive. Are you finished with this channel?\n\n> _If no response is received after %d minutes, this channel will be removed._";
 
 	private final JDA jda;
+	private final Guild guild;
 	private final BotConfig botConfig;
 	private final HelpConfig helpConfig;
 	private final HelpChannelManager channelManager;
 	private final List<ChannelSemanticCheck> semanticChecks;
+	private final HelpChannelInactivityScheduler inactivityScheduler;
 
 	/**
 	 * The Constructor of the class.
@@ -58,9 +71,12 @@ public class HelpChannelUpdater implements Runnable {
 	 * @param botConfig The main configuration of the bot
 	 * @param dbActions A utility object providing various operations on the main database
 	 * @param helpExperienceService Service object that handles Help Experience Transactions.
+	 * @param inactivityScheduler The scheduler for the inactivity checks of reserved channels.
 	 */
-	public HelpChannelUpdater(Guild guild, BotConfig botConfig, DbActions dbActions, ScheduledExecutorService asyncPool, List<ChannelSemanticCheck> semanticChecks, HelpExperienceService helpExperienceService) {
+	public HelpChannelUpdater(Guild guild, BotConfig botConfig, DbActions dbActions, ScheduledExecutorService asyncPool, List<ChannelSemanticCheck> semanticChecks, HelpExperienceService helpExperienceService, HelpChannelInactivityScheduler inactivityScheduler) {
 		this.jda = guild.getJDA();
+		this.guild = guild;
+		this.inactivityScheduler = inactivityScheduler;
 		this.botConfig = botConfig;
 		this.helpConfig = botConfig.get(guild).getHelpConfig();
 		this.semanticChecks = semanticChecks;
@@ -69,21 +85,83 @@ public class HelpChannelUpdater implements Runnable {
 
 	@Override
 	public void run() {
+		balanceChannels();
+		// periodically update the Help Channel Overview Message
+		if (helpConfig.getHelpOverviewMessageIds() != null && !helpConfig.getHelpOverviewMessageIds().isEmpty()) {
+			updateHelpOverview();
+		}
+	}
+
+	/**
+	 * Registers this updater with the {@link HelpChannelInactivityScheduler}, and schedules the inactivity checks of
+	 * all currently reserved channels based on their latest message, which is known without fetching the channel's
+	 * history. As messages are only tracked from now on, all open channels are checked once, too.
+	 */
+	public void start() {
+		inactivityScheduler.register(guild, this);
 		for (TextChannel channel : helpConfig.getReservedChannelCategory().getTextChannels()) {
-			checkReservedChannel(channel).queue();
+			Instant lastActivity = channel.hasLatestMessage() ?
+					TimeUtil.getTimeCreated(channel.getLatestMessageIdLong()).toInstant() :
+					Instant.now();
+			try {
+				inactivityScheduler.schedule(channel, lastActivity.plus(channelManager.getTimeout(channel), ChronoUnit.MINUTES));
+			} catch (SQLException e) {
+				// the check itself unreserves channels without reservation information
+				inactivityScheduler.schedule(channel, Instant.now());
+			}
 		}
 		for (TextChannel channel : helpConfig.getOpenChannelCategory().getTextChannels()) {
 			checkOpenChannel(channel).queue();
 		}
-		balanceChannels();
-		// periodically update the Help Channel Overview Message
-		if (helpConfig.getHelpOverviewMessageIds() != null && !helpConfig.getHelpOverviewMessageIds().isEmpty()) {
-			updateHelpOverview();
+	}
+
+	/**
+	 * Calculates when a reserved channel has to be checked for inactivity next, after the given message was sent in it.
+	 *
+	 * @param message The most recent message in a reserved channel.
+	 * @return The time at which the channel needs to be checked.
+	 */
+	public Instant getNextDeadline(@NotNull Message message) {
+		Instant sentAt = message.getTimeCreated().toInstant();
+		if (isActivityCheck(message)) {
+			return sentAt.plus(helpConfig.getRemoveInactiveTimeoutMinutes(), ChronoUnit.MINUTES);
+		}
+		if (isThankMessage(message)) {
+			return sentAt.plus(helpConfig.getRemoveThanksTimeoutMinutes(), ChronoUnit.MINUTES);
+		}
+		try {
+			return sentAt.plus(channelManager.getTimeout(message.getChannel().asTextChannel()), ChronoUnit.MINUTES);
+		} catch (SQLException e) {
+			// the channel is not (or no longer) reserved, the check will take care of that
+			return sentAt;
+		}
+	}
+
+	/**
+	 * Checks a single reserved help channel, after its inactivity deadline has passed.
+	 *
+	 * @param channelId The id of the reserved channel.
+	 */
+	public void checkInactiveChannel(long channelId) {
+		TextChannel channel = guild.getTextChannelById(channelId);
+		if (channel == null || !helpConfig.getReservedChannelCategory().equals(channel.getParentCategory())) {
+			return;
+		}
+		try {
+			checkReservedChannel(channel).queue(null, error -> retryCheck(channel, error));
+		} catch (InsufficientPermissionException e) {
+			retryCheck(channel, e);
 		}
 	}
 
+	// the channel's deadline was consumed by the failed check, so it would otherwise never be checked again
+	private void retryCheck(@NotNull TextChannel channel, @NotNull Throwable error) {
+		ExceptionLogger.capture(error, getClass().getSimpleName());
+		inactivityScheduler.schedule(channel, Instant.now().plus(CHECK_RETRY_DELAY));
+	}
+
 	/**
-	 * Performs a periodic check on a reserved help channel to see if we need to
+	 * Performs a check on a reserved help channel to see if we need to
 	 * take certain actions.
 	 *
 	 * @param channel The channel to check.
@@ -125,34 +203,35 @@ public class HelpChannelUpdater implements Runnable {
 				log.info("Unreserving channel {} because no recent messages could be found.", channel.getName());
 				return this.channelManager.unreserveChannel(channel);
 			}
-			try {
-				// Check if the most recent message is a channel inactivity check, and check that it's old enough to surpass the remove timeout.
-				if (isActivityCheck(mostRecentMessage)) {
-					if (mostRecentMessage.getTimeCreated().plusMinutes(helpConfig.getRemoveInactiveTimeoutMinutes()).isBefore(OffsetDateTime.now())) {
-						log.info("Unreserving channel {} because of no response to activity check.", channel.getName());
-						return unreserveInactiveChannel(channel, owner, mostRecentMessage, messages);
-					}
-				} else if (isThankMessage(mostRecentMessage)) {
-					if (mostRecentMessage.getTimeCreated().plusMinutes(helpConfig.getRemoveThanksTimeoutMinutes()).isBefore(OffsetDateTime.now())) {
-						log.info("Unreserving channel {} because no response to thanks question was received.", channel.getName());
-						return unreserveInactiveChannel(channel, owner, mostRecentMessage, messages);
-					}
-				} else {// The most recent message is not an activity check, so check if it's old enough to warrant sending an activity check.
-					int timeout = channelManager.getTimeout(channel);
-					if (mostRecentMessage.getTimeCreated().plusMinutes(timeout).isBefore(OffsetDateTime.now())) {
-						if (isActivityCheckAffirmativeResponse(mostRecentMessage)) { //If the last message was an activity check affirmative response, delete that and send a new check
-							mostRecentMessage.delete().queue();
-						}
-						return sendActivityCheck(channel, owner, reservation);
-					} else {// The channel is still active, so take this opportunity to clean up the channel.
-						// Also use it to do some introspection on the type of messages sent recently, to see if the bot can provide automated guidance.
-						return RestAction.allOf(deleteOldBotMessages(messages), semanticMessageCheck(channel, owner, messages));
+			// Check if the most recent message is a channel inactivity check, and check that it's old enough to surpass the remove timeout.
+			Instant deadline = getNextDeadline(mostRecentMessage);
+			if (isActivityCheck(mostRecentMessage)) {
+				if (deadline.isBefore(Instant.now())) {
+					log.info("Unreserving channel {} because of no response to activity check.", channel.getName());
+					return unreserveInactiveChannel(channel, owner, mostRecentMessage, messages);
+				}
+			} else if (isThankMessage(mostRecentMessage)) {
+				if (deadline.isBefore(Instant.now())) {
+					log.info("Unreserving channel {} because no response to thanks question was received.", channel.getName());
+					return unreserveInactiveChannel(channel, owner, mostRecentMessage, messages);
+				}
+			} else {// The most recent message is not an activity check, so check if it's old enough to warrant sending an activity check.
+				if (deadline.isBefore(Instant.now())) {
+					if (isActivityCheckAffirmativeResponse(mostRecentMessage)) { //If the last message was an activity check affirmative response, delete that and send a new check
+						mostRecentMessage.delete().queue();
 					}
+					return sendActivityCheck(channel, owner, reservation).map(check -> {
+						inactivityScheduler.schedule(channel, getNextDeadline(check));
+						return check;
+					});
+				} else {// The channel is still active, so take this opportunity to clean up the channel.
+					// Also use it to do some introspection on the type of messages sent recently, to see if the bot can provide automated guidance.
+					inactivityScheduler.schedule(channel, deadline);
+					return RestAction.allOf(deleteOldBotMessages(messages), semanticMessageCheck(channel, owner, messages));
 				}
-			} catch (SQLException e) {
-				ExceptionLogger.capture(e, getClass().getSimpleName());
-				return new CompletedRestAction<>(this.jda, e);
 			}
+			// The channel is waiting for a response, which is checked again once the deadline is reached.
+			inactivityScheduler.schedule(channel, deadline);
 			// No action needed.
 			return new CompletedRestAction<>(this.jda, null);
 		}).flatMap(action -> action);
@@ -277,7 +356,7 @@ public class HelpChannelUpdater implements Runnable {
 	 * @param reservation The channel reservation data.
 	 * @return A rest action that completes when the check has been sent.
 	 */
-	private RestAction<?> sendActivityCheck(TextChannel channel, User owner, ChannelReservation reservation) {
+	private RestAction<Message> sendActivityCheck(TextChannel channel, User owner, ChannelReservation reservation) {
 		log.info("Sending inactivity check to {} because of no activity since timeout.", channel.getName());
 		return channel.sendMessage(String.format(ACTIVITY_CHECK_MESSAGE, owner.getAsMention(), helpConfig.getRemoveInactiveTimeoutMinutes()))
 				.setActionRow(
@@ -404,8 +483,7 @@ public class HelpChannelUpdater implements Runnable {
 							),
 							ActionRow.of(buttons)).queue(),
 					err -> channel.sendMessageEmbeds(buildHelpOverviewEmbed()).queue(m -> {
-						helpConfig.getHelpOverviewMessageIds().put(channelId, m.getIdLong());
-						botConfig.flush();
+						botConfig.get(m.getGuild()).edit(c -> c.getHelpConfig().getHelpOverviewMessageIds().put(channelId, m.getIdLong()));
 						log.info("Successfully created new Help Overview Message in '{}' on message with id '{}'", channelId, m.getId());
 						ExceptionLogger.capture(err);
 						botConfig.get(m.getGuild()).getModerationConfig().getLogChannel().sendMessage("Sent new help-overview message (Check sentry for cause!)").queue();
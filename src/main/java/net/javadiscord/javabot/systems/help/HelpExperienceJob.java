@@ -22,7 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class HelpExperienceJob {
 	private final JDA jda;
 	private final BotConfig botConfig;
-	private final ExecutorService asyncPool;
+	private final ExecutorService dbPool;
 	private final HelpAccountRepository helpAccountRepository;
 
 	/**
@@ -30,7 +30,7 @@ public class HelpExperienceJob {
 	 */
 	@Scheduled(cron = "0 0 0 * * *")//daily 00:00
 	public void execute() {
-		asyncPool.execute(() -> {
+		dbPool.execute(() -> {
 			try {
 				helpAccountRepository.removeExperienceFromAllAccounts(
 						// just get the config for the first guild the bot is in, as it's not designed to work in multiple guilds anyway
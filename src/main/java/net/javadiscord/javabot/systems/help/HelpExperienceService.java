@@ -6,20 +6,26 @@ import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Role;
 import net.javadiscord.javabot.data.config.BotConfig;
 import net.javadiscord.javabot.systems.help.dao.HelpAccountRepository;
+import net.javadiscord.javabot.systems.help.dao.HelpThanksRepository;
 import net.javadiscord.javabot.systems.help.dao.HelpTransactionRepository;
 import net.javadiscord.javabot.systems.help.model.HelpAccount;
 import net.javadiscord.javabot.systems.help.model.HelpTransaction;
 import net.javadiscord.javabot.systems.help.model.HelpTransactionMessage;
 import net.javadiscord.javabot.util.ExceptionLogger;
-import net.javadiscord.javabot.util.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -34,6 +40,7 @@ public class HelpExperienceService {
 	private final BotConfig botConfig;
 	private final HelpAccountRepository helpAccountRepository;
 	private final HelpTransactionRepository helpTransactionRepository;
+	private final HelpThanksRepository helpThanksRepository;
 
 	/**
 	 * Creates a new Help Account if none exists.
@@ -102,10 +109,7 @@ public class HelpExperienceService {
 			log.error("Cannot make zero-value transactions");
 			return null;
 		}
-		HelpTransaction transaction = new HelpTransaction();
-		transaction.setRecipient(recipient);
-		transaction.setWeight(value);
-		transaction.setMessageType(message.ordinal());
+		HelpTransaction transaction = createTransaction(recipient, value, message);
 		HelpAccount account = this.getOrCreateAccount(recipient);
 		account.updateExperience(value);
 		helpAccountRepository.update(account);
@@ -114,16 +118,78 @@ public class HelpExperienceService {
 		return helpTransactionRepository.getTransaction(transaction.getId()).orElse(null);
 	}
 
+	/**
+	 * Performs multiple transactions at once. All transactions are inserted in a single batch, the experience
+	 * of each recipient is updated once and the experience roles are only checked once per recipient.
+	 * Zero-value transactions are skipped.
+	 *
+	 * @param transactions The transactions to perform.
+	 * @param guild        The current guild.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	@Transactional
+	public void performTransactions(@NotNull List<HelpTransaction> transactions, @NotNull Guild guild) throws DataAccessException {
+		List<HelpTransaction> nonZero = transactions.stream().filter(t -> t.getWeight() != 0).toList();
+		if (nonZero.isEmpty()) return;
+		Map<Long, Double> changes = new LinkedHashMap<>();
+		for (HelpTransaction transaction : nonZero) {
+			changes.merge(transaction.getRecipient(), transaction.getWeight(), Double::sum);
+		}
+		helpTransactionRepository.saveAll(nonZero);
+		helpAccountRepository.addExperience(changes);
+		for (HelpAccount account : helpAccountRepository.getByUserIds(changes.keySet())) {
+			this.checkExperienceRoles(guild, account);
+		}
+	}
+
+	/**
+	 * Awards experience to all helpers of a closed help post (or channel) in a single transaction.
+	 * This records the thanks of the post's owner, and performs both the {@link HelpTransactionMessage#HELPED}
+	 * and the {@link HelpTransactionMessage#GOT_THANKED} transactions. Helpers who have already been thanked for
+	 * the same reservation don't get the {@link HelpTransactionMessage#GOT_THANKED} experience again.
+	 *
+	 * @param reservationId    The id of the reservation (or forum post).
+	 * @param ownerId          The id of the user who was helped.
+	 * @param channelId        The id of the help channel (or forum post).
+	 * @param experience       The experience each helper earned for their messages.
+	 * @param thankedHelperIds The ids of all helpers the owner thanked.
+	 * @param guild            The current guild.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	@Transactional
+	public void awardHelpers(long reservationId, long ownerId, long channelId, @NotNull Map<Long, Double> experience, @NotNull Collection<Long> thankedHelperIds, @NotNull Guild guild) throws DataAccessException {
+		Set<Long> newlyThankedIds = helpThanksRepository.insertAll(reservationId, ownerId, channelId, thankedHelperIds);
+		double thankedExperience = botConfig.get(guild).getHelpConfig().getThankedExperience();
+		List<HelpTransaction> transactions = new ArrayList<>(experience.size() + newlyThankedIds.size());
+		experience.forEach((helperId, value) -> transactions.add(createTransaction(helperId, value, HelpTransactionMessage.HELPED)));
+		for (long helperId : newlyThankedIds) {
+			transactions.add(createTransaction(helperId, thankedExperience, HelpTransactionMessage.GOT_THANKED));
+		}
+		this.performTransactions(transactions, guild);
+	}
+
+	private @NotNull HelpTransaction createTransaction(long recipient, double value, @NotNull HelpTransactionMessage message) {
+		HelpTransaction transaction = new HelpTransaction();
+		transaction.setRecipient(recipient);
+		transaction.setWeight(value);
+		transaction.setMessageType(message.ordinal());
+		return transaction;
+	}
+
 	private void checkExperienceRoles(@NotNull Guild guild, @NotNull HelpAccount account) {
-		guild.retrieveMemberById(account.getUserId()).queue(member ->
-				botConfig.get(guild).getHelpConfig().getExperienceRoles().forEach((key, value) -> {
-					Pair<Role, Double> role = account.getCurrentExperienceGoal(guild);
-					if (role.first() == null) return;
-					if (key.equals(role.first().getIdLong())) {
-						guild.addRoleToMember(member, role.first()).queue();
-					} else {
-						guild.removeRoleFromMember(member, guild.getRoleById(key)).queue();
-					}
-		}), e -> {});
+		Role currentRole = account.getCurrentExperienceGoal(guild).first();
+		if (currentRole == null) return;
+		List<Role> otherRoles = botConfig.get(guild).getHelpConfig().getExperienceRoles().keySet().stream()
+				.filter(roleId -> roleId != currentRole.getIdLong())
+				.map(guild::getRoleById)
+				.filter(Objects::nonNull)
+				.toList();
+		guild.retrieveMemberById(account.getUserId()).queue(member -> {
+			// compute the role diff once, and apply it using a single request
+			List<Role> toAdd = member.getRoles().contains(currentRole) ? List.of() : List.of(currentRole);
+			List<Role> toRemove = otherRoles.stream().filter(member.getRoles()::contains).toList();
+			if (toAdd.isEmpty() && toRemove.isEmpty()) return;
+			guild.modifyMemberRoles(member, toAdd, toRemove).queue();
+		}, e -> {});
 	}
 }
@@ -21,6 +21,8 @@ import net.javadiscord.javabot.util.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
 
+import java.sql.SQLException;
+
 /**
  * <h3>This class represents the /help account command.</h3>
  * Handles commands to show information about how a user has been thanked for
@@ -49,18 +51,18 @@ public class HelpAccountSubcommand extends SlashCommand.Subcommand {
 	public void execute(@NotNull SlashCommandInteractionEvent event) {
 		User user = event.getOption("user", event::getUser, OptionMapping::getAsUser);
 		boolean showTransactions = event.getOption("show-transactions", false, OptionMapping::getAsBoolean);
-		long totalThanks = dbActions.count(
-				"SELECT COUNT(id) FROM help_channel_thanks WHERE helper_id = ?",
-				s -> s.setLong(1, user.getIdLong())
-		);
-		long weekThanks = dbActions.count(
-				"SELECT COUNT(id) FROM help_channel_thanks WHERE helper_id = ? AND thanked_at > DATEADD('week', -1, CURRENT_TIMESTAMP(0))",
-				s -> s.setLong(1, user.getIdLong())
-		);
 		try {
+			long totalThanks = dbActions.count(
+					"SELECT COUNT(id) FROM help_channel_thanks WHERE helper_id = ?",
+					s -> s.setLong(1, user.getIdLong())
+			);
+			long weekThanks = dbActions.count(
+					"SELECT COUNT(id) FROM help_channel_thanks WHERE helper_id = ? AND thanked_at > DATEADD('week', -1, CURRENT_TIMESTAMP(0))",
+					s -> s.setLong(1, user.getIdLong())
+			);
 			HelpAccount account = helpExperienceService.getOrCreateAccount(user.getIdLong());
 			event.replyEmbeds(buildHelpAccountEmbed(account, user, event.getGuild(), totalThanks, weekThanks, showTransactions)).queue();
-		} catch (DataAccessException e) {
+		} catch (DataAccessException | SQLException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			Responses.error(event, e.getMessage()).queue();
 		}
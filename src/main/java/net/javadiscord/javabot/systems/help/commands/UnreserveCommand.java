@@ -17,8 +17,6 @@ import net.javadiscord.javabot.data.config.guild.HelpConfig;
 import net.javadiscord.javabot.data.h2db.DbActions;
 import net.javadiscord.javabot.systems.help.HelpChannelManager;
 import net.javadiscord.javabot.systems.help.HelpExperienceService;
-import net.javadiscord.javabot.systems.help.dao.HelpAccountRepository;
-import net.javadiscord.javabot.systems.help.dao.HelpTransactionRepository;
 import net.javadiscord.javabot.systems.help.forum.ForumHelpManager;
 import net.javadiscord.javabot.util.Responses;
 import org.jetbrains.annotations.NotNull;
@@ -32,8 +30,6 @@ public class UnreserveCommand extends SlashCommand {
 	private final ScheduledExecutorService asyncPool;
 	private final DbActions dbActions;
 	private final HelpExperienceService helpExperienceService;
-	private final HelpAccountRepository helpAccountRepository;
-	private final HelpTransactionRepository helpTransactionRepository;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link net.dv8tion.jda.api.interactions.commands.build.SlashCommandData}.
@@ -41,16 +37,12 @@ public class UnreserveCommand extends SlashCommand {
 	 * @param botConfig The main configuration of the bot
 	 * @param dbActions A utility object providing various operations on the main database
 	 * @param helpExperienceService Service object that handles Help Experience Transactions.
-	 * @param helpTransactionRepository Dao object that represents the HELP_TRANSACTION SQL Table.
-	 * @param helpAccountRepository Dao object that represents the HELP_ACCOUNT SQL Table.
 	 */
-	public UnreserveCommand(BotConfig botConfig, ScheduledExecutorService asyncPool, DbActions dbActions, HelpExperienceService helpExperienceService, HelpTransactionRepository helpTransactionRepository, HelpAccountRepository helpAccountRepository) {
+	public UnreserveCommand(BotConfig botConfig, ScheduledExecutorService asyncPool, DbActions dbActions, HelpExperienceService helpExperienceService) {
 		this.botConfig = botConfig;
 		this.asyncPool = asyncPool;
 		this.dbActions = dbActions;
 		this.helpExperienceService = helpExperienceService;
-		this.helpAccountRepository = helpAccountRepository;
-		this.helpTransactionRepository = helpTransactionRepository;
 		setSlashCommandData(Commands.slash("unreserve", "Unreserves this help channel so that others can use it.")
 				.setGuildOnly(true)
 				.addOption(OptionType.STRING, "reason", "The reason why you're unreserving this channel", false)
@@ -78,7 +70,7 @@ public class UnreserveCommand extends SlashCommand {
 		if (postThread.getParentChannel().getType() != ChannelType.FORUM) {
 			replyInvalidChannel(event);
 		}
-		ForumHelpManager manager = new ForumHelpManager(postThread, dbActions, botConfig, dbActions.getDataSource(), helpAccountRepository, helpTransactionRepository);
+		ForumHelpManager manager = new ForumHelpManager(postThread, botConfig, helpExperienceService);
 		if (manager.isForumEligibleToBeUnreserved(event.getInteraction())) {
 			manager.close(event, event.getUser().getIdLong() == postThread.getOwnerIdLong(),
 					event.getOption("reason", null, OptionMapping::getAsString)
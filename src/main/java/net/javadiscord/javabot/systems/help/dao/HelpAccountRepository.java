@@ -14,7 +14,11 @@ import org.springframework.stereotype.Repository;
 import java.sql.CallableStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -53,6 +57,26 @@ public class HelpAccountRepository {
 				account.getUserId());
 	}
 
+	/**
+	 * Adds experience to multiple {@link HelpAccount}s, creating all accounts that don't exist yet.
+	 * All changes are sent to the database in a single JDBC batch.
+	 *
+	 * @param changes A {@link Map} containing the experience change per user id.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	public void addExperience(@NotNull Map<Long, Double> changes) throws DataAccessException {
+		if (changes.isEmpty()) return;
+		jdbcTemplate.batchUpdate("""
+						MERGE INTO help_account t USING (VALUES (CAST(? AS BIGINT), CAST(? AS DOUBLE PRECISION))) s(user_id, amount)
+						ON t.user_id = s.user_id
+						WHEN MATCHED THEN UPDATE SET experience = t.experience + s.amount
+						WHEN NOT MATCHED THEN INSERT (user_id, experience) VALUES (s.user_id, s.amount)""",
+				new ArrayList<>(changes.entrySet()), changes.size(), (stmt, change) -> {
+					stmt.setLong(1, change.getKey());
+					stmt.setDouble(2, change.getValue());
+				});
+	}
+
 	/**
 	 * Tries to retrieve a {@link HelpAccount}, based on the given id.
 	 *
@@ -68,6 +92,20 @@ public class HelpAccountRepository {
 		}
 	}
 
+	/**
+	 * Retrieves all {@link HelpAccount}s of the given users in a single query.
+	 *
+	 * @param userIds The users' ids.
+	 * @return A {@link List} containing all existing {@link HelpAccount}s, in no particular order.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	public List<HelpAccount> getByUserIds(@NotNull Collection<Long> userIds) throws DataAccessException {
+		if (userIds.isEmpty()) return List.of();
+		String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+		return jdbcTemplate.query("SELECT * FROM help_account WHERE user_id IN (" + placeholders + ")", (rs, row) -> this.read(rs),
+				userIds.toArray());
+	}
+
 	/**
 	 * Gets a specified amount of {@link HelpAccount}s.
 	 *
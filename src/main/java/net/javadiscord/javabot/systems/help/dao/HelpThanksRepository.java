@@ -0,0 +1,49 @@
+package net.javadiscord.javabot.systems.help.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Dao class that represents the HELP_CHANNEL_THANKS SQL Table.
+ */
+@RequiredArgsConstructor
+@Repository
+public class HelpThanksRepository {
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Records that a user thanked multiple helpers for a single reservation, using a single JDBC batch.
+	 * Helpers who have already been thanked for that reservation, for example because the post was closed twice,
+	 * are skipped, so that they neither break the unique constraint nor get recorded twice.
+	 *
+	 * @param reservationId The id of the reservation (or forum post).
+	 * @param userId        The id of the user who thanked the helpers.
+	 * @param channelId     The id of the help channel (or forum post).
+	 * @param helperIds     The ids of all thanked helpers.
+	 * @return The ids of the helpers whose thanks were recorded now.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	public @NotNull Set<Long> insertAll(long reservationId, long userId, long channelId, @NotNull Collection<Long> helperIds) throws DataAccessException {
+		if (helperIds.isEmpty()) return Set.of();
+		Set<Long> newHelperIds = new LinkedHashSet<>(helperIds);
+		newHelperIds.removeAll(jdbcTemplate.queryForList("SELECT helper_id FROM help_channel_thanks WHERE reservation_id = ?", Long.class, reservationId));
+		if (newHelperIds.isEmpty()) return Set.of();
+		// MERGE keeps a concurrent duplicate from rolling back the whole award
+		jdbcTemplate.batchUpdate("MERGE INTO help_channel_thanks (reservation_id, user_id, channel_id, helper_id) KEY (reservation_id, helper_id) VALUES (?, ?, ?, ?)",
+				new ArrayList<>(newHelperIds), newHelperIds.size(), (stmt, helperId) -> {
+					stmt.setLong(1, reservationId);
+					stmt.setLong(2, userId);
+					stmt.setLong(3, channelId);
+					stmt.setLong(4, helperId);
+				});
+		return newHelperIds;
+	}
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -47,6 +48,24 @@ public class HelpTransactionRepository {
 		return transaction;
 	}
 
+	/**
+	 * Inserts multiple {@link HelpTransaction}s in a single JDBC batch. Unlike {@link HelpTransactionRepository#save(HelpTransaction)},
+	 * this does not read back the generated ids.
+	 *
+	 * @param transactions The transactions that should be inserted.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	public void saveAll(@NotNull List<HelpTransaction> transactions) throws DataAccessException {
+		if (transactions.isEmpty()) return;
+		jdbcTemplate.batchUpdate("INSERT INTO help_transaction (recipient, weight, messageType) VALUES (?, ?, ?)",
+				transactions, transactions.size(), (stmt, transaction) -> {
+					stmt.setLong(1, transaction.getRecipient());
+					stmt.setDouble(2, transaction.getWeight());
+					stmt.setInt(3, transaction.getMessageType());
+				});
+		log.info("Inserted {} Help Transactions", transactions.size());
+	}
+
 	/**
 	 * Retrieves a transaction based on the id.
 	 *
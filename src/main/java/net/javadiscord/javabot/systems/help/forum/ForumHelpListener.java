@@ -5,13 +5,14 @@ import com.dynxsty.dih4jda.interactions.components.ButtonHandler;
 
 import lombok.RequiredArgsConstructor;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.UserSnowflake;
 import net.dv8tion.jda.api.entities.channel.Channel;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.entities.channel.concrete.ForumChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
 import net.dv8tion.jda.api.events.channel.ChannelCreateEvent;
+import net.dv8tion.jda.api.events.channel.ChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.update.ChannelUpdateArchivedEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
@@ -21,25 +22,18 @@ import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.javadiscord.javabot.annotations.AutoDetectableComponentHandler;
 import net.javadiscord.javabot.data.config.BotConfig;
-import net.javadiscord.javabot.data.config.guild.HelpConfig;
-import net.javadiscord.javabot.data.h2db.DbActions;
 import net.javadiscord.javabot.data.config.guild.HelpForumConfig;
-import net.javadiscord.javabot.systems.help.HelpChannelManager;
 import net.javadiscord.javabot.systems.help.HelpExperienceService;
-import net.javadiscord.javabot.systems.help.dao.HelpAccountRepository;
-import net.javadiscord.javabot.systems.help.dao.HelpTransactionRepository;
-import net.javadiscord.javabot.systems.help.model.HelpTransactionMessage;
+import net.javadiscord.javabot.systems.help.model.TrackedHelpMessage;
 import net.javadiscord.javabot.systems.user_preferences.UserPreferenceService;
 import net.javadiscord.javabot.systems.user_preferences.model.Preference;
 import net.javadiscord.javabot.systems.user_preferences.model.UserPreference;
-import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.Responses;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.dao.DataAccessException;
 
-import java.util.*;
-
-import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Listens for all events releated to the forum help channel system.
@@ -49,16 +43,13 @@ import javax.sql.DataSource;
 public class ForumHelpListener extends ListenerAdapter implements ButtonHandler {
 
 	/**
-	 * A static Map that holds all messages that was sent in a specific reserved forum channel.
+	 * A static store that holds the (compact) messages that were sent in the help forum's posts.
 	 */
-	public static final Map<Long, List<Message>> HELP_POST_MESSAGES = new HashMap<>();
+	public static final HelpPostMessageStore HELP_POST_MESSAGES = new HelpPostMessageStore(1000, 500, Duration.ofDays(3));
 
 	private final BotConfig botConfig;
-	private final DataSource dataSource;
-	private final HelpAccountRepository helpAccountRepository;
-	private final HelpTransactionRepository helpTransactionRepository;
+	private final HelpExperienceService helpExperienceService;
 	private final UserPreferenceService userPreferenceService;
-	private final DbActions dbActions;
 
 	@Override
 	public void onMessageReceived(@NotNull MessageReceivedEvent event) {
@@ -73,13 +64,19 @@ public class ForumHelpListener extends ListenerAdapter implements ButtonHandler
 		if (isInvalidHelpForumChannel(post.getParentChannel().asForumChannel())) {
 			return;
 		}
-		// cache messages
-		List<Message> messages = new ArrayList<>();
-		messages.add(event.getMessage());
-		if (HELP_POST_MESSAGES.containsKey(post.getIdLong())) {
-			messages.addAll(HELP_POST_MESSAGES.get(post.getIdLong()));
+		HELP_POST_MESSAGES.record(post.getIdLong(), TrackedHelpMessage.of(event.getMessage()));
+	}
+
+	@Override
+	public void onChannelUpdateArchived(@NotNull ChannelUpdateArchivedEvent event) {
+		if (Boolean.TRUE.equals(event.getNewValue())) {
+			HELP_POST_MESSAGES.close(event.getChannel().getIdLong());
 		}
-		HELP_POST_MESSAGES.put(post.getIdLong(), messages);
+	}
+
+	@Override
+	public void onChannelDelete(@NotNull ChannelDeleteEvent event) {
+		HELP_POST_MESSAGES.close(event.getChannel().getIdLong());
 	}
 
 	@Override
@@ -115,7 +112,7 @@ public class ForumHelpListener extends ListenerAdapter implements ButtonHandler
 			return;
 		}
 		ThreadChannel post = event.getChannel().asThreadChannel();
-		ForumHelpManager manager = new ForumHelpManager(post, dbActions, botConfig, dataSource, helpAccountRepository, helpTransactionRepository);
+		ForumHelpManager manager = new ForumHelpManager(post, botConfig, helpExperienceService);
 		switch (id[0]) {
 			case ForumHelpManager.HELP_THANKS_IDENTIFIER -> handleHelpThanksInteraction(event, manager, id);
 			case ForumHelpManager.HELP_GUIDELINES_IDENTIFIER -> handleReplyGuidelines(event, post.getParentChannel().asForumChannel());
@@ -135,7 +132,6 @@ public class ForumHelpListener extends ListenerAdapter implements ButtonHandler
 
 	private void handleHelpThanksInteraction(@NotNull ButtonInteractionEvent event, @NotNull ForumHelpManager manager, String @NotNull [] id) {
 		ThreadChannel post = manager.getPostThread();
-		HelpConfig config = botConfig.get(event.getGuild()).getHelpConfig();
 		if (event.getUser().getIdLong() != post.getOwnerIdLong()) {
 			Responses.warning(event, "Sorry, only the person who reserved this channel can thank users.").queue();
 			return;
@@ -143,24 +139,19 @@ public class ForumHelpListener extends ListenerAdapter implements ButtonHandler
 		switch (id[2]) {
 			case "done" -> {
 				List<Button> buttons = event.getMessage().getButtons();
+				// the messages are no longer tracked once the post is archived
+				List<TrackedHelpMessage> messages = HELP_POST_MESSAGES.getMessages(post.getIdLong());
 				// immediately delete the message
 				event.getMessage().delete().queue(s -> {
 					// close post
 					manager.close(event, false, null);
-					// add experience
-					try {
-						HelpExperienceService service = new HelpExperienceService(dataSource, botConfig, helpAccountRepository, helpTransactionRepository);
-						Map<Long, Double> experience = HelpChannelManager.calculateExperience(HELP_POST_MESSAGES.get(post.getIdLong()), post.getOwnerIdLong(), config);
-						for (Map.Entry<Long, Double> entry : experience.entrySet()) {
-							service.performTransaction(entry.getKey(), entry.getValue(), HelpTransactionMessage.HELPED, config.getGuild());
-						}
-					} catch (DataAccessException e) {
-						ExceptionLogger.capture(e, getClass().getName());
-					}
-					// thank all helpers
-					buttons.stream().filter(ActionComponent::isDisabled)
-							.filter(b -> b.getId() != null)
-							.forEach(b -> manager.thankHelper(event, post, Long.parseLong(ComponentIdBuilder.split(b.getId())[2])));
+					// add experience and thank all helpers
+					List<Long> thankedHelperIds = buttons.stream().filter(ActionComponent::isDisabled)
+							.map(Button::getId)
+							.filter(Objects::nonNull)
+							.map(buttonId -> Long.parseLong(ComponentIdBuilder.split(buttonId)[2]))
+							.toList();
+					manager.awardHelpers(post.getGuild(), messages, thankedHelperIds);
 				});
 
 			}
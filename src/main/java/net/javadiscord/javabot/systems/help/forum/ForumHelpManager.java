@@ -6,10 +6,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
-import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.UserSnowflake;
 import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
-import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.interactions.Interaction;
 import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
@@ -19,22 +18,21 @@ import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
 import net.javadiscord.javabot.data.config.BotConfig;
 import net.javadiscord.javabot.data.config.guild.HelpConfig;
 import net.javadiscord.javabot.data.config.guild.HelpForumConfig;
-import net.javadiscord.javabot.data.h2db.DbActions;
+import net.javadiscord.javabot.systems.help.HelpChannelManager;
 import net.javadiscord.javabot.systems.help.HelpExperienceService;
-import net.javadiscord.javabot.systems.help.dao.HelpAccountRepository;
-import net.javadiscord.javabot.systems.help.dao.HelpTransactionRepository;
-import net.javadiscord.javabot.systems.help.model.HelpTransactionMessage;
+import net.javadiscord.javabot.systems.help.model.TrackedHelpMessage;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.MessageActionUtils;
 import net.javadiscord.javabot.util.Responses;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.dao.DataAccessException;
 
-import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-
-import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Manages all interactions regarding the help forum system.
@@ -58,13 +56,8 @@ public class ForumHelpManager {
 
 	@Getter
 	private final ThreadChannel postThread;
-	private final DbActions dbActions;
 	private final BotConfig botConfig;
-	private final DataSource dataSource;
-
-	private final HelpAccountRepository helpAccountRepository;
-
-	private final HelpTransactionRepository helpTransactionRepository;
+	private final HelpExperienceService helpExperienceService;
 
 	/**
 	 * Builds and replies {@link ActionRow}s with all members which helped the
@@ -112,38 +105,28 @@ public class ForumHelpManager {
 	}
 
 	/**
-	 * Thanks a single user.
+	 * Awards experience to all helpers of the {@link ForumHelpManager#postThread}, based on their messages, and
+	 * records the thanks of the post's owner. All of this happens in a single database transaction.
 	 *
-	 * @param event      The {@link ButtonInteractionEvent} that was fired.
-	 * @param postThread The {@link ThreadChannel} post.
-	 * @param helperId   The helpers' discord id.
+	 * @param guild            The current {@link Guild}.
+	 * @param messages         The messages that were sent in the post.
+	 * @param thankedHelperIds The ids of all helpers the post's owner thanked.
 	 */
-	public void thankHelper(@NotNull ButtonInteractionEvent event, ThreadChannel postThread, long helperId) {
-		event.getJDA().retrieveUserById(helperId).queue(helper -> {
-			// First insert the new thanks data.
-			try {
-				dbActions.update(
-						"INSERT INTO help_channel_thanks (reservation_id, user_id, channel_id, helper_id) VALUES (?, ?, ?, ?)",
-						postThread.getIdLong(),
-						postThread.getOwnerIdLong(),
-						postThread.getIdLong(),
-						helper.getIdLong()
-				);
-				HelpConfig config = botConfig.get(event.getGuild()).getHelpConfig();
-				HelpExperienceService service = new HelpExperienceService(dataSource, botConfig, helpAccountRepository, helpTransactionRepository);
-				// Perform experience transactions
-				service.performTransaction(helper.getIdLong(), config.getThankedExperience(), HelpTransactionMessage.GOT_THANKED, event.getGuild());
-			} catch (SQLException e) {
-				ExceptionLogger.capture(e, getClass().getSimpleName());
-				botConfig.get(event.getGuild()).getModerationConfig().getLogChannel().sendMessageFormat(
-						"Could not record user %s thanking %s for help in post %s: %s",
-						postThread.getOwner().getUser().getAsTag(),
-						helper.getAsTag(),
-						postThread.getAsMention(),
-						e.getMessage()
-				).queue();
-			}
-		});
+	public void awardHelpers(@NotNull Guild guild, @NotNull List<TrackedHelpMessage> messages, @NotNull Collection<Long> thankedHelperIds) {
+		HelpConfig config = botConfig.get(guild).getHelpConfig();
+		Map<Long, Double> experience = HelpChannelManager.calculateTrackedExperience(messages, postThread.getOwnerIdLong(), config);
+		try {
+			helpExperienceService.awardHelpers(postThread.getIdLong(), postThread.getOwnerIdLong(), postThread.getIdLong(), experience, thankedHelperIds, guild);
+		} catch (DataAccessException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			botConfig.get(guild).getModerationConfig().getLogChannel().sendMessageFormat(
+					"Could not record user %s thanking %s helper(s) in post %s: %s",
+					UserSnowflake.fromId(postThread.getOwnerIdLong()).getAsMention(),
+					thankedHelperIds.size(),
+					postThread.getAsMention(),
+					e.getMessage()
+			).queue();
+		}
 	}
 
 	/**
@@ -167,12 +150,12 @@ public class ForumHelpManager {
 	}
 
 	private @NotNull List<Member> getPostHelpers() {
-		List<Message> messages = ForumHelpListener.HELP_POST_MESSAGES.get(postThread.getIdLong());
-		if (messages == null) return List.of();
-		return messages.stream()
-				.filter(m -> m.getMember() != null && m.getAuthor().getIdLong() != postThread.getOwnerIdLong())
-				.map(Message::getMember)
+		return ForumHelpListener.HELP_POST_MESSAGES.getMessages(postThread.getIdLong()).stream()
+				.mapToLong(TrackedHelpMessage::authorId)
+				.filter(authorId -> authorId != postThread.getOwnerIdLong())
 				.distinct()
+				.mapToObj(postThread.getGuild()::getMemberById)
+				.filter(Objects::nonNull)
 				.toList();
 	}
 }
@@ -0,0 +1,153 @@
+package net.javadiscord.javabot.systems.help.forum;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.javadiscord.javabot.systems.help.model.TrackedHelpMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded, thread-safe store of the messages sent in help forum posts.
+ * <p>
+ * Only a {@link TrackedHelpMessage} is kept per message, in primitive arrays per post. Each post only keeps
+ * its latest messages, posts expire once they haven't been written to for a while, and the amount of
+ * tracked posts is limited as well.
+ */
+public class HelpPostMessageStore {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final int maxMessagesPerPost;
+	private final Cache<Long, PostMessages> posts;
+
+	/**
+	 * Creates a new store.
+	 *
+	 * @param maxPosts           The maximum amount of posts to track.
+	 * @param maxMessagesPerPost The maximum amount of (latest) messages to keep per post.
+	 * @param expiry             The duration after which a post without new messages is no longer tracked.
+	 */
+	public HelpPostMessageStore(int maxPosts, int maxMessagesPerPost, @NotNull Duration expiry) {
+		if (maxMessagesPerPost < 1) throw new IllegalArgumentException("At least one message per post must be kept.");
+		this.maxMessagesPerPost = maxMessagesPerPost;
+		this.posts = Caffeine.newBuilder()
+				.maximumSize(maxPosts)
+				.expireAfterWrite(expiry)
+				.build();
+	}
+
+	/**
+	 * Records a single message.
+	 *
+	 * @param postId  The id of the post the message was sent in.
+	 * @param message The {@link TrackedHelpMessage}.
+	 */
+	public void record(long postId, @NotNull TrackedHelpMessage message) {
+		// compute() resets the post's expiry on every new message
+		posts.asMap().compute(postId, (id, messages) -> {
+			PostMessages result = messages == null ? new PostMessages(maxMessagesPerPost) : messages;
+			result.add(message);
+			return result;
+		});
+	}
+
+	/**
+	 * Gets all tracked messages of a single post.
+	 *
+	 * @param postId The post's id.
+	 * @return An unmodifiable {@link List} with all tracked messages, from oldest to newest.
+	 */
+	public @NotNull List<TrackedHelpMessage> getMessages(long postId) {
+		PostMessages messages = posts.getIfPresent(postId);
+		return messages == null ? List.of() : messages.snapshot();
+	}
+
+	/**
+	 * Stops tracking a post, which is used once the post is closed.
+	 *
+	 * @param postId The post's id.
+	 */
+	public void close(long postId) {
+		posts.invalidate(postId);
+	}
+
+	/**
+	 * Gets the (approximate) amount of tracked posts.
+	 *
+	 * @return The amount of posts.
+	 */
+	public long size() {
+		return posts.estimatedSize();
+	}
+
+	/**
+	 * The messages of a single post, kept as a growing ring buffer of primitive values.
+	 */
+	private static final class PostMessages {
+		private final int maxSize;
+		private long[] authorIds;
+		private long[] timestamps;
+		private int[] contentLengths;
+		private int[] trimmedContentLengths;
+		private int start = 0;
+		private int size = 0;
+
+		private PostMessages(int maxSize) {
+			this.maxSize = maxSize;
+			int capacity = Math.min(INITIAL_CAPACITY, maxSize);
+			this.authorIds = new long[capacity];
+			this.timestamps = new long[capacity];
+			this.contentLengths = new int[capacity];
+			this.trimmedContentLengths = new int[capacity];
+		}
+
+		private synchronized void add(TrackedHelpMessage message) {
+			if (size == authorIds.length && size < maxSize) {
+				grow(Math.min(maxSize, size * 2));
+			}
+			int index;
+			if (size < authorIds.length) {
+				index = (start + size) % authorIds.length;
+				size++;
+			} else {
+				// full, overwrite the oldest message
+				index = start;
+				start = (start + 1) % authorIds.length;
+			}
+			authorIds[index] = message.authorId();
+			timestamps[index] = message.timestamp();
+			contentLengths[index] = message.contentLength();
+			trimmedContentLengths[index] = message.trimmedContentLength();
+		}
+
+		private void grow(int capacity) {
+			long[] newAuthorIds = new long[capacity];
+			long[] newTimestamps = new long[capacity];
+			int[] newContentLengths = new int[capacity];
+			int[] newTrimmedContentLengths = new int[capacity];
+			for (int i = 0; i < size; i++) {
+				int index = (start + i) % authorIds.length;
+				newAuthorIds[i] = authorIds[index];
+				newTimestamps[i] = timestamps[index];
+				newContentLengths[i] = contentLengths[index];
+				newTrimmedContentLengths[i] = trimmedContentLengths[index];
+			}
+			authorIds = newAuthorIds;
+			timestamps = newTimestamps;
+			contentLengths = newContentLengths;
+			trimmedContentLengths = newTrimmedContentLengths;
+			start = 0;
+		}
+
+		private synchronized List<TrackedHelpMessage> snapshot() {
+			List<TrackedHelpMessage> messages = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				int index = (start + i) % authorIds.length;
+				messages.add(new TrackedHelpMessage(authorIds[index], timestamps[index], contentLengths[index], trimmedContentLengths[index]));
+			}
+			return List.copyOf(messages);
+		}
+	}
+}
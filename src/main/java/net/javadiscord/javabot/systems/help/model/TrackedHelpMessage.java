@@ -0,0 +1,31 @@
+package net.javadiscord.javabot.systems.help.model;
+
+import net.dv8tion.jda.api.entities.Message;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The compact information about a single message in a help post, which is needed to find
+ * the post's helpers and to calculate their experience.
+ *
+ * @param authorId             The id of the message's author.
+ * @param timestamp            The time the message was sent at, in epoch milliseconds.
+ * @param contentLength        The length of the message's displayed content, which is checked against the minimum message length.
+ * @param trimmedContentLength The length of the message's trimmed displayed content, which the experience is based on.
+ */
+public record TrackedHelpMessage(long authorId, long timestamp, int contentLength, int trimmedContentLength) {
+	/**
+	 * Extracts the tracked information from a {@link Message}.
+	 *
+	 * @param message The {@link Message}.
+	 * @return The {@link TrackedHelpMessage}.
+	 */
+	public static @NotNull TrackedHelpMessage of(@NotNull Message message) {
+		String content = message.getContentDisplay();
+		return new TrackedHelpMessage(
+				message.getAuthor().getIdLong(),
+				message.getTimeCreated().toInstant().toEpochMilli(),
+				content.length(),
+				content.trim().length()
+		);
+	}
+}
@@ -2,6 +2,7 @@ package net.javadiscord.javabot.systems.moderation;
 
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
@@ -13,66 +14,54 @@ import net.javadiscord.javabot.data.h2db.DbHelper;
 import net.javadiscord.javabot.systems.moderation.warn.dao.WarnRepository;
 import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
 import net.javadiscord.javabot.systems.notification.NotificationService;
-import net.javadiscord.javabot.util.ExceptionLogger;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Scanner;
 import java.util.concurrent.ExecutorService;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * This class checks all incoming messages for potential spam/advertising and warns or mutes the potential offender.
  */
 @Slf4j
-// TODO: Refactor this to be more efficient. Especially AutoMod#checkNewMessageAutomod
 public class AutoMod extends ListenerAdapter {
+	/**
+	 * The time window in which a user may only send a limited amount of messages per channel.
+	 */
+	private static final Duration SPAM_WINDOW = Duration.ofSeconds(6);
+	/**
+	 * The amount of previous messages within the {@link AutoMod#SPAM_WINDOW} that, if exceeded, is considered spam.
+	 */
+	private static final int SPAM_THRESHOLD = 5;
 
-	private static final Pattern INVITE_URL = Pattern.compile("discord(?:(\\.(?:me|io|gg)|sites\\.com)/.{0,4}|app\\.com.{1,4}(?:invite|oauth2).{0,5}/)\\w+");
-	private static final Pattern URL_PATTERN = Pattern.compile(
-			"(?:^|[\\W])((ht|f)tp(s?)://|www\\.)"
-					+ "(([\\w\\-]+\\.)+?([\\w\\-.~]+/?)*"
-					+ "[\\p{Alnum}.,%_=?&#\\-+()\\[\\]*$~@!:/{};']*)",
-			Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL);
+	private final MessageRateTracker messageRateTracker = new MessageRateTracker(Clock.systemUTC(), SPAM_WINDOW, SPAM_THRESHOLD + 1);
 	private final NotificationService notificationService;
 	private final BotConfig botConfig;
-	private List<String> spamUrls;
+	private final MessageScanner messageScanner;
 	private final DbHelper dbHelper;
 	private final WarnRepository warnRepository;
 	private final ExecutorService asyncPool;
 
 	/**
-	 * Constructor of the class, that creates a list of strings with potential spam/scam urls.
+	 * Constructor of the class.
 	 * @param notificationService The {@link QOTWPointsService}
 	 * @param botConfig The main configuration of the bot
 	 * @param dbHelper An object managing databse operations
 	 * @param asyncPool The main thread pool for asynchronous operations
 	 * @param warnRepository The main thread pool for asynchronous operations
+	 * @param messageScanner The scanner used for checking message contents
 	 */
-	public AutoMod(NotificationService notificationService, BotConfig botConfig, DbHelper dbHelper, ExecutorService asyncPool, WarnRepository warnRepository) {
+	public AutoMod(NotificationService notificationService, BotConfig botConfig, DbHelper dbHelper, ExecutorService asyncPool, WarnRepository warnRepository, MessageScanner messageScanner) {
 		this.notificationService = notificationService;
 		this.botConfig = botConfig;
 		this.dbHelper = dbHelper;
 		this.warnRepository = warnRepository;
 		this.asyncPool = asyncPool;
-		try(Scanner scan = new Scanner(new URL("https://raw.githubusercontent.com/DevSpen/scam-links/master/src/links.txt").openStream()).useDelimiter("\\A")) {
-			String response = scan.next();
-			spamUrls = List.of(response.split("\n"));
-		} catch (IOException e) {
-			ExceptionLogger.capture(e, getClass().getSimpleName());
-			spamUrls = Collections.emptyList();
-		}
-		log.info("Loaded {} spam URLs!", spamUrls.size());
+		this.messageScanner = messageScanner;
 	}
 
 	@Override
@@ -121,15 +110,9 @@ public class AutoMod extends ListenerAdapter {
 		}
 
 		// spam
-		message.getChannel().getHistory().retrievePast(10).queue(messages -> {
-			int spamCount = (int) messages.stream().filter(msg -> !msg.equals(message))
-					// filter for spam
-					.filter(msg -> msg.getAuthor().equals(message.getAuthor()) && !msg.getAuthor().isBot())
-					.filter(msg -> (message.getTimeCreated().toEpochSecond() - msg.getTimeCreated().toEpochSecond()) < 6).count();
-			if (spamCount > 5) {
-				handleSpam(message, message.getMember());
-			}
-		});
+		if (messageRateTracker.record(message.getAuthor().getIdLong(), message.getChannel().getIdLong()) > SPAM_THRESHOLD) {
+			handleSpam(message, message.getMember());
+		}
 
 		checkContentAutomod(message);
 	}
@@ -198,43 +181,23 @@ public class AutoMod extends ListenerAdapter {
 	}
 
 	/**
-	 * returns the original String cleaned up of unused code points and spaces.
+	 * Checks whether the given message contains a link that might be used to scam people.
 	 *
-	 * @param input the input String.
-	 * @return the cleaned-up String.
+	 * @param message The message to check.
+	 * @return True if a link is found and False if not.
 	 */
-	private @NotNull String cleanString(String input) {
-		input = input.replaceAll("\\p{C}", "");
-		input = input.replace(" ", "");
-		return input;
+	public boolean hasSuspiciousLink(@NotNull Message message) {
+		return messageScanner.scan(message).suspiciousLink();
 	}
 
 	/**
-	 * Checks whether the given message contains a link that might be used to scam people.
+	 * Checks whether the given message content contains a link that might be used to scam people.
 	 *
-	 * @param message The message to check.
+	 * @param messageRaw The raw message content to check.
 	 * @return True if a link is found and False if not.
 	 */
-	public boolean hasSuspiciousLink(@NotNull Message message) {
-		final String messageRaw = message.getContentRaw();
-		Matcher urlMatcher = URL_PATTERN.matcher(messageRaw);
-		if (messageRaw.contains("http://") || messageRaw.contains("https://")) {
-			// only do it for a links, so it won't iterate for each message
-			while (urlMatcher.find()) {
-				String url = urlMatcher.group(0).trim();
-				if (url.startsWith("http://") || url.startsWith("https://")) {
-					try {
-						URI uri = new URI(url);
-						if (uri.getHost() != null && spamUrls.contains(uri.getHost())) {
-							return true;
-						}
-					} catch (URISyntaxException e) {
-						ExceptionLogger.capture(e, getClass().getSimpleName());
-					}
-				}
-			}
-		}
-		return false;
+	public boolean hasSuspiciousLink(@NotNull String messageRaw) {
+		return messageScanner.scan(messageRaw).suspiciousLink();
 	}
 
 	/**
@@ -244,16 +207,21 @@ public class AutoMod extends ListenerAdapter {
 	 * @return True if an invite is found and False if not.
 	 */
 	public boolean hasAdvertisingLink(@NotNull Message message) {
-		// Advertising
-		Matcher matcher = INVITE_URL.matcher(cleanString(message.getContentRaw()));
-		int start = 0;
-		while (matcher.find(start)) {
-			if (botConfig.get(message.getGuild()).getModerationConfig().getAutomodInviteExcludes().stream().noneMatch(matcher.group()::contains)) {
-				return true;
-			}
-			start = matcher.start() + 1;
-		}
-		return false;
+		return hasAdvertisingLink(message.getGuild(), messageScanner.scan(message));
+	}
+
+	/**
+	 * Checks whether an already scanned message contains a discord invite link which isn't excluded in the guild.
+	 *
+	 * @param guild   The guild the message was sent in.
+	 * @param verdict The {@link MessageVerdict} of the message.
+	 * @return True if an invite is found and False if not.
+	 */
+	public boolean hasAdvertisingLink(@NotNull Guild guild, @NotNull MessageVerdict verdict) {
+		List<String> inviteLinks = verdict.inviteLinks();
+		if (inviteLinks.isEmpty()) return false;
+		List<String> excludes = botConfig.get(guild).getModerationConfig().getAutomodInviteExcludes();
+		return inviteLinks.stream().anyMatch(link -> excludes.stream().noneMatch(link::contains));
 	}
 
 	private boolean isSuggestionsChannel(@NotNull TextChannel channel) {
@@ -0,0 +1,121 @@
+package net.javadiscord.javabot.systems.moderation;
+
+import net.dv8tion.jda.api.entities.Message;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Deletes the latest messages of a channel, in batches of up to 100 messages.
+ * Messages which are younger than two weeks are deleted with a single bulk delete request per batch,
+ * older messages have to be deleted one by one.
+ */
+public class MessagePurger {
+	/**
+	 * The maximum amount of messages which can be retrieved, or bulk deleted, with a single request.
+	 */
+	public static final int MAX_BATCH_SIZE = 100;
+
+	/**
+	 * The maximum age of messages which can be bulk deleted. Discord allows two weeks, which is
+	 * reduced by a few minutes so that messages don't become too old while a purge is running.
+	 */
+	public static final Duration BULK_DELETE_MAX_AGE = Duration.ofDays(14).minusMinutes(5);
+
+	private final PurgeTarget target;
+	private final Clock clock;
+
+	/**
+	 * Creates a new purger.
+	 *
+	 * @param target The channel to delete messages from.
+	 * @param clock  The clock used to determine which messages are too old for bulk deletion.
+	 */
+	public MessagePurger(@NotNull PurgeTarget target, @NotNull Clock clock) {
+		this.target = target;
+		this.clock = clock;
+	}
+
+	/**
+	 * Deletes up to the given amount of the channel's latest messages. This method blocks until all messages have
+	 * been deleted.
+	 *
+	 * @param amount   The maximum amount of messages to delete.
+	 * @param userId   The id of the user whose messages should be deleted, or null if messages by any user should be deleted.
+	 * @param archive  Called for every message after it has been deleted.
+	 * @param progress Called with the total amount of deleted messages after every batch.
+	 * @return The total amount of deleted messages.
+	 */
+	public long purge(long amount, @Nullable Long userId, @NotNull Consumer<Message> archive, @NotNull LongConsumer progress) {
+		long count = 0;
+		List<Message> messages;
+		do {
+			// if only a single user's messages are deleted, most retrieved messages may be skipped
+			int batchSize = userId == null ? (int) Math.min(MAX_BATCH_SIZE, amount - count) : MAX_BATCH_SIZE;
+			messages = target.retrievePast(batchSize);
+			List<Message> matching = messages.stream()
+					.filter(m -> userId == null || m.getAuthor().getIdLong() == userId)
+					.limit(amount - count)
+					.toList();
+			if (!matching.isEmpty()) {
+				delete(matching);
+				matching.forEach(archive);
+				count += matching.size();
+				progress.accept(count);
+			}
+		} while (!messages.isEmpty() && count < amount);
+		return count;
+	}
+
+	private void delete(@NotNull List<Message> messages) {
+		OffsetDateTime cutoff = OffsetDateTime.now(clock).minus(BULK_DELETE_MAX_AGE);
+		List<String> bulkDeletable = new ArrayList<>(messages.size());
+		for (Message message : messages) {
+			if (message.getTimeCreated().isAfter(cutoff)) {
+				bulkDeletable.add(message.getId());
+			} else {
+				target.delete(message.getId());
+			}
+		}
+		// bulk deletes require at least two messages
+		if (bulkDeletable.size() == 1) {
+			target.delete(bulkDeletable.get(0));
+		} else if (!bulkDeletable.isEmpty()) {
+			target.bulkDelete(bulkDeletable);
+		}
+	}
+
+	/**
+	 * The channel which messages are deleted from. All methods are blocking.
+	 */
+	public interface PurgeTarget {
+		/**
+		 * Retrieves the messages preceding the ones which have been retrieved before, starting with the latest message.
+		 *
+		 * @param amount The maximum amount of messages to retrieve, up to {@link MessagePurger#MAX_BATCH_SIZE}.
+		 * @return The retrieved messages, or an empty list if there are no more messages.
+		 */
+		List<Message> retrievePast(int amount);
+
+		/**
+		 * Deletes between 2 and {@link MessagePurger#MAX_BATCH_SIZE} messages with a single request.
+		 *
+		 * @param messageIds The ids of the messages.
+		 */
+		void bulkDelete(List<String> messageIds);
+
+		/**
+		 * Deletes a single message.
+		 *
+		 * @param messageId The message's id.
+		 */
+		void delete(String messageId);
+	}
+}
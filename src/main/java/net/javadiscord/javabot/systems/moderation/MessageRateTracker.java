@@ -0,0 +1,95 @@
+package net.javadiscord.javabot.systems.moderation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Keeps track of how many messages a user recently sent in a single channel, using a sliding time window.
+ * <p>
+ * For each user and channel, only a small ring of the latest message timestamps is kept in memory, which
+ * expires once the user stopped sending messages in that channel for longer than the window.
+ */
+public class MessageRateTracker {
+	private final Clock clock;
+	private final long windowMillis;
+	private final int capacity;
+	private final Cache<Key, TimestampRing> rings;
+
+	/**
+	 * Creates a new tracker.
+	 *
+	 * @param clock    The clock used for timestamping messages.
+	 * @param window   The length of the sliding window.
+	 * @param capacity The maximum amount of previous messages that are counted per user and channel.
+	 */
+	public MessageRateTracker(@NotNull Clock clock, @NotNull Duration window, int capacity) {
+		if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive.");
+		this.clock = clock;
+		this.windowMillis = window.toMillis();
+		this.capacity = capacity;
+		this.rings = Caffeine.newBuilder()
+				.expireAfterAccess(window)
+				.ticker(() -> clock.millis() * 1_000_000)
+				.build();
+	}
+
+	/**
+	 * Records a new message and counts how many other messages the same user sent in the same channel
+	 * within the window.
+	 *
+	 * @param userId    The id of the message's author.
+	 * @param channelId The id of the channel the message was sent in.
+	 * @return The amount of previous messages within the window, excluding the new one, but at most the tracker's capacity.
+	 */
+	public int record(long userId, long channelId) {
+		TimestampRing ring = rings.get(new Key(userId, channelId), k -> new TimestampRing(capacity));
+		return ring.add(clock.millis(), windowMillis);
+	}
+
+	/**
+	 * Removes all expired entries.
+	 */
+	public void cleanUp() {
+		rings.cleanUp();
+	}
+
+	/**
+	 * Gets the (approximate) amount of users and channels which are currently tracked.
+	 *
+	 * @return The amount of tracked user/channel pairs.
+	 */
+	public long size() {
+		return rings.estimatedSize();
+	}
+
+	private record Key(long userId, long channelId) {
+	}
+
+	/**
+	 * A fixed-size ring of message timestamps.
+	 */
+	private static final class TimestampRing {
+		private final long[] timestamps;
+		private int next = 0;
+		private int size = 0;
+
+		private TimestampRing(int capacity) {
+			this.timestamps = new long[capacity];
+		}
+
+		private synchronized int add(long now, long windowMillis) {
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (now - timestamps[i] < windowMillis) count++;
+			}
+			timestamps[next] = now;
+			next = (next + 1) % timestamps.length;
+			size = Math.min(size + 1, timestamps.length);
+			return count;
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package net.javadiscord.javabot.systems.moderation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.re2j.Matcher;
+import com.google.re2j.Pattern;
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.util.AhoCorasickAutomaton;
+import net.javadiscord.javabot.util.ExceptionLogger;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scans message content for invite links, URLs, spam domains and profanity.
+ * <p>
+ * The message is walked exactly once with an {@link AhoCorasickAutomaton}, which at the same time builds the
+ * cleaned-up content used for invite detection. The (linear-time) re2j patterns are then only run if the automaton
+ * found a keyword they depend on. Results are cached per message, so that all listeners inspecting the same
+ * message share a single {@link MessageVerdict}.
+ */
+@Service
+public class MessageScanner {
+	private static final Pattern INVITE_URL = Pattern.compile("discord(?:(\\.(?:me|io|gg)|sites\\.com)/.{0,4}|app\\.com.{1,4}(?:invite|oauth2).{0,5}/)\\w+");
+	private static final Pattern URL_PATTERN = Pattern.compile(
+			"(?:^|[\\W])((ht|f)tp(s?)://|www\\.)"
+					+ "(([\\w\\-]+\\.)+?([\\w\\-.~]+/?)*"
+					+ "[[:alnum:].,%_=?&#\\-+()\\[\\]*$~@!:/{};']*)",
+			Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL);
+
+	private static final String PROFANITY = "fuck";
+	private static final int HTTP = 0;
+	private static final int HTTPS = 1;
+	private static final int DISCORD = 2;
+	private static final int FUCK = 3;
+	private static final AhoCorasickAutomaton KEYWORDS = new AhoCorasickAutomaton(List.of("http://", "https://", "discord", PROFANITY));
+
+	private final Cache<Long, MessageVerdict> verdicts = Caffeine.newBuilder()
+			.maximumSize(1000)
+			.expireAfterWrite(Duration.ofMinutes(1))
+			.build();
+	private final SpamDomainIndex spamDomainIndex;
+
+	/**
+	 * The constructor of this class.
+	 *
+	 * @param spamDomainIndex The index of known spam/scam domains.
+	 */
+	public MessageScanner(SpamDomainIndex spamDomainIndex) {
+		this.spamDomainIndex = spamDomainIndex;
+	}
+
+	/**
+	 * Scans a single message, or returns the cached {@link MessageVerdict} if the message with its current
+	 * content has already been scanned.
+	 *
+	 * @param message The {@link Message} to scan.
+	 * @return The {@link MessageVerdict}.
+	 */
+	public @NotNull MessageVerdict scan(@NotNull Message message) {
+		String content = message.getContentRaw();
+		MessageVerdict verdict = verdicts.getIfPresent(message.getIdLong());
+		if (verdict == null || !verdict.content().equals(content)) {
+			verdict = scan(content);
+			verdicts.put(message.getIdLong(), verdict);
+		}
+		return verdict;
+	}
+
+	/**
+	 * Scans the given message content.
+	 *
+	 * @param content The raw message content.
+	 * @return The {@link MessageVerdict}.
+	 */
+	public @NotNull MessageVerdict scan(@NotNull String content) {
+		StringBuilder cleaned = new StringBuilder(content.length());
+		List<Integer> profanityIndices = new ArrayList<>();
+		boolean[] found = new boolean[3];
+		AhoCorasickAutomaton.MatchConsumer rawMatches = (keyword, start) -> {
+			if (keyword == FUCK) {
+				profanityIndices.add(start);
+			} else if (keyword != DISCORD) {
+				found[keyword] = true;
+			}
+		};
+		AhoCorasickAutomaton.MatchConsumer cleanedMatches = (keyword, start) -> {
+			if (keyword == DISCORD) {
+				found[DISCORD] = true;
+			}
+		};
+		int rawState = 0;
+		int cleanedState = 0;
+		int i = 0;
+		while (i < content.length()) {
+			int codePoint = content.codePointAt(i);
+			int charCount = Character.charCount(codePoint);
+			boolean keep = !isRemovedForInviteCheck(codePoint);
+			for (int j = i; j < i + charCount; j++) {
+				rawState = KEYWORDS.step(rawState, content.charAt(j));
+				KEYWORDS.report(rawState, j, rawMatches);
+				if (keep) {
+					cleaned.append(content.charAt(j));
+					cleanedState = KEYWORDS.step(cleanedState, content.charAt(j));
+					KEYWORDS.report(cleanedState, cleaned.length() - 1, cleanedMatches);
+				}
+			}
+			i += charCount;
+		}
+		List<String> urls = found[HTTP] || found[HTTPS] ? findUrls(content) : List.of();
+		return new MessageVerdict(
+				content,
+				found[DISCORD] ? findInviteLinks(cleaned) : List.of(),
+				urls,
+				urls.stream().anyMatch(this::isSpamUrl),
+				List.copyOf(profanityIndices),
+				isProfanity(content)
+		);
+	}
+
+	/**
+	 * Checks whether the given code point is removed from the message content before it is checked for invite links.
+	 * This covers all spaces and "other" code points (control, format, private use, surrogate and unassigned), which
+	 * could otherwise be used to hide an invite link.
+	 *
+	 * @param codePoint The code point to check.
+	 * @return True if the code point is ignored by the invite check.
+	 */
+	private boolean isRemovedForInviteCheck(int codePoint) {
+		if (codePoint == ' ') return true;
+		int type = Character.getType(codePoint);
+		return type == Character.CONTROL || type == Character.FORMAT || type == Character.PRIVATE_USE
+				|| type == Character.SURROGATE || type == Character.UNASSIGNED;
+	}
+
+	private @NotNull List<String> findInviteLinks(CharSequence cleaned) {
+		List<String> invites = new ArrayList<>();
+		Matcher matcher = INVITE_URL.matcher(cleaned);
+		int start = 0;
+		while (start < cleaned.length() && matcher.find(start)) {
+			invites.add(matcher.group());
+			start = matcher.start() + 1;
+		}
+		return invites;
+	}
+
+	private @NotNull List<String> findUrls(String content) {
+		List<String> urls = new ArrayList<>();
+		Matcher matcher = URL_PATTERN.matcher(content);
+		while (matcher.find()) {
+			String url = matcher.group(0).trim();
+			if (url.regionMatches(true, 0, "http://", 0, 7) || url.regionMatches(true, 0, "https://", 0, 8)) {
+				urls.add(url);
+			}
+		}
+		return urls;
+	}
+
+	private boolean isSpamUrl(String url) {
+		try {
+			URI uri = new URI(url);
+			return uri.getHost() != null && spamDomainIndex.isSpamHost(uri.getHost());
+		} catch (URISyntaxException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			return false;
+		}
+	}
+
+	/**
+	 * Checks whether the given content is (a slight variation of) the word 'fuck'. As the Damerau-Levenshtein distance
+	 * is at least the difference in length, this is only computed for contents of three to five characters.
+	 *
+	 * @param content The content to check.
+	 * @return True if the distance of the content to 'fuck' is at most 1.
+	 */
+	private boolean isProfanity(@NotNull String content) {
+		if (Math.abs(content.length() - PROFANITY.length()) > 1) return false;
+		StringBuilder lowerCase = new StringBuilder(content.length());
+		for (int i = 0; i < content.length(); i++) {
+			lowerCase.append(Character.toLowerCase(content.charAt(i)));
+		}
+		return damerauLevenshteinVsFuck(lowerCase.toString()) <= 1;
+	}
+
+	/**
+	 * Calculates the true Damerau-Levenshtein string distance (with adjacent transpositions) of a {@link String}
+	 * against the string {@code "fuck"}.
+	 * @param string The string to compare against.
+	 * @return the distance of the given string.
+	 */
+	private int damerauLevenshteinVsFuck(@NotNull String string) {
+		int sourceLength = string.length();
+		int targetLength = PROFANITY.length();
+		if (sourceLength == 0) return targetLength;
+		int[][] dist = new int[sourceLength + 1][targetLength + 1];
+		for (int i = 0; i < sourceLength + 1; i++) {
+			dist[i][0] = i;
+		}
+		for (int j = 0; j < targetLength + 1; j++) {
+			dist[0][j] = j;
+		}
+		for (int i = 1; i < sourceLength + 1; i++) {
+			for (int j = 1; j < targetLength + 1; j++) {
+				int cost = string.charAt(i - 1) == PROFANITY.charAt(j - 1) ? 0 : 1;
+				dist[i][j] = Math.min(Math.min(dist[i - 1][j] + 1, dist[i][j - 1] + 1), dist[i - 1][j - 1] + cost);
+				if (i > 1 && j > 1 && string.charAt(i - 1) == PROFANITY.charAt(j - 2) && string.charAt(i - 2) == PROFANITY.charAt(j - 1)) {
+					dist[i][j] = Math.min(dist[i][j], dist[i - 2][j - 2] + cost);
+				}
+			}
+		}
+		return dist[sourceLength][targetLength];
+	}
+}
@@ -0,0 +1,24 @@
+package net.javadiscord.javabot.systems.moderation;
+
+import java.util.List;
+
+/**
+ * The result of scanning a single message using the {@link MessageScanner}.
+ * It is shared between all listeners that inspect the same message.
+ *
+ * @param content          The raw message content that was scanned.
+ * @param inviteLinks      All Discord invite links that were found in the cleaned-up message content.
+ * @param urls             All http(s) URLs that were found in the message content.
+ * @param suspiciousLink   Whether any of the URLs points to a known spam/scam domain.
+ * @param profanityIndices The start indices of all occurrences of the word 'fuck', ignoring case.
+ * @param profanity        Whether the whole message is (a slight variation of) the word 'fuck'.
+ */
+public record MessageVerdict(
+		String content,
+		List<String> inviteLinks,
+		List<String> urls,
+		boolean suspiciousLink,
+		List<Integer> profanityIndices,
+		boolean profanity
+) {
+}
@@ -2,8 +2,11 @@ package net.javadiscord.javabot.systems.moderation;
 
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildMessageChannel;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.exceptions.InsufficientPermissionException;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
@@ -19,15 +22,22 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <h3>This class represents the /purge command.</h3>
@@ -35,6 +45,8 @@ import java.util.concurrent.ExecutorService;
  */
 public class PurgeCommand extends ModerateCommand {
 	private static final Path ARCHIVE_DIR = Path.of("purgeArchives");
+	private static final int ARCHIVE_BUFFER_SIZE = 64 * 1024;
+	private static final Duration STATUS_UPDATE_INTERVAL = Duration.ofSeconds(5);
 	private final ExecutorService asyncPool;
 
 	/**
@@ -49,6 +61,7 @@ public class PurgeCommand extends ModerateCommand {
 				.addOption(OptionType.INTEGER, "amount", "Number of messages to remove.", true)
 				.addOption(OptionType.USER, "user", "The user whose messages to remove. If left blank, messages from any user are removed.", false)
 				.addOption(OptionType.BOOLEAN, "archive", "Whether the removed messages should be saved in an archive. This defaults to true, if left blank.", false)
+				.addOption(OptionType.BOOLEAN, "compress", "Whether the archive should be gzip-compressed. This defaults to false, if left blank.", false)
 		);
 	}
 
@@ -58,6 +71,7 @@ public class PurgeCommand extends ModerateCommand {
 		OptionMapping amountOption = event.getOption("amount");
 		OptionMapping userOption = event.getOption("user");
 		boolean archive = event.getOption("archive", true, OptionMapping::getAsBoolean);
+		boolean compress = event.getOption("compress", false, OptionMapping::getAsBoolean);
 
 		ModerationConfig config = botConfig.get(event.getGuild()).getModerationConfig();
 		Long amount = (amountOption == null) ? null : amountOption.getAsLong();
@@ -66,7 +80,7 @@ public class PurgeCommand extends ModerateCommand {
 		if (amount == null || amount < 1 || amount > maxAmount) {
 			return Responses.warning(event, "Invalid amount. Should be between 1 and " + maxAmount + ", inclusive.");
 		}
-		asyncPool.submit(() -> this.purge(amount, user, event.getUser(), archive, event.getChannel(), config.getLogChannel()));
+		asyncPool.submit(() -> this.purge(amount, user, event.getUser(), archive, compress, event.getChannel(), config.getLogChannel()));
 		StringBuilder sb = new StringBuilder();
 		sb.append(amount > 1 ? "Up to " + amount + " messages " : "1 message ");
 		if (user != null) {
@@ -77,93 +91,93 @@ public class PurgeCommand extends ModerateCommand {
 	}
 
 	/**
-	 * Purges messages from a channel.
+	 * Purges messages from a channel. Progress is reported by editing a single message in the log channel.
 	 *
 	 * @param amount      The number of messages to remove.
 	 * @param user        The user whose messages to remove. If null, messages from any
 	 *                    user are removed.
 	 * @param initiatedBy The user which initiated the purge.
 	 * @param archive     Whether to create an archive file for the purge.
+	 * @param compress    Whether the archive file should be gzip-compressed.
 	 * @param channel     The channel to remove messages from.
 	 * @param logChannel  The channel to write log messages to during the purge.
 	 */
-	private void purge(@Nullable Long amount, @Nullable User user, User initiatedBy, boolean archive, MessageChannel channel, TextChannel logChannel) {
-		MessageHistory history = channel.getHistory();
+	private void purge(long amount, @Nullable User user, User initiatedBy, boolean archive, boolean compress, MessageChannel channel, TextChannel logChannel) {
 		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-		String file = String.format("purge_%s_%s.txt", channel.getName(), timestamp);
-		PrintWriter archiveWriter = archive ? createArchiveWriter(channel, logChannel, file) : null;
-		List<Message> messages;
+		String file = String.format("purge_%s_%s.txt%s", channel.getName(), timestamp, compress ? ".gz" : "");
+		PrintWriter archiveWriter = archive ? createArchiveWriter(channel, logChannel, file, compress) : null;
 		OffsetDateTime startTime = OffsetDateTime.now();
-		long count = 0;
-		logChannel.sendMessageFormat("Starting purge of channel %s, initiated by %s", channel.getAsMention(), initiatedBy.getAsMention())
-				.queue();
-		do {
-			messages = history.retrievePast(amount == null ? 100 : (int) Math.min(100, amount)).complete();
-			if (!messages.isEmpty()) {
-				int messagesRemoved = removeMessages(messages, user, archiveWriter);
-				count += messagesRemoved;
-				logChannel.sendMessage(String.format(
-						"Removed **%d** messages from %s; a total of **%d** messages have been removed in this purge so far.",
-						messagesRemoved,
-						channel.getAsMention(),
-						count
-				)).queue();
+		Message status = logChannel.sendMessageFormat("Starting purge of channel %s, initiated by %s", channel.getAsMention(), initiatedBy.getAsMention())
+				.complete();
+		MessagePurger purger = new MessagePurger(new ChannelPurgeTarget(channel), Clock.systemUTC());
+		long[] lastStatusUpdate = {System.nanoTime()};
+		long count;
+		try {
+			count = purger.purge(
+					amount,
+					user == null ? null : user.getIdLong(),
+					message -> {
+						if (archiveWriter != null) archiveMessage(archiveWriter, message);
+					},
+					removed -> {
+						// edits are rate-limited, so the status message is only updated every few seconds
+						long now = System.nanoTime();
+						if (now - lastStatusUpdate[0] >= STATUS_UPDATE_INTERVAL.toNanos()) {
+							lastStatusUpdate[0] = now;
+							status.editMessageFormat("Purging channel %s, initiated by %s; a total of **%d** messages have been removed so far.",
+									channel.getAsMention(), initiatedBy.getAsMention(), removed).queue();
+						}
+					}
+			);
+		} catch (ErrorResponseException | InsufficientPermissionException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			status.editMessageFormat("Purge of channel %s, initiated by %s, has failed: `%s`", channel.getAsMention(), initiatedBy.getAsMention(), e.getMessage()).queue();
+			return;
+		} finally {
+			if (archiveWriter != null) {
+				archiveWriter.close();
 			}
-		} while (!messages.isEmpty() && (amount == null || amount > count));
-		if (archiveWriter != null) {
-			archiveWriter.close();
 		}
+		status.editMessageFormat("Purge of channel %s, initiated by %s, has removed **%d** messages.", channel.getAsMention(), initiatedBy.getAsMention(), count)
+				.queue();
 		MessageCreateAction action = logChannel.sendMessage(String.format(
 				"Purge of channel %s has completed. %d messages have been removed, and the purge took %s.",
 				channel.getAsMention(),
 				count,
 				new TimeUtils().formatDurationToNow(startTime)
 		));
-		if (archive) {
-			action.addFiles(FileUpload.fromData(ARCHIVE_DIR.resolve(file).toFile()));
-		}
-		action.queue();
-	}
-
-	/**
-	 * Deletes the given messages. If user is not null, only messages from that
-	 * user are deleted. If the given archive writer is not null, the message
-	 * will be recorded in the archive.
-	 *
-	 * @param messages      The messages to remove.
-	 * @param user          The user to remove messages for.
-	 * @param archiveWriter The writer to write message archive info to.
-	 * @return The number of messages that were actually deleted.
-	 */
-	private int removeMessages(List<Message> messages, @Nullable User user, @Nullable PrintWriter archiveWriter) {
-		int messagesRemoved = 0;
-		for (Message msg : messages) {
-			if (user == null || msg.getAuthor().equals(user)) {
-				msg.delete().complete();
-				messagesRemoved++;
-				if (archiveWriter != null) {
-					archiveMessage(archiveWriter, msg);
-				}
+		if (archiveWriter != null) {
+			Path archiveFile = ARCHIVE_DIR.resolve(file);
+			// PrintWriter doesn't throw IOExceptions, it only records that one occurred
+			if (archiveWriter.checkError()) {
+				ExceptionLogger.capture(new IOException("Could not write archive file " + archiveFile), getClass().getSimpleName());
+				action.addContent(String.format("%nThe archive at `%s` could not be written completely.", archiveFile));
+			} else {
+				action.addContent(String.format("%nThe archive has been saved at `%s`.", archiveFile));
+				action.addFiles(FileUpload.fromData(archiveFile.toFile()));
 			}
 		}
-		return messagesRemoved;
+		action.queue();
 	}
 
 	/**
-	 * Creates a new {@link PrintWriter} which can be used to record information
+	 * Creates a new buffered {@link PrintWriter} which can be used to record information
 	 * about purged messages from a channel.
 	 *
 	 * @param channel    The channel to create the writer for.
 	 * @param logChannel The log channel, where log messages can be sent.
 	 * @param file       The archive's filename.
+	 * @param compress   Whether the archive should be gzip-compressed.
 	 * @return The print writer to use.
 	 */
-	private @Nullable PrintWriter createArchiveWriter(MessageChannel channel, TextChannel logChannel, String file) {
+	private @Nullable PrintWriter createArchiveWriter(MessageChannel channel, TextChannel logChannel, String file, boolean compress) {
 		try {
 			if (Files.notExists(ARCHIVE_DIR)) Files.createDirectory(ARCHIVE_DIR);
-			Path archiveFile = ARCHIVE_DIR.resolve(file);
-			PrintWriter archiveWriter = new PrintWriter(Files.newBufferedWriter(archiveFile), true);
-			logChannel.sendMessageFormat("Created archive of purge of channel %s at `%s`", channel.getAsMention(), archiveFile).queue();
+			OutputStream out = Files.newOutputStream(ARCHIVE_DIR.resolve(file));
+			if (compress) {
+				out = new GZIPOutputStream(out, ARCHIVE_BUFFER_SIZE);
+			}
+			PrintWriter archiveWriter = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), ARCHIVE_BUFFER_SIZE));
 			archiveWriter.println("Purge of channel " + channel.getName());
 			return archiveWriter;
 		} catch (IOException e) {
@@ -189,4 +203,36 @@ public class PurgeCommand extends ModerateCommand {
 				message.getContentRaw()
 		);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Deletes messages from a Discord channel, using blocking requests.
+	 */
+	private static class ChannelPurgeTarget implements MessagePurger.PurgeTarget {
+		private final MessageChannel channel;
+		private final MessageHistory history;
+
+		ChannelPurgeTarget(MessageChannel channel) {
+			this.channel = channel;
+			this.history = channel.getHistory();
+		}
+
+		@Override
+		public List<Message> retrievePast(int amount) {
+			return history.retrievePast(amount).complete();
+		}
+
+		@Override
+		public void bulkDelete(List<String> messageIds) {
+			if (channel instanceof GuildMessageChannel guildChannel) {
+				guildChannel.deleteMessagesByIds(messageIds).complete();
+			} else {
+				messageIds.forEach(this::delete);
+			}
+		}
+
+		@Override
+		public void delete(String messageId) {
+			channel.deleteMessageById(messageId).complete();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package net.javadiscord.javabot.systems.moderation;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.util.ExceptionLogger;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A hashed index of domains that are known to be used for spam or scams.
+ * <p>
+ * A host is considered suspicious if the host itself, or any of its parent domains, is part of the index.
+ * For example, if {@code domain.tld} is indexed, {@code sub.domain.tld} is suspicious as well.
+ * Each lookup therefore only costs one hash lookup per label of the host.
+ */
+@Slf4j
+@Service
+public class SpamDomainIndex {
+	private static final String BUNDLED_SPAM_LINKS = "/spamLinks.txt";
+
+	private final Set<String> bundledDomains;
+	private final Path localFile;
+	private volatile Set<String> domains;
+
+	/**
+	 * Creates the index from the bundled list of spam links and, if configured, the local spam links file.
+	 *
+	 * @param systemsConfig The bot's systems configuration.
+	 */
+	public SpamDomainIndex(@NotNull SystemsConfig systemsConfig) {
+		this.bundledDomains = loadBundledDomains();
+		this.localFile = systemsConfig.getSpamLinksFile().isBlank() ? null : Path.of(systemsConfig.getSpamLinksFile());
+		this.domains = bundledDomains;
+		refresh();
+	}
+
+	/**
+	 * Re-reads the local spam links file, if one is configured, and merges it with the bundled list.
+	 * If the file cannot be read, the index is left unchanged.
+	 */
+	@Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 60 * 60 * 1000)
+	public void refresh() {
+		if (localFile == null || Files.notExists(localFile)) return;
+		try (Reader reader = Files.newBufferedReader(localFile, StandardCharsets.UTF_8)) {
+			Set<String> merged = new HashSet<>(bundledDomains);
+			merged.addAll(readDomains(reader));
+			domains = Collections.unmodifiableSet(merged);
+			log.info("Loaded {} spam domains (including {})", domains.size(), localFile);
+		} catch (IOException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Checks whether the given host, or any of its parent domains, is a known spam domain.
+	 * Top-level domains on their own are never matched.
+	 *
+	 * @param host The host to check, for example {@code sub.domain.tld}.
+	 * @return True if the host is a known spam domain.
+	 */
+	public boolean isSpamHost(@NotNull String host) {
+		String normalized = normalize(host);
+		Set<String> index = domains;
+		int start = 0;
+		while (normalized.indexOf('.', start) != -1) {
+			if (index.contains(start == 0 ? normalized : normalized.substring(start))) {
+				return true;
+			}
+			start = normalized.indexOf('.', start) + 1;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the amount of indexed domains.
+	 *
+	 * @return The amount of domains.
+	 */
+	public int size() {
+		return domains.size();
+	}
+
+	private static @NotNull Set<String> loadBundledDomains() {
+		InputStream is = SpamDomainIndex.class.getResourceAsStream(BUNDLED_SPAM_LINKS);
+		if (is == null) {
+			log.error("Could not load {}", BUNDLED_SPAM_LINKS);
+			return Set.of();
+		}
+		try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+			Set<String> domains = Collections.unmodifiableSet(readDomains(reader));
+			log.info("Loaded {} spam domains!", domains.size());
+			return domains;
+		} catch (IOException e) {
+			ExceptionLogger.capture(e, SpamDomainIndex.class.getSimpleName());
+			return Set.of();
+		}
+	}
+
+	private static @NotNull Set<String> readDomains(Reader reader) throws IOException {
+		Set<String> domains = new HashSet<>();
+		BufferedReader br = new BufferedReader(reader);
+		String line;
+		while ((line = br.readLine()) != null) {
+			String domain = normalize(line);
+			if (!domain.isEmpty() && !domain.startsWith("#")) {
+				domains.add(domain);
+			}
+		}
+		return domains;
+	}
+
+	private static @NotNull String normalize(@NotNull String host) {
+		String normalized = host.strip().toLowerCase(Locale.ROOT);
+		if (normalized.endsWith(".")) {
+			normalized = normalized.substring(0, normalized.length() - 1);
+		}
+		return normalized;
+	}
+}
@@ -0,0 +1,98 @@
+package net.javadiscord.javabot.systems.moderation.server_lock;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.util.Arrays;
+
+/**
+ * Counts the members who recently joined a single guild, using a ring of per-second buckets.
+ * <p>
+ * Each bucket counts all joins within its second, and separately the joins of members whose accounts
+ * are younger than the configured minimum account age. Recording a join never depends on how many members
+ * joined before, and counting the joins within the last seconds only depends on the length of that window,
+ * so raid checks stay cheap during join bursts. Buckets older than the ring's length are reused.
+ * </p>
+ */
+public class JoinRateTracker {
+	private final Clock clock;
+	private final long[] seconds;
+	private final int[] joins;
+	private final int[] newAccountJoins;
+
+	/**
+	 * Creates a new tracker.
+	 *
+	 * @param clock         The clock used for timestamping joins.
+	 * @param windowSeconds The maximum amount of seconds, for which joins can be counted.
+	 */
+	public JoinRateTracker(@NotNull Clock clock, int windowSeconds) {
+		if (windowSeconds < 1) throw new IllegalArgumentException("Window must be at least one second.");
+		this.clock = clock;
+		this.seconds = new long[windowSeconds];
+		this.joins = new int[windowSeconds];
+		this.newAccountJoins = new int[windowSeconds];
+		Arrays.fill(seconds, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Records a new join.
+	 *
+	 * @param newAccount Whether the member's account is younger than the minimum account age.
+	 */
+	public synchronized void record(boolean newAccount) {
+		int bucket = getBucket(clock.instant().getEpochSecond());
+		joins[bucket]++;
+		if (newAccount) newAccountJoins[bucket]++;
+	}
+
+	/**
+	 * Counts the joins within the last seconds, including the current one.
+	 *
+	 * @param windowSeconds The amount of seconds, which is capped at this tracker's window.
+	 * @return The amount of joins.
+	 */
+	public synchronized int getJoins(int windowSeconds) {
+		return sum(joins, windowSeconds);
+	}
+
+	/**
+	 * Counts the joins of members with new accounts within the last seconds, including the current one.
+	 *
+	 * @param windowSeconds The amount of seconds, which is capped at this tracker's window.
+	 * @return The amount of joins of members whose accounts are younger than the minimum account age.
+	 */
+	public synchronized int getNewAccountJoins(int windowSeconds) {
+		return sum(newAccountJoins, windowSeconds);
+	}
+
+	/**
+	 * Gets the maximum amount of seconds for which joins can be counted.
+	 *
+	 * @return The tracker's window, in seconds.
+	 */
+	public int getWindowSeconds() {
+		return seconds.length;
+	}
+
+	// gets the bucket of the given second, and resets it if it was last used for an older second
+	private int getBucket(long second) {
+		int bucket = (int) Math.floorMod(second, (long) seconds.length);
+		if (seconds[bucket] != second) {
+			seconds[bucket] = second;
+			joins[bucket] = 0;
+			newAccountJoins[bucket] = 0;
+		}
+		return bucket;
+	}
+
+	private int sum(int[] counts, int windowSeconds) {
+		long now = clock.instant().getEpochSecond();
+		int sum = 0;
+		for (long second = now - Math.min(windowSeconds, seconds.length) + 1; second <= now; second++) {
+			int bucket = (int) Math.floorMod(second, (long) seconds.length);
+			if (seconds[bucket] == second) sum += counts[bucket];
+		}
+		return sum;
+	}
+}
@@ -20,12 +20,14 @@ import net.javadiscord.javabot.util.TimeUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -36,48 +38,51 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ServerLockManager extends ListenerAdapter {
 	/**
-	 * Every time we clean the guild member queues, we leave this many members
-	 * in the queue, at least.
+	 * The amount of seconds for which joins are counted.
 	 */
-	private static final int GUILD_MEMBER_QUEUE_CUTOFF = 20;
+	private static final int JOIN_WINDOW_SECONDS = 600;
 
 	/**
-	 * How often to clean the guild member queues, in seconds.
+	 * The maximum amount of recently joined members which are kept per guild, in order to kick them
+	 * if a raid is detected.
 	 */
-	private static final long GUILD_MEMBER_QUEUE_CLEAN_INTERVAL = 30L;
+	private static final int MAX_RECENT_MEMBERS = 100;
+
+	/**
+	 * How long no raid must have been detected before a locked server is unlocked automatically.
+	 */
+	private static final Duration RAID_COOLDOWN = Duration.ofMinutes(5);
+
+	/**
+	 * How often to check whether locked servers can be unlocked, in seconds.
+	 */
+	private static final long UNLOCK_CHECK_INTERVAL = 30L;
 
 	private final NotificationService notificationService;
 	private final BotConfig botConfig;
-	private final Map<Long, Deque<Member>> guildMemberQueues;
+	private final Clock clock = Clock.systemUTC();
+	private final Map<Long, GuildJoins> guildJoins;
 
 	/**
 	 * Contructor that initializes and handles the serverlock.
 	 *
 	 * @param jda The {@link JDA} instance.
 	 * @param notificationService The {@link NotificationService}
-	 * @param asyncPool The thread pool for asynchronous operations
+	 * @param schedulerPool The thread pool for periodic jobs
 	 * @param botConfig The main configuration of the bot
 	 */
-	public ServerLockManager(JDA jda, NotificationService notificationService, BotConfig botConfig, ScheduledExecutorService asyncPool) {
+	public ServerLockManager(JDA jda, NotificationService notificationService, BotConfig botConfig, ScheduledExecutorService schedulerPool) {
 		this.notificationService = notificationService;
 		this.botConfig = botConfig;
-		this.guildMemberQueues = new ConcurrentHashMap<>();
-		asyncPool.scheduleWithFixedDelay(() -> {
+		this.guildJoins = new ConcurrentHashMap<>();
+		schedulerPool.scheduleWithFixedDelay(() -> {
 			for (Guild guild : jda.getGuilds()) {
-				Deque<Member> members = getMemberQueue(guild);
-				while (members.size() > GUILD_MEMBER_QUEUE_CUTOFF) {
-					members.removeLast();
-				}
 				if (isLocked(guild)) {
 					log.info("Checking if it's safe to unlock server {}.", guild.getName());
-					if (!members.isEmpty()) {
-						checkForEndOfRaid(guild);
-					} else {
-						unlockServer(guild, null);
-					}
+					checkForEndOfRaid(guild);
 				}
 			}
-		}, GUILD_MEMBER_QUEUE_CLEAN_INTERVAL, GUILD_MEMBER_QUEUE_CLEAN_INTERVAL, TimeUnit.SECONDS);
+		}, UNLOCK_CHECK_INTERVAL, UNLOCK_CHECK_INTERVAL, TimeUnit.SECONDS);
 	}
 
 	/**
@@ -99,11 +104,14 @@ public class ServerLockManager extends ListenerAdapter {
 	@Override
 	public void onGuildMemberJoin(@NotNull GuildMemberJoinEvent event) {
 		Guild g = event.getGuild();
-		getMemberQueue(g).addFirst(event.getMember());
+		ServerLockConfig config = botConfig.get(g).getServerLockConfig();
+		GuildJoins joins = getGuildJoins(g);
+		boolean newAccount = event.getMember().getTimeCreated().isAfter(OffsetDateTime.now(clock).minusDays(config.getMinimumAccountAgeInDays()));
+		boolean raid = joins.record(event.getMember(), newAccount, getRaidWindowSeconds(config), config.getLockThreshold(), clock.instant());
 		if (isLocked(g)) {
 			rejectUserDuringRaid(event);
-		} else {
-			checkForRaid(g);
+		} else if (raid) {
+			lockServer(g, joins.getRecentMembers(getRaidWindowSeconds(config), clock.instant()), null);
 		}
 	}
 
@@ -111,82 +119,36 @@ public class ServerLockManager extends ListenerAdapter {
 		return botConfig.get(guild).getServerLockConfig().isLocked();
 	}
 
-	private Deque<Member> getMemberQueue(@NotNull Guild guild) {
-		return guildMemberQueues.computeIfAbsent(guild.getIdLong(), n -> new ConcurrentLinkedDeque<>());
+	private GuildJoins getGuildJoins(@NotNull Guild guild) {
+		return guildJoins.computeIfAbsent(guild.getIdLong(), id -> new GuildJoins(new JoinRateTracker(clock, JOIN_WINDOW_SECONDS)));
 	}
 
 	/**
-	 * We use the following criteria to build a list of recently joined members
-	 * who might be potential raiders.
-	 * <ul>
-	 *     <li>More than a threshold number of users whose accounts are younger
-	 *     than a set age have joined.</li>
-	 *     <li>More than a threshold number of users have joined within a small
-	 *     window of time.</li>
-	 * </ul>
+	 * Gets the amount of seconds, within which the lock threshold's amount of members must join for a raid to be
+	 * detected. If members join faster than the minimum amount of seconds between joins on average, and at least
+	 * as many as the lock threshold, the server is locked.
 	 *
-	 * @param guild The guild to check.
-	 * @return The collection of members who we think could be raiding the server.
+	 * @param config The guild's {@link ServerLockConfig}.
+	 * @return The amount of seconds.
 	 */
-	private @NotNull Collection<Member> getPotentialRaiders(Guild guild) {
-		Deque<Member> recentJoins = new LinkedList<>(getMemberQueue(guild));
-		if (recentJoins.isEmpty()) return new HashSet<>();
-		ServerLockConfig config = botConfig.get(guild).getServerLockConfig();
-		final OffsetDateTime accountCreationCutoff = OffsetDateTime.now().minusDays(config.getMinimumAccountAgeInDays());
-		final OffsetDateTime memberJoinCutoff = OffsetDateTime.now().minusMinutes(10);
-
-		Set<Member> potentialRaiders = new HashSet<>();
-		Iterator<Member> it = recentJoins.iterator();
-		Member previousJoin = it.next();
-		// Do account join check for first member, so that we can do the rest during the time delta check loop.
-		if (previousJoin.getTimeCreated().isAfter(accountCreationCutoff)) {
-			potentialRaiders.add(previousJoin);
-		}
-		while (it.hasNext()) {
-			Member member = it.next();
-			// Check the time between when the previous member joined, and when this one joined.
-			float delta = Math.abs(Duration.between(previousJoin.getTimeJoined(), member.getTimeJoined()).toMillis() / 1000.0f);
-			if (delta < config.getMinimumSecondsBetweenJoins()) {
-				potentialRaiders.add(previousJoin);
-				potentialRaiders.add(member);
-			}
-			boolean accountCreatedRecently = member.getTimeCreated().isAfter(accountCreationCutoff);
-			boolean joinedRecently = member.getTimeJoined().isAfter(memberJoinCutoff);
-			boolean joinedRapidlyAfterOther = delta < config.getMinimumSecondsBetweenJoins();
-			// Check if this user has joined Discord recently.
-			if (accountCreatedRecently && joinedRecently && joinedRapidlyAfterOther) {
-				potentialRaiders.add(member);
-			}
-			previousJoin = member;
-		}
-		return potentialRaiders;
+	private int getRaidWindowSeconds(@NotNull ServerLockConfig config) {
+		int seconds = (int) Math.ceil(config.getLockThreshold() * config.getMinimumSecondsBetweenJoins());
+		return Math.max(1, Math.min(seconds, JOIN_WINDOW_SECONDS));
 	}
 
 	/**
-	 * Checks to see if we should lock the guild by analyzing the pattern of
-	 * users who recently joined the guild.
-	 *
-	 * @param guild The guild to check.
-	 */
-	private void checkForRaid(Guild guild) {
-		Collection<Member> potentialRaiders = getPotentialRaiders(guild);
-		ServerLockConfig config = botConfig.get(guild).getServerLockConfig();
-		if (potentialRaiders.size() >= config.getLockThreshold()) {
-			lockServer(guild, potentialRaiders, null);
-		}
-	}
-
-	/**
-	 * Checks to see if we should unlock the guild.
+	 * Checks to see if we should unlock the guild, which is the case once no raid has been detected
+	 * for a while.
 	 *
 	 * @param guild The guild to check.
 	 */
 	private void checkForEndOfRaid(Guild guild) {
 		ServerLockConfig config = botConfig.get(guild).getServerLockConfig();
 		if (!config.isLocked()) return;
-		Collection<Member> potentialRaiders = getPotentialRaiders(guild);
-		log.info("Found {} potential raiders while checking for end of raid.", potentialRaiders.size());
-		if (potentialRaiders.size() < config.getLockThreshold()) {
+		GuildJoins joins = getGuildJoins(guild);
+		log.info("{} members have joined within the last {} seconds while checking for end of raid.",
+				joins.getTracker().getJoins(getRaidWindowSeconds(config)), getRaidWindowSeconds(config));
+		if (Duration.between(joins.getLastRaid(), clock.instant()).compareTo(RAID_COOLDOWN) >= 0) {
 			unlockServer(guild, null);
 		}
 	}
@@ -234,17 +196,26 @@ public class ServerLockManager extends ListenerAdapter {
 				))
 				.collect(Collectors.joining("\n"));
 
+		// keeps the server locked for at least the cooldown, even if it was locked manually
+		getGuildJoins(guild).setLastRaid(clock.instant());
 		GuildConfig config = botConfig.get(guild);
-		config.getServerLockConfig().setLocked("true");
-		botConfig.get(guild).flush();
+		config.edit(c -> c.getServerLockConfig().setLocked("true"));
 		GuildNotificationService notification = notificationService.withGuild(guild);
 		if (lockedBy == null) {
+			ServerLockConfig lockConfig = config.getServerLockConfig();
+			JoinRateTracker tracker = getGuildJoins(guild).getTracker();
+			int windowSeconds = getRaidWindowSeconds(lockConfig);
 			notification.sendToModerationLog(c -> c.sendMessageFormat("""
 							**Server Locked** %s
+							%d members have joined within the last %d seconds, %d of them with accounts younger than %d days.
 							The automated locking system has detected that the following %d users may be part of a raid:
 							%s
 							""",
 					config.getModerationConfig().getStaffRole().getAsMention(),
+					tracker.getJoins(windowSeconds),
+					windowSeconds,
+					tracker.getNewAccountJoins(windowSeconds),
+					lockConfig.getMinimumAccountAgeInDays(),
 					potentialRaiders.size(),
 					membersString
 			));
@@ -260,10 +231,8 @@ public class ServerLockManager extends ListenerAdapter {
 	 * @param unlockedby The user which unlocked the server.
 	 */
 	public void unlockServer(Guild guild, @Nullable User unlockedby) {
-		ServerLockConfig config = botConfig.get(guild).getServerLockConfig();
-		config.setLocked("false");
-		botConfig.get(guild).flush();
-		guildMemberQueues.clear();
+		botConfig.get(guild).edit(c -> c.getServerLockConfig().setLocked("false"));
+		guildJoins.remove(guild.getIdLong());
 		GuildNotificationService notification = notificationService.withGuild(guild);
 		if (unlockedby == null) {
 			notification.sendToModerationLog(c -> c.sendMessage("Server unlocked automatically."));
@@ -271,4 +240,65 @@ public class ServerLockManager extends ListenerAdapter {
 			notification.sendToModerationLog(c -> c.sendMessage("Server unlocked by " + unlockedby.getAsMention()));
 		}
 	}
+
+	/**
+	 * The recent joins of a single guild.
+	 */
+	private static class GuildJoins {
+		private final JoinRateTracker tracker;
+		private final Deque<Member> recentMembers = new ArrayDeque<>(MAX_RECENT_MEMBERS);
+		private Instant lastRaid = Instant.MIN;
+
+		GuildJoins(JoinRateTracker tracker) {
+			this.tracker = tracker;
+		}
+
+		JoinRateTracker getTracker() {
+			return tracker;
+		}
+
+		synchronized Instant getLastRaid() {
+			return lastRaid;
+		}
+
+		synchronized void setLastRaid(Instant lastRaid) {
+			this.lastRaid = lastRaid;
+		}
+
+		/**
+		 * Records a join, and checks whether it is part of a raid.
+		 *
+		 * @param member        The member who joined.
+		 * @param newAccount    Whether the member's account is younger than the minimum account age.
+		 * @param windowSeconds The amount of seconds, within which the threshold's amount of joins indicate a raid.
+		 * @param threshold     The amount of joins which indicate a raid.
+		 * @param now           The current time.
+		 * @return True if a raid has been detected.
+		 */
+		synchronized boolean record(Member member, boolean newAccount, int windowSeconds, int threshold, Instant now) {
+			tracker.record(newAccount);
+			if (recentMembers.size() == MAX_RECENT_MEMBERS) recentMembers.removeLast();
+			recentMembers.addFirst(member);
+			boolean raid = tracker.getJoins(windowSeconds) >= threshold;
+			if (raid) lastRaid = now;
+			return raid;
+		}
+
+		/**
+		 * Gets the members who joined within the given amount of seconds, as far as they're still tracked.
+		 *
+		 * @param windowSeconds The amount of seconds.
+		 * @param now           The current time.
+		 * @return The members, starting with the latest one.
+		 */
+		synchronized List<Member> getRecentMembers(int windowSeconds, Instant now) {
+			OffsetDateTime cutoff = OffsetDateTime.ofInstant(now.minusSeconds(windowSeconds), ZoneOffset.UTC);
+			List<Member> members = new ArrayList<>();
+			for (Member member : recentMembers) {
+				if (member.getTimeJoined().isBefore(cutoff)) break;
+				members.add(member);
+			}
+			return members;
+		}
+	}
 }
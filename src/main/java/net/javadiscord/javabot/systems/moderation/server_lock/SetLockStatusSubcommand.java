@@ -54,8 +54,7 @@ public class SetLockStatusSubcommand extends SlashCommand.Subcommand {
 					"The server is already %slocked!", locked ? "" : "un").queue();
 			return;
 		}
-		config.getServerLockConfig().setLocked(String.valueOf(locked));
-		botConfig.flush();
+		config.edit(c -> c.getServerLockConfig().setLocked(String.valueOf(locked)));
 		if (locked) {
 			serverLockManager.lockServer(event.getGuild(), Collections.emptyList(), event.getUser());
 		} else {
@@ -5,6 +5,8 @@ import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.exceptions.InsufficientPermissionException;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.javadiscord.javabot.data.config.BotConfig;
@@ -16,6 +18,7 @@ import net.javadiscord.javabot.systems.qotw.submissions.SubmissionControlsManage
 import net.javadiscord.javabot.systems.qotw.submissions.dao.QOTWSubmissionRepository;
 import net.javadiscord.javabot.systems.qotw.submissions.model.QOTWSubmission;
 import net.javadiscord.javabot.util.ExceptionLogger;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -26,6 +29,7 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Job which disables the Submission button.
@@ -39,13 +43,25 @@ public class QOTWCloseSubmissionsJob {
 	private final BotConfig botConfig;
 	private final DbHelper dbHelper;
 	private final QOTWSubmissionRepository qotwSubmissionRepository;
+	private final ExecutorService asyncPool;
 
 	/**
 	 * disable the Submission button.
-	 * @throws SQLException if an SQL error occurs
+	 * This blocks on Discord requests, so it runs on the async pool instead of the scheduler. The async pool
+	 * doesn't report failed tasks, so all errors are captured here.
 	 */
 	@Scheduled(cron = "0 0 21 * * 7")//Sunday 21:00
-	public void execute() throws SQLException {
+	public void execute() {
+		asyncPool.execute(() -> {
+			try {
+				closeSubmissions();
+			} catch (SQLException | DataAccessException | ErrorResponseException | InsufficientPermissionException e) {
+				ExceptionLogger.capture(e, getClass().getSimpleName());
+			}
+		});
+	}
+
+	private void closeSubmissions() throws SQLException {
 		for (Guild guild : jda.getGuilds()) {
 			// Disable 'Submit your Answer' button on latest QOTW
 			GuildConfig config = botConfig.get(guild);
@@ -63,9 +79,6 @@ public class QOTWCloseSubmissionsJob {
 					Optional<QOTWSubmission> optionalSubmission = qotwSubmissionRepository.getSubmissionByThreadId(thread.getIdLong());
 					if (optionalSubmission.isEmpty()) continue;
 					new SubmissionControlsManager(botConfig.get(guild), optionalSubmission.get(), pointsService, notificationService).sendControls();
-				} catch (SQLException e) {
-					ExceptionLogger.capture(e, getClass().getSimpleName());
-					throw e;
 				}
 			}
 		}
@@ -12,16 +12,20 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Service class which is used to get and manipulate other {@link QOTWAccount}s.
+ * Ranks, points and leaderboards are answered by a {@link QOTWRankIndex}, which is loaded
+ * once and kept up-to-date by all modifications made through this service.
  */
 @RequiredArgsConstructor
 @Service
 public class QOTWPointsService {
 	private final QuestionPointsRepository pointsRepository;
+	private final QOTWRankIndex rankIndex = new QOTWRankIndex();
 
 	/**
 	 * Creates a new QOTW Account if none exists.
@@ -41,10 +45,30 @@ public class QOTWPointsService {
 			account.setUserId(userId);
 			account.setPoints(0);
 			pointsRepository.insert(account);
+			if (rankIndex.isLoaded()) {
+				rankIndex.set(userId, 0);
+			}
 		}
 		return account;
 	}
 
+	/**
+	 * Sets a single user's QOTW-Points, creating their account if necessary.
+	 *
+	 * @param userId The discord Id of the user.
+	 * @param points The user's new total points.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	@Transactional
+	public void setPoints(long userId, long points) throws DataAccessException {
+		QOTWAccount account = getOrCreateAccount(userId);
+		account.setPoints(points);
+		pointsRepository.update(account);
+		if (rankIndex.isLoaded()) {
+			rankIndex.set(userId, points);
+		}
+	}
+
 	/**
 	 * Gets the given user's QOTW-Rank.
 	 *
@@ -52,12 +76,8 @@ public class QOTWPointsService {
 	 * @return The QOTW-Rank as an integer.
 	 */
 	public int getQOTWRank(long userId) {
-		try{
-			List<QOTWAccount> accounts = pointsRepository.sortByPoints();
-			return accounts.stream()
-					.map(QOTWAccount::getUserId)
-					.toList()
-					.indexOf(userId) + 1;
+		try {
+			return getRankIndex().getRank(userId);
 		} catch (DataAccessException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			return -1;
@@ -72,7 +92,7 @@ public class QOTWPointsService {
 	 */
 	public long getPoints(long userId) {
 		try {
-			return getOrCreateAccount(userId).getPoints();
+			return getRankIndex().getPoints(userId).orElse(0);
 		} catch (DataAccessException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			return -1;
@@ -88,12 +108,15 @@ public class QOTWPointsService {
 	 */
 	public List<Pair<QOTWAccount, Member>> getTopMembers(int n, Guild guild) {
 		try {
-			List<QOTWAccount> accounts = pointsRepository.sortByPoints();
-			return accounts.stream()
-					.map(s -> new Pair<>(s, guild.getMemberById(s.getUserId())))
-					.filter(p -> p.second() != null)
-					.limit(n)
-					.toList();
+			List<Pair<QOTWAccount, Member>> members = new ArrayList<>(n);
+			getRankIndex().forEachDescending(account -> {
+				Member member = guild.getMemberById(account.getUserId());
+				if (member != null) {
+					members.add(new Pair<>(account, member));
+				}
+				return members.size() < n;
+			});
+			return members;
 		} catch (DataAccessException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			return List.of();
@@ -109,7 +132,10 @@ public class QOTWPointsService {
 	 */
 	public List<QOTWAccount> getTopAccounts(int amount, int page) {
 		try {
-			return pointsRepository.getTopAccounts(page, amount);
+			return getRankIndex().getTopAccounts(Math.max(0, (page * amount) - amount), amount)
+					.stream()
+					.filter(account -> account.getPoints() > 0)
+					.toList();
 		} catch (DataAccessException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			return List.of();
@@ -124,16 +150,29 @@ public class QOTWPointsService {
 	 */
 	public long increment(long userId) {
 		try {
-			QOTWAccount account = getOrCreateAccount(userId);
-			account.setPoints(account.getPoints() + 1);
-			if (pointsRepository.update(account)) {
-				return account.getPoints();
-			} else {
-				return 0;
+			long points = pointsRepository.increment(userId, 1);
+			if (rankIndex.isLoaded()) {
+				rankIndex.setAtLeast(userId, points);
 			}
+			return points;
 		} catch (DataAccessException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			return 0;
 		}
 	}
+
+	/**
+	 * Gets the {@link QOTWRankIndex}, loading all accounts into it on first use.
+	 *
+	 * @return The loaded {@link QOTWRankIndex}.
+	 * @throws DataAccessException If the accounts could not be loaded.
+	 */
+	private QOTWRankIndex getRankIndex() throws DataAccessException {
+		synchronized (rankIndex) {
+			if (!rankIndex.isLoaded()) {
+				rankIndex.load(pointsRepository.sortByPoints());
+			}
+		}
+		return rankIndex;
+	}
 }
@@ -0,0 +1,248 @@
+package net.javadiscord.javabot.systems.qotw;
+
+import net.javadiscord.javabot.systems.qotw.model.QOTWAccount;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * An in-memory rank index over all {@link QOTWAccount}s.
+ * <p>
+ * Accounts are kept in an order-statistic tree (a treap whose nodes know the size of their subtree), ordered
+ * by their points in descending order. This allows looking up a user's rank, and updating their points,
+ * in O(log n), and getting a page of k accounts at any offset in O(log n + k). All methods are thread-safe.
+ */
+public class QOTWRankIndex {
+	private final Map<Long, Long> pointsByUser = new HashMap<>();
+	private Node root;
+	private boolean loaded = false;
+
+	/**
+	 * Replaces the contents of this index with the given accounts.
+	 *
+	 * @param accounts All {@link QOTWAccount}s.
+	 */
+	public synchronized void load(@NotNull Collection<QOTWAccount> accounts) {
+		pointsByUser.clear();
+		root = null;
+		for (QOTWAccount account : accounts) {
+			set(account.getUserId(), account.getPoints());
+		}
+		loaded = true;
+	}
+
+	/**
+	 * Checks whether this index has been loaded.
+	 *
+	 * @return True if {@link QOTWRankIndex#load(Collection)} was called before.
+	 */
+	public synchronized boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Sets the points of a single user, adding them to the index if necessary.
+	 *
+	 * @param userId The user's id.
+	 * @param points The user's new total points.
+	 */
+	public synchronized void set(long userId, long points) {
+		Long previous = pointsByUser.put(userId, points);
+		if (previous != null) {
+			Node[] lower = split(root, previous, userId);
+			Node[] upper = split(lower[1], previous, userId + 1);
+			root = merge(lower[0], upper[1]);
+		}
+		Node[] parts = split(root, points, userId);
+		root = merge(merge(parts[0], new Node(points, userId)), parts[1]);
+	}
+
+	/**
+	 * Raises the points of a single user to the given total, unless the index already holds a higher one.
+	 * This is used for concurrent increments, whose results may arrive out of order.
+	 *
+	 * @param userId The user's id.
+	 * @param points The user's total points after an increment.
+	 */
+	public synchronized void setAtLeast(long userId, long points) {
+		Long current = pointsByUser.get(userId);
+		if (current == null || current < points) {
+			set(userId, points);
+		}
+	}
+
+	/**
+	 * Gets the points of a single user.
+	 *
+	 * @param userId The user's id.
+	 * @return The user's points, if they have an account.
+	 */
+	public synchronized OptionalLong getPoints(long userId) {
+		Long points = pointsByUser.get(userId);
+		return points == null ? OptionalLong.empty() : OptionalLong.of(points);
+	}
+
+	/**
+	 * Gets the rank of a single user, which is their position in the index. Users with the same amount of
+	 * points are ordered by their id.
+	 *
+	 * @param userId The user's id.
+	 * @return The user's rank, starting at 1, or 0 if the user has no account.
+	 */
+	public synchronized int getRank(long userId) {
+		Long points = pointsByUser.get(userId);
+		if (points == null) return 0;
+		return countBefore(root, points, userId) + 1;
+	}
+
+	/**
+	 * Walks over all accounts, starting with the one with the most points, until the given
+	 * action returns false.
+	 *
+	 * @param action The action to perform for each account. Returning false stops the iteration.
+	 */
+	public synchronized void forEachDescending(@NotNull Predicate<QOTWAccount> action) {
+		forEach(root, action);
+	}
+
+	/**
+	 * Gets a page of accounts, sorted by their points in descending order.
+	 *
+	 * @param offset The amount of accounts to skip.
+	 * @param limit  The maximum amount of accounts to return.
+	 * @return A {@link List} of {@link QOTWAccount}s.
+	 */
+	public synchronized @NotNull List<QOTWAccount> getTopAccounts(int offset, int limit) {
+		List<QOTWAccount> accounts = new ArrayList<>(Math.max(0, Math.min(limit, size(root))));
+		if (limit <= 0 || offset >= size(root)) return accounts;
+		// descend to the account at the given offset, remembering all ancestors which come after it
+		Deque<Node> stack = new ArrayDeque<>();
+		Node node = root;
+		int remaining = Math.max(0, offset);
+		while (node != null) {
+			int leftSize = size(node.left);
+			if (remaining <= leftSize) {
+				stack.push(node);
+				if (remaining == leftSize) break;
+				node = node.left;
+			} else {
+				remaining -= leftSize + 1;
+				node = node.right;
+			}
+		}
+		while (!stack.isEmpty() && accounts.size() < limit) {
+			Node current = stack.pop();
+			accounts.add(current.toAccount());
+			for (Node next = current.right; next != null; next = next.left) {
+				stack.push(next);
+			}
+		}
+		return accounts;
+	}
+
+	/**
+	 * Gets the amount of indexed accounts.
+	 *
+	 * @return The amount of accounts.
+	 */
+	public synchronized int size() {
+		return pointsByUser.size();
+	}
+
+	// more points come first, ties are broken by the user's id
+	private static int compare(long points, long userId, @NotNull Node node) {
+		if (points != node.points) return points > node.points ? -1 : 1;
+		return Long.compare(userId, node.userId);
+	}
+
+	private static int size(Node node) {
+		return node == null ? 0 : node.size;
+	}
+
+	// splits a tree into all nodes positioned before the given key, and all remaining nodes
+	private static Node[] split(Node node, long points, long userId) {
+		if (node == null) return new Node[]{null, null};
+		if (compare(points, userId, node) > 0) {
+			Node[] parts = split(node.right, points, userId);
+			node.right = parts[0];
+			node.update();
+			return new Node[]{node, parts[1]};
+		} else {
+			Node[] parts = split(node.left, points, userId);
+			node.left = parts[1];
+			node.update();
+			return new Node[]{parts[0], node};
+		}
+	}
+
+	private static Node merge(Node left, Node right) {
+		if (left == null) return right;
+		if (right == null) return left;
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		} else {
+			right.left = merge(left, right.left);
+			right.update();
+			return right;
+		}
+	}
+
+	private static int countBefore(Node node, long points, long userId) {
+		int count = 0;
+		while (node != null) {
+			if (compare(points, userId, node) > 0) {
+				count += size(node.left) + 1;
+				node = node.right;
+			} else {
+				node = node.left;
+			}
+		}
+		return count;
+	}
+
+	private static boolean forEach(Node node, Predicate<QOTWAccount> action) {
+		if (node == null) return true;
+		if (!forEach(node.left, action)) return false;
+		if (!action.test(node.toAccount())) return false;
+		return forEach(node.right, action);
+	}
+
+	/**
+	 * A single node of the tree, representing one account.
+	 */
+	private static final class Node {
+		private final long points;
+		private final long userId;
+		private final int priority = ThreadLocalRandom.current().nextInt();
+		private int size = 1;
+		private Node left;
+		private Node right;
+
+		private Node(long points, long userId) {
+			this.points = points;
+			this.userId = userId;
+		}
+
+		private void update() {
+			size = size(left) + size(right) + 1;
+		}
+
+		private @NotNull QOTWAccount toAccount() {
+			QOTWAccount account = new QOTWAccount();
+			account.setUserId(userId);
+			account.setPoints(points);
+			return account;
+		}
+	}
+}
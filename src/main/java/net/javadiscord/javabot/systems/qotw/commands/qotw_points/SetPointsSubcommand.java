@@ -7,8 +7,6 @@ import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.javadiscord.javabot.systems.qotw.QOTWPointsService;
-import net.javadiscord.javabot.systems.qotw.dao.QuestionPointsRepository;
-import net.javadiscord.javabot.systems.qotw.model.QOTWAccount;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.Responses;
 import org.jetbrains.annotations.NotNull;
@@ -24,18 +22,15 @@ import javax.sql.DataSource;
 public class SetPointsSubcommand extends SlashCommand.Subcommand {
 	private final QOTWPointsService service;
 	private final DataSource dataSource;
-	private final QuestionPointsRepository qotwPointsRepository;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
 	 * @param service The {@link QOTWPointsService}
 	 * @param dataSource A factory for connections to the main database
-	 * @param qotwPointsRepository Dao object that represents the QOTW_POINTS SQL Table.
 	 */
-	public SetPointsSubcommand(QOTWPointsService service, DataSource dataSource, QuestionPointsRepository qotwPointsRepository) {
+	public SetPointsSubcommand(QOTWPointsService service, DataSource dataSource) {
 		this.service = service;
 		this.dataSource = dataSource;
-		this.qotwPointsRepository = qotwPointsRepository;
 		setSubcommandData(new SubcommandData("set", "Allows to modify the QOTW-Points of a single user.")
 				.addOption(OptionType.USER, "user", "The user whose points should be changed.", true)
 				.addOption(OptionType.INTEGER, "points", "The amount of points.", true)
@@ -53,9 +48,7 @@ public class SetPointsSubcommand extends SlashCommand.Subcommand {
 		Member member = memberMapping.getAsMember();
 		long points = pointsMapping.getAsLong();
 		try {
-			QOTWAccount account = service.getOrCreateAccount(member.getIdLong());
-			account.setPoints(points);
-			qotwPointsRepository.update(account);
+			service.setPoints(member.getIdLong(), points);
 			Responses.success(event, "Set QOTW-Points",
 					String.format("Successfully changed the points of %s to %s", member.getUser().getAsMention(), points)).queue();
 		} catch (DataAccessException e) {
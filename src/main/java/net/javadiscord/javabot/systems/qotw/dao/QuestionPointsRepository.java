@@ -1,5 +1,6 @@
 package net.javadiscord.javabot.systems.qotw.dao;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
@@ -7,8 +8,11 @@ import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
@@ -64,6 +68,41 @@ public class QuestionPointsRepository {
 				account.getPoints(), account.getUserId()) > 0;
 	}
 
+	/**
+	 * Atomically adds the given amount of points to a single QOTW Account, creating it if none exists.
+	 * The new total is read back from the same statement, so concurrent increments are never lost.
+	 *
+	 * @param userId The discord Id of the user.
+	 * @param amount The amount of points to add.
+	 * @return The user's total points after the update.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	public long increment(long userId, long amount) throws DataAccessException {
+		try {
+			return mergeIncrement(userId, amount);
+		} catch (DuplicateKeyException e) {
+			// another transaction created the account concurrently, so it is updated instead
+			return mergeIncrement(userId, amount);
+		}
+	}
+
+	private long mergeIncrement(long userId, long amount) throws DataAccessException {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(con -> {
+			PreparedStatement stmt = con.prepareStatement("""
+					MERGE INTO qotw_points t USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT))) s(user_id, amount)
+					ON t.user_id = s.user_id
+					WHEN MATCHED THEN UPDATE SET points = t.points + s.amount
+					WHEN NOT MATCHED THEN INSERT (user_id, points) VALUES (s.user_id, s.amount)""", new String[]{"POINTS"});
+			stmt.setLong(1, userId);
+			stmt.setLong(2, amount);
+			return stmt;
+		}, keyHolder);
+		Number points = keyHolder.getKey();
+		if (points == null) throw new DataAccessException("Points of user " + userId + " were not updated.") {};
+		return points.longValue();
+	}
+
 	/**
 	 * Gets all {@link QOTWAccount} and sorts them by their points.
 	 *
@@ -0,0 +1,182 @@
+package net.javadiscord.javabot.systems.staff_commands.tags;
+
+import net.javadiscord.javabot.systems.staff_commands.tags.model.CustomTag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * An index of a single guild's {@link CustomTag}s, which supports lookups by name, by a name prefix
+ * and by a part of the name. All methods are safe to use concurrently.
+ * <p>
+ * Lookups by a part of the name use an index of all n-grams of up to {@link CustomTagIndex#MAX_GRAM_LENGTH}
+ * characters, so that they only have to check the names which contain the text's rarest n-gram.
+ * </p>
+ */
+public class CustomTagIndex {
+	private static final int MAX_GRAM_LENGTH = 3;
+
+	private final Map<String, CustomTag> tagsByName = new ConcurrentHashMap<>();
+	private final NavigableMap<String, CustomTag> sortedTags = new ConcurrentSkipListMap<>();
+	private final Map<String, NavigableSet<String>> namesByGram = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates an index which contains the given tags.
+	 *
+	 * @param tags The tags to index.
+	 */
+	public CustomTagIndex(@NotNull Collection<CustomTag> tags) {
+		tags.forEach(this::put);
+	}
+
+	/**
+	 * Normalizes a tag's name, or a text that is looked up, so that lookups ignore its case.
+	 *
+	 * @param name The name.
+	 * @return The normalized name.
+	 */
+	public static @NotNull String normalize(@NotNull String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Adds the given tag to this index, replacing any tag with the same name.
+	 *
+	 * @param tag The {@link CustomTag} to add.
+	 */
+	public void put(@NotNull CustomTag tag) {
+		String key = normalize(tag.getName());
+		tagsByName.put(key, tag);
+		sortedTags.put(key, tag);
+		for (String gram : getGrams(key)) {
+			namesByGram.compute(gram, (g, names) -> {
+				NavigableSet<String> result = names == null ? new ConcurrentSkipListSet<>() : names;
+				result.add(key);
+				return result;
+			});
+		}
+	}
+
+	/**
+	 * Removes the tag with the given name from this index.
+	 *
+	 * @param name The tag's name, ignoring case.
+	 * @return The {@link CustomTag} which was removed, if any.
+	 */
+	public Optional<CustomTag> remove(@NotNull String name) {
+		String key = normalize(name);
+		sortedTags.remove(key);
+		for (String gram : getGrams(key)) {
+			namesByGram.computeIfPresent(gram, (g, names) -> {
+				names.remove(key);
+				return names.isEmpty() ? null : names;
+			});
+		}
+		return Optional.ofNullable(tagsByName.remove(key));
+	}
+
+	/**
+	 * Gets the tag with the given name.
+	 *
+	 * @param name The tag's name, ignoring case.
+	 * @return An {@link Optional} which may contain the {@link CustomTag}.
+	 */
+	public Optional<CustomTag> get(@NotNull String name) {
+		return Optional.ofNullable(tagsByName.get(normalize(name)));
+	}
+
+	/**
+	 * Gets the tags whose names start with the given prefix, in alphabetical order.
+	 *
+	 * @param prefix The prefix, ignoring case.
+	 * @param limit  The maximum amount of tags to return.
+	 * @return A {@link List} of matching {@link CustomTag}s.
+	 */
+	public @NotNull List<CustomTag> findByPrefix(@NotNull String prefix, int limit) {
+		String key = normalize(prefix);
+		List<CustomTag> tags = new ArrayList<>(Math.min(limit, sortedTags.size()));
+		for (Map.Entry<String, CustomTag> entry : sortedTags.tailMap(key, true).entrySet()) {
+			if (tags.size() >= limit || !entry.getKey().startsWith(key)) break;
+			tags.add(entry.getValue());
+		}
+		return tags;
+	}
+
+	/**
+	 * Gets the tags whose names contain the given text, but don't start with it, in alphabetical order.
+	 * Together with {@link CustomTagIndex#findByPrefix(String, int)}, this finds all tags whose names contain the text.
+	 *
+	 * @param text  The text, ignoring case.
+	 * @param limit The maximum amount of tags to return.
+	 * @return A {@link List} of matching {@link CustomTag}s.
+	 */
+	public @NotNull List<CustomTag> findContaining(@NotNull String text, int limit) {
+		String key = normalize(text);
+		if (key.isEmpty()) return List.of();
+		// every name which contains the text contains all of its n-grams, so only the names of the rarest one are checked
+		NavigableSet<String> candidates = null;
+		for (String gram : getGrams(key, MAX_GRAM_LENGTH)) {
+			NavigableSet<String> names = namesByGram.get(gram);
+			if (names == null) return List.of();
+			if (candidates == null || names.size() < candidates.size()) candidates = names;
+		}
+		List<CustomTag> tags = new ArrayList<>();
+		for (String name : candidates) {
+			if (tags.size() >= limit) break;
+			if (name.startsWith(key) || !name.contains(key)) continue;
+			CustomTag tag = tagsByName.get(name);
+			if (tag != null) tags.add(tag);
+		}
+		return tags;
+	}
+
+	/**
+	 * Gets all indexed tags, in alphabetical order.
+	 *
+	 * @return An unmodifiable view of all {@link CustomTag}s.
+	 */
+	public @NotNull Collection<CustomTag> getAll() {
+		return Collections.unmodifiableCollection(sortedTags.values());
+	}
+
+	/**
+	 * Gets the amount of indexed tags.
+	 *
+	 * @return The amount of tags.
+	 */
+	public int size() {
+		return tagsByName.size();
+	}
+
+	// gets all distinct substrings of the name with a length of up to MAX_GRAM_LENGTH characters
+	private static @NotNull Set<String> getGrams(@NotNull String name) {
+		Set<String> grams = new HashSet<>();
+		for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+			grams.addAll(getGrams(name, length));
+		}
+		return grams;
+	}
+
+	// gets all substrings of the text with the given length, or the text itself if it's shorter
+	private static @NotNull Set<String> getGrams(@NotNull String text, int length) {
+		if (text.length() <= length) return Set.of(text);
+		Set<String> grams = new HashSet<>();
+		for (int i = 0; i + length <= text.length(); i++) {
+			grams.add(text.substring(i, i + length));
+		}
+		return grams;
+	}
+}
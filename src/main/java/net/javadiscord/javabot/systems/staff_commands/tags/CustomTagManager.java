@@ -21,6 +21,7 @@ import org.springframework.stereotype.Service;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -31,11 +32,8 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class CustomTagManager {
-	private static final Map<Long, Set<CustomTag>> LOADED_TAGS;
-
-	static {
-		LOADED_TAGS = new HashMap<>();
-	}
+	private static final int MAX_CHOICES = 25;
+	private static final Map<Long, CustomTagIndex> LOADED_TAGS = new ConcurrentHashMap<>();
 
 	private final DataSource dataSource;
 	private final CustomTagRepository customTagRepository;
@@ -47,31 +45,38 @@ public class CustomTagManager {
 	 * @return The cleaned string.
 	 */
 	public static @NotNull String cleanString(@NotNull String s) {
-		return s.trim()
-				.toLowerCase()
+		return CustomTagIndex.normalize(s.trim())
 				.replaceAll("\\s+", "-")
 				.replace("/", "");
 	}
 
 	/**
-	 * Replies with all available custom tags.
+	 * Replies with all available custom tags. Tags starting with the given text are listed first,
+	 * followed by tags which only contain it.
 	 *
 	 * @param guild The current {@link Guild}.
-	 * @param text The text choices need to match
+	 * @param text The text choices need to match, ignoring case
 	 * @return A {@link List} with all Option Choices.
 	 */
 	public static @NotNull List<Command.Choice> replyTags(@NotNull Guild guild, String text) {
-		List<Command.Choice> choices = new ArrayList<>(25);
-		for (CustomTag command : LOADED_TAGS.get(guild.getIdLong())) {
-			if (choices.size() < 26 && command.getName().toLowerCase().contains(text)) {
-				choices.add(new Command.Choice(command.getName(), command.getName()));
+		CustomTagIndex index = LOADED_TAGS.get(guild.getIdLong());
+		if (index == null) {
+			return List.of();
+		}
+		List<Command.Choice> choices = new ArrayList<>(MAX_CHOICES);
+		for (CustomTag tag : index.findByPrefix(text, MAX_CHOICES)) {
+			choices.add(new Command.Choice(tag.getName(), tag.getName()));
+		}
+		if (choices.size() < MAX_CHOICES) {
+			for (CustomTag tag : index.findContaining(text, MAX_CHOICES - choices.size())) {
+				choices.add(new Command.Choice(tag.getName(), tag.getName()));
 			}
 		}
 		return choices;
 	}
 
 	public static @NotNull AutoCompleteCallbackAction handleAutoComplete(@NotNull CommandAutoCompleteInteractionEvent event) {
-		return event.replyChoices(AutoCompleteUtils.handleChoices(event, e -> replyTags(e.getGuild(), e.getFocusedOption().getValue().toLowerCase())));
+		return event.replyChoices(AutoCompleteUtils.handleChoices(event, e -> replyTags(e.getGuild(), e.getFocusedOption().getValue())));
 	}
 
 	/**
@@ -109,10 +114,11 @@ public class CustomTagManager {
 	 */
 	public void init(JDA jda) throws SQLException {
 		for (Guild guild : jda.getGuilds()) {
-			Set<CustomTag> tags = LOADED_TAGS.put(guild.getIdLong(), getCustomTags(guild.getIdLong()));
-			if (tags != null && !tags.isEmpty()) {
-				log.info("Loaded {} Custom Tags for Guild \"{}\": {}", tags.size(), guild.getName(),
-						tags.stream().map(CustomTag::getName).collect(Collectors.joining(", ")));
+			CustomTagIndex index = new CustomTagIndex(getCustomTags(guild.getIdLong()));
+			LOADED_TAGS.put(guild.getIdLong(), index);
+			if (index.size() > 0) {
+				log.info("Loaded {} Custom Tags for Guild \"{}\": {}", index.size(), guild.getName(),
+						index.getAll().stream().map(CustomTag::getName).collect(Collectors.joining(", ")));
 			}
 		}
 	}
@@ -133,10 +139,11 @@ public class CustomTagManager {
 	 * Gets all loaded {@link CustomTag}s for the specified {@link Guild}.
 	 *
 	 * @param guildId The {@link Guild}s id.
-	 * @return An unmodifiable {@link Set} of all {@link CustomTag}s for the current guild.
+	 * @return An unmodifiable {@link Collection} of all {@link CustomTag}s for the current guild, sorted by their name.
 	 */
-	public Set<CustomTag> getLoadedCommands(long guildId) {
-		return LOADED_TAGS.get(guildId);
+	public Collection<CustomTag> getLoadedCommands(long guildId) {
+		CustomTagIndex index = LOADED_TAGS.get(guildId);
+		return index == null ? List.of() : index.getAll();
 	}
 
 	/**
@@ -147,9 +154,8 @@ public class CustomTagManager {
 	 * @return An {@link Optional} which may contains the desired {@link CustomTag}.
 	 */
 	public Optional<CustomTag> getByName(long guildId, String name) {
-		return getLoadedCommands(guildId).stream()
-				.filter(c -> c.getName().equalsIgnoreCase(name))
-				.findFirst();
+		CustomTagIndex index = LOADED_TAGS.get(guildId);
+		return index == null ? Optional.empty() : index.get(name);
 	}
 
 	/**
@@ -164,11 +170,10 @@ public class CustomTagManager {
 		if (doesTagExist(guild.getIdLong(), tag.getName())) {
 			return false;
 		}
-		Set<CustomTag> tags = new HashSet<>(LOADED_TAGS.get(guild.getIdLong()));
-		tags.add(tag);
-		LOADED_TAGS.put(guild.getIdLong(), tags);
+		CustomTag inserted = customTagRepository.insert(tag);
+		getIndex(guild.getIdLong()).put(inserted);
 		log.info("Created Custom Tag in guild \"{}\": {}", guild.getName(), tag.getName());
-		return customTagRepository.insert(tag) != null;
+		return true;
 	}
 
 	/**
@@ -184,7 +189,7 @@ public class CustomTagManager {
 			return false;
 		}
 		customTagRepository.delete(tag);
-		LOADED_TAGS.put(guildId, new HashSet<>(getCustomTags(guildId)));
+		getIndex(guildId).remove(tag.getName());
 		log.info("Deleted Custom Tag in guild \"{}\": {}", guildId, tag);
 		return true;
 	}
@@ -202,8 +207,7 @@ public class CustomTagManager {
 		if (!doesTagExist(guildId, old.getName())) {
 			return false;
 		}
-		customTagRepository.edit(old, update);
-		LOADED_TAGS.put(guildId, new HashSet<>(getCustomTags(guildId)));
+		getIndex(guildId).put(customTagRepository.edit(old, update));
 		log.info("Edited Custom Tag in guild \"{}\": {} -> {}", guildId, old, update);
 		return true;
 	}
@@ -216,7 +220,11 @@ public class CustomTagManager {
 	 * @return Whether a {@link CustomTag} already exists with that name.
 	 */
 	private boolean doesTagExist(long guildId, String tagName) {
-		Set<CustomTag> tags = LOADED_TAGS.get(guildId);
-		return tags != null && tags.stream().anyMatch(c -> c.getName().equalsIgnoreCase(tagName));
+		return getByName(guildId, tagName).isPresent();
+	}
+
+	// gets the guild's index, creating an empty one for guilds which were not loaded on startup
+	private @NotNull CustomTagIndex getIndex(long guildId) {
+		return LOADED_TAGS.computeIfAbsent(guildId, id -> new CustomTagIndex(List.of()));
 	}
 }
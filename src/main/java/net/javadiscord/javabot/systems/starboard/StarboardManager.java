@@ -1,5 +1,7 @@
 package net.javadiscord.javabot.systems.starboard;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -25,20 +27,36 @@ import net.javadiscord.javabot.util.Responses;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
 /**
  * Handles & manages all starboard interactions.
+ * <p>
+ * Reactions don't update the starboard directly. Instead, an update of the message is scheduled, and all reactions
+ * until that update runs are coalesced into it. Starboard entries are cached by their original message's id.
+ * </p>
  */
 @Slf4j
 @RequiredArgsConstructor
 public class StarboardManager extends ListenerAdapter {
+	private static final long UPDATE_DELAY_MILLIS = 2000;
+
+	private final Map<Long, PendingUpdate> pendingUpdates = new ConcurrentHashMap<>();
+	private final Cache<Long, Optional<StarboardEntry>> entries = Caffeine.newBuilder()
+			.expireAfterAccess(Duration.ofDays(1))
+			.maximumSize(10_000)
+			.build();
 	private final BotConfig botConfig;
-	private final ExecutorService asyncPool;
+	private final ScheduledExecutorService asyncPool;
 	private final DataSource dataSource;
 	private final DbHelper dbHelper;
 	private final StarboardRepository starboardRepository;
@@ -58,34 +76,65 @@ public class StarboardManager extends ListenerAdapter {
 	}
 
 	private void handleReactionEvent(Guild guild, Emoji emoji, MessageChannel channel, long messageId) {
-		asyncPool.submit(() -> {
-			StarboardConfig config = botConfig.get(guild).getStarboardConfig();
-			if (config.getStarboardChannel().equals(channel)) return;
-			Emoji starEmote = config.getEmojis().get(0);
-			if (!emoji.equals(starEmote)) return;
-			channel.retrieveMessageById(messageId).queue(
-					message -> {
-						int stars = getReactionCountForEmote(starEmote, message);
-						asyncPool.execute(()->{
-							try {
-								starboardRepository
-									.getEntryByMessageId(message.getIdLong())
-									.ifPresentOrElse(entry->{
-										updateStarboardMessage(message, stars, config);
-									}, ()->{
-										if (stars >= config.getReactionThreshold()) {
-											addMessageToStarboard(message, stars, config);
-										} else if (stars < 1 && !removeMessageFromStarboard(message.getIdLong(), channel, config)) {
-											log.error("Could not remove Message from Starboard");
-										}
-									});
-							} catch (DataAccessException e) {
-								ExceptionLogger.capture(e, StarboardManager.class.getSimpleName());
-							}
-						});
-					}, e -> log.error("Could not add Message to Starboard", e)
-			);
+		StarboardConfig config = botConfig.get(guild).getStarboardConfig();
+		if (config.getStarboardChannel() == null || config.getStarboardChannel().equals(channel)) return;
+		if (!emoji.equals(config.getEmojis().get(0))) return;
+		scheduleUpdate(channel, messageId, config);
+	}
+
+	/**
+	 * Schedules an update of the given message's starboard entry. If an update of that message is already
+	 * scheduled, it is not scheduled again. If it is currently running, it is run once more afterwards, so that
+	 * the latest amount of stars is always used eventually.
+	 *
+	 * @param channel   The channel the message was sent in.
+	 * @param messageId The message's id.
+	 * @param config    The guild's {@link StarboardConfig}.
+	 */
+	private void scheduleUpdate(MessageChannel channel, long messageId, StarboardConfig config) {
+		pendingUpdates.compute(messageId, (id, update) -> {
+			if (update == null) {
+				asyncPool.schedule(() -> runUpdate(id), UPDATE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+				return new PendingUpdate(channel, config);
+			}
+			update.outdated = true;
+			return update;
+		});
+	}
+
+	private void runUpdate(long messageId) {
+		PendingUpdate update = pendingUpdates.computeIfPresent(messageId, (id, u) -> {
+			u.outdated = false;
+			return u;
 		});
+		if (update == null) return;
+		// errors thrown while starting the update complete the future exceptionally as well, so the entry is always cleaned up
+		CompletableFuture.completedFuture(update)
+				.thenCompose(u -> updateStarboard(u.channel, messageId, u.config))
+				.whenComplete((v, e) -> {
+					if (e != null) {
+						ExceptionLogger.capture(e, StarboardManager.class.getSimpleName());
+						log.error("Could not update Starboard for message " + messageId, e);
+					}
+					// runs the update again if there were new reactions in the meantime
+					if (pendingUpdates.computeIfPresent(messageId, (id, u) -> u.outdated ? u : null) != null) {
+						asyncPool.execute(() -> runUpdate(messageId));
+					}
+				});
+	}
+
+	private @NotNull CompletableFuture<Void> updateStarboard(@NotNull MessageChannel channel, long messageId, @NotNull StarboardConfig config) {
+		return channel.retrieveMessageById(messageId).submit().thenComposeAsync(message -> {
+			int stars = getReactionCountForEmote(config.getEmojis().get(0), message);
+			Optional<StarboardEntry> entry = getEntry(messageId);
+			if (entry.isPresent()) {
+				return updateStarboardMessage(message, entry.get(), stars, config);
+			}
+			if (stars >= config.getReactionThreshold()) {
+				return addMessageToStarboard(message, stars, config);
+			}
+			return CompletableFuture.completedFuture(null);
+		}, asyncPool);
 	}
 
 	private boolean isInvalidChannel(@NotNull MessageChannel channel) {
@@ -102,7 +151,7 @@ public class StarboardManager extends ListenerAdapter {
 			if (event.getChannel().getIdLong() == config.getStarboardChannelId()) {
 				entry = starboardRepository.getEntryByStarboardMessageId(event.getMessageIdLong());
 			} else {
-				entry = starboardRepository.getEntryByMessageId(event.getMessageIdLong());
+				entry = getEntry(event.getMessageIdLong());
 			}
 			entry.ifPresent(e->{
 				if (!removeMessageFromStarboard(e.getOriginalMessageId(), event.getChannel(), config)) {
@@ -119,6 +168,17 @@ public class StarboardManager extends ListenerAdapter {
 		return user == null || user.isBot() || user.isSystem();
 	}
 
+	/**
+	 * Gets the starboard entry of the given message from the cache, or from the database if it is not cached.
+	 *
+	 * @param messageId The original message's id.
+	 * @return The {@link StarboardEntry}, if the message is on the starboard.
+	 * @throws DataAccessException If an error occurs.
+	 */
+	private Optional<StarboardEntry> getEntry(long messageId) throws DataAccessException {
+		return entries.get(messageId, starboardRepository::getEntryByMessageId);
+	}
+
 	/**
 	 * Attemps to get the amount of reactions for the given emote.
 	 *
@@ -134,79 +194,73 @@ public class StarboardManager extends ListenerAdapter {
 				.orElse(0);
 	}
 
-	private void addMessageToStarboard(Message message, int stars, @NotNull StarboardConfig config) throws DataAccessException {
-		if (stars < config.getReactionThreshold()) return;
+	private @NotNull CompletableFuture<Void> addMessageToStarboard(Message message, int stars, @NotNull StarboardConfig config) {
 		MessageEmbed embed = buildStarboardEmbed(message);
-		MessageCreateAction action = config.getStarboardChannel()
-				.sendMessage(String.format("%s %s", config.getEmojis().get(0), stars))
-				.setActionRow(Button.link(message.getJumpUrl(), "Jump to Message"))
-				.setEmbeds(embed);
-		for (Message.Attachment a : message.getAttachments()) {
-			try {
-				action.addFiles(FileUpload.fromData(a.getProxy().download().get(), a.getFileName()));
-			} catch (InterruptedException | ExecutionException e) {
-				action.addContent("Could not add Attachment: " + a.getFileName());
-			}
-		}
-		action.queue(starboardMessage -> {
-				StarboardEntry entry = new StarboardEntry();
-				entry.setOriginalMessageId(message.getIdLong());
-				entry.setGuildId(message.getGuild().getIdLong());
-				entry.setChannelId(message.getChannel().getIdLong());
-				entry.setAuthorId(message.getAuthor().getIdLong());
-				entry.setStarboardMessageId(starboardMessage.getIdLong());
-				asyncPool.execute(()->{
-					try {
-						starboardRepository.insert(entry);
-					} catch (DataAccessException e) {
-						ExceptionLogger.capture(e, StarboardManager.class.getSimpleName());
-					}
-				});
-			}, e -> log.error("Could not send Message to Starboard", e)
-		);
-	}
-
-	private void updateStarboardMessage(@NotNull Message message, int stars, @NotNull StarboardConfig config) throws DataAccessException {
-		Optional<StarboardEntry> starboardEntry = starboardRepository.getEntryByMessageId(message.getIdLong());
-		starboardEntry.ifPresentOrElse(entry->{
-			long starboardId = entry.getStarboardMessageId();
-			config.getStarboardChannel().retrieveMessageById(starboardId).queue(
-					starboardMessage -> {
-						if (starboardMessage.getAuthor().getIdLong() != message.getJDA().getSelfUser().getIdLong()) {
-							log.error("Could not update/edit Starboard entry ({}), as it was created by another account.", starboardEntry);
-							return;
-						}
-						if (stars < 1) {
-							try {
-								if (!removeMessageFromStarboard(message.getIdLong(), message.getChannel(), config)) {
-									log.error("Could not remove Message from Starboard");
-								}
-							} catch (DataAccessException e) {
-								ExceptionLogger.capture(e, getClass().getSimpleName());
-							}
+		List<Message.Attachment> attachments = message.getAttachments();
+		// the attachments are streamed into the upload, without blocking a thread while they're downloaded
+		List<CompletableFuture<FileUpload>> uploads = attachments.stream()
+				.map(a -> a.getProxy().download()
+						.thenApply(data -> FileUpload.fromData(data, a.getFileName()))
+						.exceptionally(e -> null))
+				.toList();
+		return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+				.thenCompose(v -> {
+					MessageCreateAction action = config.getStarboardChannel()
+							.sendMessage(String.format("%s %s", config.getEmojis().get(0), stars))
+							.setActionRow(Button.link(message.getJumpUrl(), "Jump to Message"))
+							.setEmbeds(embed);
+					for (int i = 0; i < attachments.size(); i++) {
+						FileUpload upload = uploads.get(i).join();
+						if (upload == null) {
+							action.addContent("\nCould not add Attachment: " + attachments.get(i).getFileName());
 						} else {
-							UnicodeEmoji starEmote = config.getEmojis().get(0);
-							if (stars > 10) starEmote = config.getEmojis().get(1);
-							if (stars > 25) starEmote = config.getEmojis().get(2);
-							starboardMessage.editMessage(
-											String.format("%s %s | %s", starEmote, stars, message.getChannel().getAsMention()))
-									.queue();
-						}
-					}, e -> {
-						log.error("Could not retrieve original Message. Deleting corresponding Starboard Entry...");
-						try {
-							removeMessageFromStarboard(message.getIdLong(), message.getChannel(), config);
-						} catch (DataAccessException ex) {
-							ex.printStackTrace();
+							action.addFiles(upload);
 						}
 					}
-			);
-		}, ()->log.error("updateStarboardMessage called but StarboardEntry was not found"));
+					return action.submit();
+				})
+				.thenAcceptAsync(starboardMessage -> {
+					StarboardEntry entry = new StarboardEntry();
+					entry.setOriginalMessageId(message.getIdLong());
+					entry.setGuildId(message.getGuild().getIdLong());
+					entry.setChannelId(message.getChannel().getIdLong());
+					entry.setAuthorId(message.getAuthor().getIdLong());
+					entry.setStarboardMessageId(starboardMessage.getIdLong());
+					starboardRepository.insert(entry);
+					entries.put(entry.getOriginalMessageId(), Optional.of(entry));
+				}, asyncPool);
+	}
 
+	private @NotNull CompletableFuture<Void> updateStarboardMessage(@NotNull Message message, @NotNull StarboardEntry entry, int stars, @NotNull StarboardConfig config) {
+		if (stars < 1) {
+			if (!removeMessageFromStarboard(message.getIdLong(), message.getChannel(), config)) {
+				log.error("Could not remove Message from Starboard");
+			}
+			return CompletableFuture.completedFuture(null);
+		}
+		return config.getStarboardChannel().retrieveMessageById(entry.getStarboardMessageId()).submit().handleAsync(
+				(starboardMessage, e) -> {
+					if (e != null) {
+						log.error("Could not retrieve Starboard Message. Deleting corresponding Starboard Entry...");
+						removeMessageFromStarboard(message.getIdLong(), message.getChannel(), config);
+						return null;
+					}
+					if (starboardMessage.getAuthor().getIdLong() != message.getJDA().getSelfUser().getIdLong()) {
+						log.error("Could not update/edit Starboard entry ({}), as it was created by another account.", entry);
+						return null;
+					}
+					UnicodeEmoji starEmote = config.getEmojis().get(0);
+					if (stars > 10) starEmote = config.getEmojis().get(1);
+					if (stars > 25) starEmote = config.getEmojis().get(2);
+					starboardMessage.editMessage(
+									String.format("%s %s | %s", starEmote, stars, message.getChannel().getAsMention()))
+							.queue();
+					return null;
+				}, asyncPool);
 	}
 
 	private boolean removeMessageFromStarboard(long messageId, MessageChannel channel, StarboardConfig config) throws DataAccessException {
-		Optional<StarboardEntry> entry = starboardRepository.getEntryByMessageId(messageId);
+		Optional<StarboardEntry> entry = getEntry(messageId);
 		if (entry.isEmpty()) return false;
 		if (!channel.equals(config.getStarboardChannel())) {
 			config.getStarboardChannel().retrieveMessageById(entry.get().getStarboardMessageId()).queue(
@@ -214,6 +268,7 @@ public class StarboardManager extends ListenerAdapter {
 			);
 		}
 		starboardRepository.delete(messageId);
+		entries.put(messageId, Optional.empty());
 		log.info("Removed Starboard Entry with message Id {}", messageId);
 		return true;
 	}
@@ -227,4 +282,19 @@ public class StarboardManager extends ListenerAdapter {
 				.setFooter("#" + message.getChannel().getName())
 				.build();
 	}
+
+	/**
+	 * A scheduled update of a single message's starboard entry. The outdated flag is only accessed while
+	 * holding the lock of its entry in {@link StarboardManager#pendingUpdates}.
+	 */
+	private static class PendingUpdate {
+		private final MessageChannel channel;
+		private final StarboardConfig config;
+		private boolean outdated;
+
+		PendingUpdate(MessageChannel channel, StarboardConfig config) {
+			this.channel = channel;
+			this.config = config;
+		}
+	}
 }
@@ -34,16 +34,16 @@ import java.util.concurrent.ExecutorService;
 @AutoDetectableComponentHandler("experience-leaderboard")
 public class ExperienceLeaderboardSubcommand extends SlashCommand.Subcommand implements ButtonHandler {
 	private static final int PAGE_SIZE = 5;
-	private final ExecutorService asyncPool;
+	private final ExecutorService imagePool;
 	private final HelpAccountRepository helpAccountRepository;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
 	 * @param helpAccountRepository Dao object that represents the HELP_ACCOUNT SQL Table.
-	 * @param asyncPool the main thread pool for asynchronous operations
+	 * @param imagePool the thread pool for rendering images
 	 */
-	public ExperienceLeaderboardSubcommand(HelpAccountRepository helpAccountRepository, ExecutorService asyncPool) {
-		this.asyncPool = asyncPool;
+	public ExperienceLeaderboardSubcommand(HelpAccountRepository helpAccountRepository, ExecutorService imagePool) {
+		this.imagePool = imagePool;
 		this.helpAccountRepository = helpAccountRepository;
 		setSubcommandData(new SubcommandData("help-experience", "The Help Experience Leaderboard.")
 				.addOption(OptionType.INTEGER, "page", "The page of results to show. By default it starts at 1.", false)
@@ -54,7 +54,7 @@ public class ExperienceLeaderboardSubcommand extends SlashCommand.Subcommand imp
 	public void handleButton(@NotNull ButtonInteractionEvent event, Button button) {
 		event.deferEdit().queue();
 		String[] id = ComponentIdBuilder.split(event.getComponentId());
-		asyncPool.execute(() -> {
+		imagePool.execute(() -> {
 			try {
 				int page = Integer.parseInt(id[2]);
 				// increment/decrement page
@@ -109,7 +109,7 @@ public class ExperienceLeaderboardSubcommand extends SlashCommand.Subcommand imp
 	public void execute(@NotNull SlashCommandInteractionEvent event) {
 		int page = event.getOption("page", 1, OptionMapping::getAsInt);
 		event.deferReply().queue();
-		asyncPool.execute(() -> {
+		imagePool.execute(() -> {
 			try {
 				event.getHook().sendMessageEmbeds(buildExperienceLeaderboard(event.getGuild(), helpAccountRepository, page))
 					.setComponents(buildPageControls(page))
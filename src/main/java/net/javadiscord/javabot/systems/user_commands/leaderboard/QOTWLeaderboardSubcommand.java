@@ -15,7 +15,6 @@ import java.util.concurrent.ExecutorService;
 import javax.imageio.ImageIO;
 
 import org.jetbrains.annotations.NotNull;
-import org.springframework.dao.DataAccessException;
 
 import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
 
@@ -29,7 +28,6 @@ import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
 import net.dv8tion.jda.api.utils.FileUpload;
 import net.javadiscord.javabot.systems.qotw.QOTWPointsService;
-import net.javadiscord.javabot.systems.qotw.dao.QuestionPointsRepository;
 import net.javadiscord.javabot.systems.qotw.model.QOTWAccount;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.ImageCache;
@@ -45,6 +43,10 @@ public class QOTWLeaderboardSubcommand extends SlashCommand.Subcommand {
 	private static final Color SECONDARY_COLOR = Color.decode("#414A52");
 	private static final int DISPLAY_COUNT = 10;
 	private static final int MARGIN = 40;
+	private static final int AVATAR_SIZE = 200;
+	private static final String FONT_PATH = "assets/fonts/Uni-Sans-Heavy.ttf";
+	private static final String CARD_PATH = "assets/images/LeaderboardUserCard.png";
+	private static final String CACHE_TAG = "qotw_leaderboard";
 
 	/**
 	 * The image's width.
@@ -52,34 +54,31 @@ public class QOTWLeaderboardSubcommand extends SlashCommand.Subcommand {
 	private static final int WIDTH = 3000;
 
 	private final QOTWPointsService pointsService;
-	private final ExecutorService asyncPool;
-	private final QuestionPointsRepository qotwPointsRepository;
+	private final ExecutorService imagePool;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
 	 * @param pointsService The {@link QOTWPointsService} managing {@link QOTWAccount}s
-	 * @param asyncPool The thread pool for asynchronous operations
-	 * @param qotwPointsRepository Dao object that represents the QOTW_POINTS SQL Table.
+	 * @param imagePool The thread pool for rendering images
 	 */
-	public QOTWLeaderboardSubcommand(QOTWPointsService pointsService, ExecutorService asyncPool, QuestionPointsRepository qotwPointsRepository) {
+	public QOTWLeaderboardSubcommand(QOTWPointsService pointsService, ExecutorService imagePool) {
 		setSubcommandData(new SubcommandData("qotw", "The QOTW Points Leaderboard."));
 		this.pointsService=pointsService;
-		this.asyncPool = asyncPool;
-		this.qotwPointsRepository = qotwPointsRepository;
+		this.imagePool = imagePool;
 	}
 
 	@Override
 	public void execute(SlashCommandInteractionEvent event) {
 		event.deferReply().queue();
-		asyncPool.submit(() -> {
+		imagePool.submit(() -> {
 			try {
 				WebhookMessageCreateAction<Message> action = event.getHook().sendMessageEmbeds(buildLeaderboardRankEmbed(event.getMember()));
-				// check whether the image may already been cached
-				byte[] array = ImageCache.isCached(getCacheName()) ?
-						// retrieve the image from the cache
-						getOutputStreamFromImage(ImageCache.getCachedImage(getCacheName())).toByteArray() :
-						// generate an entirely new image
-						generateLeaderboard(event.getGuild()).toByteArray();
+				String cacheName = getCacheName();
+				// the cached image is already encoded, so it can be sent as-is
+				byte[] array = ImageCache.getCachedImage(cacheName);
+				if (array == null) {
+					array = generateLeaderboard(event.getGuild(), cacheName);
+				}
 				action.addFiles(FileUpload.fromData(new ByteArrayInputStream(array), Instant.now().getEpochSecond() + ".png")).queue();
 			} catch (IOException e) {
 				ExceptionLogger.capture(e, getClass().getSimpleName());
@@ -117,20 +116,22 @@ public class QOTWLeaderboardSubcommand extends SlashCommand.Subcommand {
 	 *
 	 * @param g2d     Graphics object.
 	 * @param member  The member.
-	 * @param service The {@link QOTWPointsService}.
+	 * @param account The member's {@link QOTWAccount}.
 	 * @param y       The y-position.
 	 * @param left    Whether the card should be drawn left or right.
 	 * @throws IOException If an error occurs.
 	 */
-	private void drawUserCard(@NotNull Graphics2D g2d, @NotNull Member member, QOTWPointsService service, int y, boolean left) throws IOException {
-		BufferedImage card = ImageGenerationUtils.getResourceImage("assets/images/LeaderboardUserCard.png");
+	private void drawUserCard(@NotNull Graphics2D g2d, @NotNull Member member, @NotNull QOTWAccount account, int y, boolean left) throws IOException {
+		BufferedImage card = ImageGenerationUtils.getResourceImage(CARD_PATH);
 		int x = left ? MARGIN * 5 : WIDTH - (MARGIN * 5) - card.getWidth();
-		g2d.drawImage(ImageGenerationUtils.getImageFromUrl(member.getEffectiveAvatarUrl() + "?size=4096"), x + 185, y + 43, 200, 200, null);
+		// Discord only serves avatars in powers of two, 256px is the smallest size above the drawn one
+		BufferedImage avatar = ImageGenerationUtils.getScaledImageFromUrl(member.getEffectiveAvatarUrl() + "?size=256", AVATAR_SIZE, AVATAR_SIZE);
+		g2d.drawImage(avatar, x + 185, y + 43, null);
 		String displayName = member.getUser().getAsTag();
 		// draw card
 		g2d.drawImage(card, x, y, null);
 		g2d.setColor(PRIMARY_COLOR);
-		g2d.setFont(ImageGenerationUtils.getResourceFont("assets/fonts/Uni-Sans-Heavy.ttf", 65).orElseThrow());
+		g2d.setFont(ImageGenerationUtils.getResourceFont(FONT_PATH, 65).orElseThrow());
 
 		int stringWidth = g2d.getFontMetrics().stringWidth(displayName);
 		while (stringWidth > 750) {
@@ -141,11 +142,11 @@ public class QOTWLeaderboardSubcommand extends SlashCommand.Subcommand {
 		}
 		g2d.drawString(displayName, x + 430, y + 130);
 		g2d.setColor(SECONDARY_COLOR);
-		g2d.setFont(ImageGenerationUtils.getResourceFont("assets/fonts/Uni-Sans-Heavy.ttf", 72).orElseThrow());
+		g2d.setFont(ImageGenerationUtils.getResourceFont(FONT_PATH, 72).orElseThrow());
 
-		long points = service.getPoints(member.getIdLong());
+		long points = account.getPoints();
 		String text = points + (points > 1 ? " points" : " point");
-		String rank = "#" + service.getQOTWRank(member.getIdLong());
+		String rank = "#" + pointsService.getQOTWRank(member.getIdLong());
 		g2d.drawString(text, x + 430, y + 210);
 		int stringLength = (int) g2d.getFontMetrics().getStringBounds(rank, g2d).getWidth();
 		int start = 185 / 2 - stringLength / 2;
@@ -155,17 +156,18 @@ public class QOTWLeaderboardSubcommand extends SlashCommand.Subcommand {
 	/**
 	 * Draws and constructs the leaderboard image.
 	 *
-	 * @param guild   The current guild.
-	 * @return The finished image as a {@link ByteArrayInputStream}.
+	 * @param guild     The current guild.
+	 * @param cacheName The name the encoded image is cached under.
+	 * @return The finished image, encoded as PNG.
 	 * @throws IOException If an error occurs.
 	 */
-	private @NotNull ByteArrayOutputStream generateLeaderboard(Guild guild) throws IOException {
+	private byte[] generateLeaderboard(Guild guild, String cacheName) throws IOException {
 		BufferedImage logo = ImageGenerationUtils.getResourceImage("assets/images/QuestionOfTheWeekHeader.png");
-		BufferedImage card = ImageGenerationUtils.getResourceImage("assets/images/LeaderboardUserCard.png");
+		BufferedImage card = ImageGenerationUtils.getResourceImage(CARD_PATH);
 
 		List<Pair<QOTWAccount, Member>> topMembers = pointsService.getTopMembers(DISPLAY_COUNT, guild);
 		int height = (logo.getHeight() + MARGIN * 3) +
-				(ImageGenerationUtils.getResourceImage("assets/images/LeaderboardUserCard.png").getHeight() + MARGIN) * (Math.min(DISPLAY_COUNT, topMembers.size()) / 2) + MARGIN;
+				(card.getHeight() + MARGIN) * (Math.min(DISPLAY_COUNT, topMembers.size()) / 2) + MARGIN;
 		BufferedImage image = new BufferedImage(WIDTH, height, BufferedImage.TYPE_INT_RGB);
 		Graphics2D g2d = image.createGraphics();
 		try {
@@ -178,16 +180,17 @@ public class QOTWLeaderboardSubcommand extends SlashCommand.Subcommand {
 			boolean left = true;
 			int y = logo.getHeight() + 3 * MARGIN;
 			for (Pair<QOTWAccount, Member> pair : topMembers) {
-				drawUserCard(g2d, pair.second(), pointsService, y, left);
+				drawUserCard(g2d, pair.second(), pair.first(), y, left);
 				left = !left;
 				if (left) y = y + card.getHeight() + MARGIN;
 			}
-			ImageCache.removeCachedImagesByKeyword("qotw_leaderboard");
-			ImageCache.cacheImage(getCacheName(), image);
-			return getOutputStreamFromImage(image);
 		} finally {
 			g2d.dispose();
 		}
+		byte[] png = getOutputStreamFromImage(image).toByteArray();
+		ImageCache.invalidateTag(CACHE_TAG);
+		ImageCache.cacheImage(cacheName, png, CACHE_TAG);
+		return png;
 	}
 
 	/**
@@ -196,18 +199,10 @@ public class QOTWLeaderboardSubcommand extends SlashCommand.Subcommand {
 	 * @return The image's cache name.
 	 */
 	private @NotNull String getCacheName() {
-		try {
-			List<QOTWAccount> accounts = qotwPointsRepository.sortByPoints()
-					.stream()
-					.limit(DISPLAY_COUNT)
-					.toList();
-			StringBuilder sb = new StringBuilder("qotw_leaderboard_");
-			accounts.forEach(account -> sb.append(String.format(":%s:%s", account.getUserId(), account.getPoints())));
-			return sb.toString();
-		} catch (DataAccessException e) {
-			ExceptionLogger.capture(e, getClass().getSimpleName());
-			return "";
-		}
+		List<QOTWAccount> accounts = pointsService.getTopAccounts(DISPLAY_COUNT, 1);
+		StringBuilder sb = new StringBuilder(CACHE_TAG + "_");
+		accounts.forEach(account -> sb.append(String.format(":%s:%s", account.getUserId(), account.getPoints())));
+		return sb.toString();
 	}
 
 	/**
@@ -24,16 +24,16 @@ import java.util.stream.Collectors;
  */
 public class ThanksLeaderboardSubcommand extends SlashCommand.Subcommand {
 
-	private final ExecutorService asyncPool;
+	private final ExecutorService dbPool;
 	private final DbActions dbActions;
 
 	/**
 	 * The constructor of this class, which sets the corresponding {@link net.dv8tion.jda.api.interactions.commands.build.SlashCommandData}.
-	 * @param asyncPool The thread pool for asynchronous operations
+	 * @param dbPool The thread pool for blocking database work
 	 * @param dbActions A service object responsible for various operations on the main database
 	 */
-	public ThanksLeaderboardSubcommand(ExecutorService asyncPool, DbActions dbActions) {
-		this.asyncPool = asyncPool;
+	public ThanksLeaderboardSubcommand(ExecutorService dbPool, DbActions dbActions) {
+		this.dbPool = dbPool;
 		this.dbActions = dbActions;
 		setSubcommandData(new SubcommandData("thanks", "The Thanks Leaderboard."));
 	}
@@ -43,7 +43,7 @@ public class ThanksLeaderboardSubcommand extends SlashCommand.Subcommand {
 		event.deferReply(false).queue();
 		Collector<CharSequence, ?, String> collector = Collectors.joining("\n");
 		String format = "**%d** %s";
-		asyncPool.submit(() -> {
+		dbPool.submit(() -> {
 			String totalHelpers = getCounts("""
 					SELECT COUNT(id), helper_id
 					FROM help_channel_thanks
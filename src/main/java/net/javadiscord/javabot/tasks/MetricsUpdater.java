@@ -30,12 +30,12 @@ public class MetricsUpdater extends ListenerAdapter {
 			"{!server_name}", Guild::getName
 	);
 
-	private final ScheduledExecutorService asyncPool;
+	private final ScheduledExecutorService schedulerPool;
 	private final BotConfig botConfig;
 
 	@Override
 	public void onReady(@NotNull ReadyEvent event) {
-		asyncPool.scheduleWithFixedDelay(() -> {
+		schedulerPool.scheduleWithFixedDelay(() -> {
 			for (Guild guild : event.getJDA().getGuilds()) {
 				MetricsConfig config = botConfig.get(guild).getMetricsConfig();
 				if (config.getMetricsCategory() == null || config.getMetricsMessageTemplate().isEmpty()) {
@@ -12,7 +12,6 @@ import javax.annotation.Nonnull;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -32,7 +31,7 @@ public class PresenceUpdater extends ListenerAdapter {
 	 * The executor that is responsible for the scheduled updates of the bot's
 	 * presence data.
 	 */
-	private final ScheduledExecutorService threadPool = Executors.newSingleThreadScheduledExecutor();
+	private final ScheduledExecutorService threadPool;
 
 	/**
 	 * A list of functions that take a reference to the bot's JDA client, and
@@ -61,11 +60,13 @@ public class PresenceUpdater extends ListenerAdapter {
 	 * Constructs an updater using a list of activities, and a delay and time
 	 * unit to describe how frequently to cycle through them.
 	 *
+	 * @param threadPool The executor that is responsible for the scheduled updates.
 	 * @param activities The list of activity-producing functions.
 	 * @param delay      The amount of time the updater should wait before updating the activity.
 	 * @param delayUnit  The unit of time that {@link PresenceUpdater#delay} is counted in.
 	 */
-	public PresenceUpdater(List<Function<JDA, Activity>> activities, long delay, TimeUnit delayUnit) {
+	public PresenceUpdater(ScheduledExecutorService threadPool, List<Function<JDA, Activity>> activities, long delay, TimeUnit delayUnit) {
+		this.threadPool = threadPool;
 		this.activities = new CopyOnWriteArrayList<>(activities);
 		this.delay = delay;
 		this.delayUnit = delayUnit;
@@ -74,11 +75,12 @@ public class PresenceUpdater extends ListenerAdapter {
 	/**
 	 * A list of standard Activities.
 	 *
+	 * @param threadPool The executor that is responsible for the scheduled updates.
 	 * @return A pre-built implementation of the {@link PresenceUpdater} that
 	 * has all the necessary properties defined to reasonable defaults.
 	 */
-	public static PresenceUpdater standardActivities() {
-		return new PresenceUpdater(List.of(
+	public static PresenceUpdater standardActivities(ScheduledExecutorService threadPool) {
+		return new PresenceUpdater(threadPool, List.of(
 				jda -> Activity.watching(String.format("%s members", jda.getGuilds().stream().mapToLong(Guild::getMemberCount).sum())),
 				jda -> Activity.watching("Use /report, 'Report User' or 'Report Message' to report disruptive behaviour!")
 		), 35, TimeUnit.SECONDS);
@@ -0,0 +1,165 @@
+package net.javadiscord.javabot.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * An Aho-Corasick automaton that finds all occurrences of a fixed set of keywords in a single pass
+ * over the input, regardless of how many keywords there are. Matching is case-insensitive.
+ * <p>
+ * Instances are immutable once built and can be shared between threads.
+ */
+public final class AhoCorasickAutomaton {
+	private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+	private final List<Integer> failureLinks = new ArrayList<>();
+	private final List<int[]> outputs = new ArrayList<>();
+	private final List<String> keywords;
+
+	/**
+	 * Builds a new automaton.
+	 *
+	 * @param keywords The keywords to search for.
+	 */
+	public AhoCorasickAutomaton(@NotNull List<String> keywords) {
+		this.keywords = keywords.stream().map(AhoCorasickAutomaton::lowerCase).toList();
+		addNode();
+		for (int i = 0; i < this.keywords.size(); i++) {
+			insert(this.keywords.get(i), i);
+		}
+		buildFailureLinks();
+	}
+
+	/**
+	 * Scans the given text and reports every occurrence of every keyword, including overlapping ones,
+	 * in the order in which they end.
+	 *
+	 * @param text     The text to scan.
+	 * @param consumer The consumer which is called for every match.
+	 */
+	public void scan(@NotNull CharSequence text, @NotNull MatchConsumer consumer) {
+		int state = 0;
+		for (int i = 0; i < text.length(); i++) {
+			state = step(state, text.charAt(i));
+			report(state, i, consumer);
+		}
+	}
+
+	/**
+	 * Advances the automaton by a single character. This allows callers to drive the automaton
+	 * themselves, for example to scan several derived streams of the same text in one loop.
+	 * The initial state is {@code 0}.
+	 *
+	 * @param state The current state.
+	 * @param c     The next character of the input.
+	 * @return The next state.
+	 */
+	public int step(int state, char c) {
+		char lower = Character.toLowerCase(c);
+		Integer next = transitions.get(state).get(lower);
+		while (next == null && state != 0) {
+			state = failureLinks.get(state);
+			next = transitions.get(state).get(lower);
+		}
+		return next == null ? 0 : next;
+	}
+
+	/**
+	 * Reports all keywords that end in the given state.
+	 *
+	 * @param state    The state, as returned by {@link AhoCorasickAutomaton#step(int, char)}.
+	 * @param end      The index of the last character that was fed into the automaton.
+	 * @param consumer The consumer which is called for every match.
+	 */
+	public void report(int state, int end, @NotNull MatchConsumer consumer) {
+		for (int keyword : outputs.get(state)) {
+			consumer.accept(keyword, end - keywords.get(keyword).length() + 1);
+		}
+	}
+
+	/**
+	 * Gets a single keyword this automaton was built with.
+	 *
+	 * @param index The keyword's index.
+	 * @return The keyword, in lower case.
+	 */
+	public @NotNull String getKeyword(int index) {
+		return keywords.get(index);
+	}
+
+	private int addNode() {
+		transitions.add(new HashMap<>());
+		failureLinks.add(0);
+		outputs.add(new int[0]);
+		return transitions.size() - 1;
+	}
+
+	private void insert(@NotNull String keyword, int index) {
+		int state = 0;
+		for (char c : keyword.toCharArray()) {
+			Integer next = transitions.get(state).get(c);
+			if (next == null) {
+				next = addNode();
+				transitions.get(state).put(c, next);
+			}
+			state = next;
+		}
+		outputs.set(state, append(outputs.get(state), index));
+	}
+
+	private void buildFailureLinks() {
+		Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+				int child = transition.getValue();
+				int fallback = failureLinks.get(state);
+				Integer target = transitions.get(fallback).get(transition.getKey());
+				while (target == null && fallback != 0) {
+					fallback = failureLinks.get(fallback);
+					target = transitions.get(fallback).get(transition.getKey());
+				}
+				int failure = target == null || target == child ? 0 : target;
+				failureLinks.set(child, failure);
+				for (int keyword : outputs.get(failure)) {
+					outputs.set(child, append(outputs.get(child), keyword));
+				}
+				queue.add(child);
+			}
+		}
+	}
+
+	private static int[] append(int[] array, int value) {
+		int[] copy = new int[array.length + 1];
+		System.arraycopy(array, 0, copy, 0, array.length);
+		copy[array.length] = value;
+		return copy;
+	}
+
+	private static @NotNull String lowerCase(@NotNull String keyword) {
+		StringBuilder sb = new StringBuilder(keyword.length());
+		for (char c : keyword.toCharArray()) {
+			sb.append(Character.toLowerCase(c));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Consumer for matches found by an {@link AhoCorasickAutomaton}.
+	 */
+	@FunctionalInterface
+	public interface MatchConsumer {
+		/**
+		 * Called for every keyword occurrence.
+		 *
+		 * @param keyword The index of the keyword that was found.
+		 * @param start   The index at which the occurrence starts.
+		 */
+		void accept(int keyword, int start);
+	}
+}
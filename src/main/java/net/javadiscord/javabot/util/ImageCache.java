@@ -1,55 +1,86 @@
 package net.javadiscord.javabot.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
 
-import java.awt.image.BufferedImage;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Utility class for caching images.
+ * Utility class for caching images. Images are stored already encoded (e.g. as PNG), so that
+ * a cache hit can be sent without encoding the image again.
+ * <p>
+ * The cache is thread-safe and bounded by the total size of all cached images. Each image may be
+ * tagged, which allows invalidating all images of a tag (like all versions of a leaderboard) at once.
  */
 @Slf4j
 public class ImageCache {
-	private static final Map<String, BufferedImage> cache;
-
-	static {
-		cache = new HashMap<>();
-	}
+	/**
+	 * The maximum total size of all cached images, in bytes.
+	 */
+	private static final long MAX_WEIGHT = 32L * 1024 * 1024;
+	private static final Map<String, Set<String>> namesByTag = new ConcurrentHashMap<>();
+	private static final Cache<String, CachedImage> cache = Caffeine.newBuilder()
+			.maximumWeight(MAX_WEIGHT)
+			.weigher((String name, CachedImage image) -> image.data().length)
+			.removalListener((String name, CachedImage image, RemovalCause cause) -> {
+				if (name != null && image != null) untag(name, image.tags());
+			})
+			// run the listener on the calling thread, so that invalidated tags are cleaned up immediately
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
 
 	private ImageCache() {
 	}
 
 	/**
-	 * Caches an image by saving it in a {@link Map}.
+	 * Caches an already encoded image.
 	 *
-	 * @param image The image to cache.
 	 * @param name  The name of the image.
+	 * @param image The encoded image to cache.
+	 * @param tags  The tags which can later be used to invalidate the image.
 	 */
-	public static void cacheImage(String name, BufferedImage image) {
-		log.info("Added Image to Cache: {}", name);
-		cache.put(name, image);
+	public static void cacheImage(@NotNull String name, byte[] image, String... tags) {
+		Set<String> tagSet = Set.of(tags);
+		for (String tag : tagSet) {
+			namesByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(name);
+		}
+		cache.put(name, new CachedImage(image, tagSet));
+		CacheStats stats = getStats();
+		log.info("Added Image to Cache: {} ({} KiB cached, hit rate {}%, {} evictions)",
+				name, getWeight() / 1024, Math.round(stats.hitRate() * 100), stats.evictionCount());
 	}
 
 	/**
-	 * Gets an image from the {@link Map}.
+	 * Gets an image from the cache.
 	 *
 	 * @param name The name of the image.
-	 * @return A {@link BufferedImage}.
+	 * @return The encoded image, or null if it isn't cached.
 	 */
-	public static BufferedImage getCachedImage(String name) {
+	public static byte[] getCachedImage(@NotNull String name) {
+		CachedImage image = cache.getIfPresent(name);
+		if (image == null) return null;
 		log.info("Retrieved Image from Cache: {}", name);
-		return cache.get(name);
+		return image.data();
 	}
 
 	/**
-	 * Removes an image from the {@link Map} whose name contains the specified keyword.
+	 * Removes all images with the given tag from the cache.
 	 *
-	 * @param keyword The keyword.
-	 * @return A {@link BufferedImage}.
+	 * @param tag The tag.
+	 * @return Whether any image was removed.
 	 */
-	public static boolean removeCachedImagesByKeyword(String keyword) {
-		return cache.keySet().removeIf(s -> s.contains(keyword));
+	public static boolean invalidateTag(@NotNull String tag) {
+		Set<String> names = namesByTag.remove(tag);
+		if (names == null || names.isEmpty()) return false;
+		cache.invalidateAll(names);
+		return true;
 	}
 
 	/**
@@ -58,7 +89,46 @@ public class ImageCache {
 	 * @param name The name of the image.
 	 * @return Whether the image is already cached or not.
 	 */
-	public static boolean isCached(String name) {
-		return cache.containsKey(name);
+	public static boolean isCached(@NotNull String name) {
+		return cache.asMap().containsKey(name);
+	}
+
+	/**
+	 * Gets the cache's statistics, like its hit, miss and eviction counts.
+	 *
+	 * @return A snapshot of the {@link CacheStats}.
+	 */
+	public static @NotNull CacheStats getStats() {
+		return cache.stats();
+	}
+
+	/**
+	 * Gets the total size of all cached images.
+	 *
+	 * @return The size in bytes.
+	 */
+	public static long getWeight() {
+		return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+	}
+
+	private static void untag(String name, Set<String> tags) {
+		// the image may have been replaced by a new one with (some of) the same tags
+		CachedImage current = cache.asMap().get(name);
+		for (String tag : tags) {
+			if (current != null && current.tags().contains(tag)) continue;
+			namesByTag.computeIfPresent(tag, (t, names) -> {
+				names.remove(name);
+				return names.isEmpty() ? null : names;
+			});
+		}
+	}
+
+	/**
+	 * A single cached, encoded image.
+	 *
+	 * @param data The encoded image.
+	 * @param tags The image's tags.
+	 */
+	private record CachedImage(byte[] data, Set<String> tags) {
 	}
 }
@@ -1,20 +1,41 @@
 package net.javadiscord.javabot.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for generating images.
+ * <p>
+ * Resource images and fonts are decoded only once per JVM, and images loaded from URLs can be cached in
+ * the size they are drawn in. All cached images are shared and must therefore never be drawn on.
  */
 @Slf4j
 public class ImageGenerationUtils {
+	private static final int TIMEOUT_MILLIS = 5000;
+	private static final Map<String, BufferedImage> RESOURCE_IMAGES = new ConcurrentHashMap<>();
+	private static final Map<String, Optional<Font>> RESOURCE_FONTS = new ConcurrentHashMap<>();
+	private static final Cache<String, BufferedImage> SCALED_IMAGES = Caffeine.newBuilder()
+			// weighed by the images' pixel data, as all scaled images are 4-byte ARGB
+			.maximumWeight(16L * 1024 * 1024)
+			.weigher((String key, BufferedImage image) -> image.getWidth() * image.getHeight() * 4)
+			.expireAfterAccess(Duration.ofHours(6))
+			.build();
+
 	private ImageGenerationUtils() {}
 
 	/**
@@ -25,36 +46,95 @@ public class ImageGenerationUtils {
 	 * @throws IOException If an error occurs.
 	 */
 	public static BufferedImage getImageFromUrl(String url) throws IOException {
-		return ImageIO.read(new URL(url));
+		HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+		connection.setConnectTimeout(TIMEOUT_MILLIS);
+		connection.setReadTimeout(TIMEOUT_MILLIS);
+		try (InputStream is = connection.getInputStream()) {
+			BufferedImage image = ImageIO.read(is);
+			if (image == null) throw new IOException("Could not decode image from " + url);
+			return image;
+		} finally {
+			connection.disconnect();
+		}
+	}
+
+	/**
+	 * Gets an Image from the specified URL, downscaled to the given size. The scaled image is cached by its
+	 * url and size, so the url should change whenever the image does (like Discord's avatar urls do).
+	 *
+	 * @param url    The url of the image.
+	 * @param width  The width the image is drawn in.
+	 * @param height The height the image is drawn in.
+	 * @return The scaled image as a shared {@link BufferedImage}
+	 * @throws IOException If an error occurs.
+	 */
+	public static BufferedImage getScaledImageFromUrl(String url, int width, int height) throws IOException {
+		try {
+			return SCALED_IMAGES.get(url + "@" + width + "x" + height, key -> {
+				try {
+					return scale(getImageFromUrl(url), width, height);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
 	}
 
 	/**
-	 * Gets an Image from the specified Resource Path.
+	 * Gets an Image from the specified Resource Path. The image is only decoded once.
 	 *
 	 * @param path The path of the image.
-	 * @return The image as a {@link BufferedImage}
+	 * @return The image as a shared {@link BufferedImage}
 	 * @throws IOException If an error occurs.
 	 */
 	public static BufferedImage getResourceImage(String path) throws IOException {
-		return ImageIO.read(Objects.requireNonNull(ImageGenerationUtils.class.getClassLoader().getResourceAsStream(path)));
+		BufferedImage image = RESOURCE_IMAGES.get(path);
+		if (image == null) {
+			try (InputStream is = Objects.requireNonNull(ImageGenerationUtils.class.getClassLoader().getResourceAsStream(path))) {
+				image = ImageIO.read(is);
+			}
+			if (image == null) throw new IOException("Could not decode resource image " + path);
+			RESOURCE_IMAGES.putIfAbsent(path, image);
+		}
+		return image;
 	}
 
 	/**
-	 * Gets a Font from the specified Resource Path.
+	 * Gets a Font from the specified Resource Path. The font is only loaded and registered once.
 	 *
 	 * @param path The path of the font.
 	 * @param size The font's size.
 	 * @return The font as an {@link Optional}
 	 */
 	public static Optional<Font> getResourceFont(String path, float size) {
-		Font font = null;
-		try {
-			font = Font.createFont(Font.TRUETYPE_FONT, Objects.requireNonNull(ImageGenerationUtils.class.getClassLoader().getResourceAsStream(path))).deriveFont(size);
+		return RESOURCE_FONTS.computeIfAbsent(path, ImageGenerationUtils::loadFont)
+				.map(font -> font.deriveFont(size));
+	}
+
+	private static Optional<Font> loadFont(String path) {
+		try (InputStream is = Objects.requireNonNull(ImageGenerationUtils.class.getClassLoader().getResourceAsStream(path))) {
+			Font font = Font.createFont(Font.TRUETYPE_FONT, is);
 			GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+			return Optional.of(font);
 		} catch (IOException | FontFormatException e) {
 			ExceptionLogger.capture(e, ImageGenerationUtils.class.getSimpleName());
 			log.warn("Could not load Font from path " + path);
+			return Optional.empty();
+		}
+	}
+
+	private static BufferedImage scale(BufferedImage image, int width, int height) {
+		BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = scaled.createGraphics();
+		try {
+			g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g2d.drawImage(image, 0, 0, width, height, null);
+		} finally {
+			g2d.dispose();
 		}
-		return Optional.ofNullable(font);
+		return scaled;
 	}
 }
@@ -0,0 +1,215 @@
+package net.javadiscord.javabot.util;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A named {@link ScheduledThreadPoolExecutor} which records how long its tasks wait in the queue, and how long they run.
+ * <p>
+ * The waiting time of a task is the time between the moment it was due and the moment a thread picked it up,
+ * so it also covers periodic tasks that were delayed by a busy pool. Recording is lock-free.
+ * </p>
+ * <p>
+ * Optionally, tasks which should run immediately can be handed off to a separate executor, like one
+ * which starts a virtual thread per task. Blocking tasks then don't occupy one of the pool's threads,
+ * while delayed and periodic tasks are still run by the pool.
+ * </p>
+ */
+public class MonitoredScheduledExecutor extends ScheduledThreadPoolExecutor {
+	@Getter
+	private final String name;
+	private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+	private final Latency waitLatency = new Latency();
+	private final Latency runLatency = new Latency();
+	@Nullable
+	private final ExecutorService immediateExecutor;
+	private final AtomicInteger immediateActive = new AtomicInteger();
+	private final AtomicLong immediateCompleted = new AtomicLong();
+
+	/**
+	 * Creates a new executor, whose threads are named after it.
+	 *
+	 * @param name     The executor's name.
+	 * @param poolSize The amount of threads to keep in the pool.
+	 */
+	public MonitoredScheduledExecutor(@NotNull String name, int poolSize) {
+		this(name, poolSize, null);
+	}
+
+	/**
+	 * Creates a new executor, whose threads are named after it.
+	 *
+	 * @param name              The executor's name.
+	 * @param poolSize          The amount of threads to keep in the pool.
+	 * @param immediateExecutor The executor which runs all tasks that aren't delayed or periodic,
+	 *                          or null if the pool should run them itself.
+	 */
+	public MonitoredScheduledExecutor(@NotNull String name, int poolSize, @Nullable ExecutorService immediateExecutor) {
+		super(poolSize, createThreadFactory(name));
+		this.name = name;
+		this.immediateExecutor = immediateExecutor;
+	}
+
+	@Override
+	public void execute(@NotNull Runnable command) {
+		if (immediateExecutor == null) {
+			super.execute(command);
+		} else {
+			if (isShutdown()) {
+				getRejectedExecutionHandler().rejectedExecution(command, this);
+				return;
+			}
+			long queued = System.nanoTime();
+			immediateExecutor.execute(() -> runImmediately(command, queued));
+		}
+	}
+
+	@Override
+	public @NotNull Future<?> submit(@NotNull Runnable task) {
+		if (immediateExecutor == null) return super.submit(task);
+		return submitImmediately(new FutureTask<>(task, null));
+	}
+
+	@Override
+	public <T> @NotNull Future<T> submit(@NotNull Runnable task, T result) {
+		if (immediateExecutor == null) return super.submit(task, result);
+		return submitImmediately(new FutureTask<>(task, result));
+	}
+
+	@Override
+	public <T> @NotNull Future<T> submit(@NotNull Callable<T> task) {
+		if (immediateExecutor == null) return super.submit(task);
+		return submitImmediately(new FutureTask<>(task));
+	}
+
+	@Override
+	public void shutdown() {
+		super.shutdown();
+		if (immediateExecutor != null) immediateExecutor.shutdown();
+	}
+
+	@Override
+	public @NotNull List<Runnable> shutdownNow() {
+		List<Runnable> pending = new ArrayList<>(super.shutdownNow());
+		if (immediateExecutor != null) pending.addAll(immediateExecutor.shutdownNow());
+		return pending;
+	}
+
+	@Override
+	protected void beforeExecute(Thread thread, Runnable runnable) {
+		super.beforeExecute(thread, runnable);
+		if (runnable instanceof Delayed delayed) {
+			waitLatency.record(Math.max(0, -delayed.getDelay(TimeUnit.NANOSECONDS)));
+		}
+		startTime.set(System.nanoTime());
+	}
+
+	@Override
+	protected void afterExecute(Runnable runnable, Throwable throwable) {
+		Long start = startTime.get();
+		if (start != null) {
+			runLatency.record(System.nanoTime() - start);
+			startTime.remove();
+		}
+		super.afterExecute(runnable, throwable);
+	}
+
+	/**
+	 * Counts the tasks which are due, but haven't been picked up by a thread yet.
+	 *
+	 * @return The amount of due tasks in the queue.
+	 */
+	public int getQueueDepth() {
+		int depth = 0;
+		for (Runnable runnable : getQueue()) {
+			if (!(runnable instanceof Delayed delayed) || delayed.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+				depth++;
+			}
+		}
+		return depth;
+	}
+
+	/**
+	 * Takes a snapshot of this executor's current state and recorded latencies.
+	 *
+	 * @return The {@link Snapshot}.
+	 */
+	public @NotNull Snapshot snapshot() {
+		return new Snapshot(name, getCorePoolSize(), immediateExecutor != null, getActiveCount() + immediateActive.get(), getQueueDepth(), getQueue().size(),
+				getCompletedTaskCount() + immediateCompleted.get(), waitLatency.meanNanos(), waitLatency.maxNanos.get(), runLatency.meanNanos(), runLatency.maxNanos.get());
+	}
+
+	private <T> @NotNull Future<T> submitImmediately(@NotNull FutureTask<T> task) {
+		execute(task);
+		return task;
+	}
+
+	// runs a task on the immediate executor, recording the same latencies as for the pool's own tasks
+	private void runImmediately(@NotNull Runnable command, long queued) {
+		long start = System.nanoTime();
+		waitLatency.record(start - queued);
+		immediateActive.incrementAndGet();
+		try {
+			command.run();
+		} finally {
+			immediateActive.decrementAndGet();
+			immediateCompleted.incrementAndGet();
+			runLatency.record(System.nanoTime() - start);
+		}
+	}
+
+	private static @NotNull ThreadFactory createThreadFactory(String name) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> new Thread(runnable, name + "-" + count.incrementAndGet());
+	}
+
+	/**
+	 * An immutable snapshot of a single executor.
+	 *
+	 * @param name           The executor's name.
+	 * @param poolSize       The amount of threads in the pool.
+	 * @param immediate      Whether tasks which aren't delayed or periodic are run by a separate executor.
+	 * @param activeThreads  The amount of threads which are currently running a task, including those of the separate executor.
+	 * @param queueDepth     The amount of tasks which are due, but still waiting for a thread.
+	 * @param scheduledTasks The amount of all queued tasks, including delayed and periodic ones.
+	 * @param completedTasks The amount of tasks which have completed so far.
+	 * @param meanWaitNanos  The mean time tasks waited for a thread, in nanoseconds.
+	 * @param maxWaitNanos   The longest time a task waited for a thread, in nanoseconds.
+	 * @param meanRunNanos   The mean execution time of tasks, in nanoseconds.
+	 * @param maxRunNanos    The longest execution time of a task, in nanoseconds.
+	 */
+	public record Snapshot(String name, int poolSize, boolean immediate, int activeThreads, int queueDepth, int scheduledTasks, long completedTasks, long meanWaitNanos, long maxWaitNanos, long meanRunNanos, long maxRunNanos) {
+	}
+
+	private static class Latency {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private void record(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+
+		private long meanNanos() {
+			long n = count.sum();
+			return n == 0 ? 0 : totalNanos.sum() / n;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package net.javadiscord.javabot.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A view of a shared {@link ScheduledExecutorService}, for a single user which shuts down its executor once it
+ * is done with it, like a webhook client.
+ * <p>
+ * Shutting down the view only stops it from accepting new tasks; the shared executor keeps running. The view is
+ * terminated once all tasks which were submitted through it have completed, or once the shared executor itself is
+ * terminated. Tasks which are cancelled before they run are only accounted for by the latter.
+ * </p>
+ */
+public class NonOwningScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+	private final ScheduledExecutorService delegate;
+	private final Object lock = new Object();
+	private boolean shutdown = false;
+	private int pendingTasks = 0;
+
+	/**
+	 * Creates a new view of the given executor.
+	 *
+	 * @param delegate The shared executor, which actually runs all tasks.
+	 */
+	public NonOwningScheduledExecutor(@NotNull ScheduledExecutorService delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void execute(@NotNull Runnable command) {
+		begin();
+		try {
+			delegate.execute(() -> {
+				try {
+					command.run();
+				} finally {
+					end();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			end();
+			throw e;
+		}
+	}
+
+	@Override
+	public @NotNull ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
+		return schedule(() -> {
+			command.run();
+			return null;
+		}, delay, unit);
+	}
+
+	@Override
+	public <V> @NotNull ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
+		begin();
+		try {
+			return delegate.schedule(() -> {
+				try {
+					return callable.call();
+				} finally {
+					end();
+				}
+			}, delay, unit);
+		} catch (RejectedExecutionException e) {
+			end();
+			throw e;
+		}
+	}
+
+	@Override
+	public @NotNull ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command, long initialDelay, long period, @NotNull TimeUnit unit) {
+		return delegate.scheduleAtFixedRate(checkRunning(command), initialDelay, period, unit);
+	}
+
+	@Override
+	public @NotNull ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command, long initialDelay, long delay, @NotNull TimeUnit unit) {
+		return delegate.scheduleWithFixedDelay(checkRunning(command), initialDelay, delay, unit);
+	}
+
+	@Override
+	public void shutdown() {
+		synchronized (lock) {
+			shutdown = true;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Shuts down this view. Tasks which were already submitted are neither interrupted nor removed from the shared
+	 * executor, so this always returns an empty list.
+	 *
+	 * @return An empty {@link List}.
+	 */
+	@Override
+	public @NotNull List<Runnable> shutdownNow() {
+		shutdown();
+		return List.of();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		synchronized (lock) {
+			return shutdown || delegate.isShutdown();
+		}
+	}
+
+	@Override
+	public boolean isTerminated() {
+		synchronized (lock) {
+			return (shutdown && pendingTasks == 0) || delegate.isTerminated();
+		}
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (lock) {
+			while (!isTerminated()) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) return false;
+				TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+			}
+			return true;
+		}
+	}
+
+	// counts a new task as pending, or rejects it if this view has been shut down
+	private void begin() {
+		synchronized (lock) {
+			if (shutdown) throw new RejectedExecutionException("This executor has been shut down.");
+			pendingTasks++;
+		}
+	}
+
+	// marks a pending task as completed
+	private void end() {
+		synchronized (lock) {
+			pendingTasks--;
+			lock.notifyAll();
+		}
+	}
+
+	// periodic tasks never complete on their own, so they are only rejected, but not counted
+	private @NotNull Runnable checkRunning(@NotNull Runnable command) {
+		synchronized (lock) {
+			if (shutdown) throw new RejectedExecutionException("This executor has been shut down.");
+		}
+		return command;
+	}
+}
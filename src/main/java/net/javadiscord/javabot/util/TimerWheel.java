@@ -0,0 +1,124 @@
+package net.javadiscord.javabot.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hashed timer wheel, which keeps a single deadline per key.
+ * <p>
+ * Deadlines are sorted into a fixed amount of buckets, each covering a single tick. Advancing the wheel only
+ * visits the buckets of the ticks that passed since the last call, so scheduling, rescheduling and cancelling
+ * a deadline are O(1), regardless of how many keys are scheduled. Deadlines that lie more than one rotation
+ * ahead simply stay in their bucket until their rotation comes. All methods are thread-safe.
+ * <p>
+ * The wheel does not keep track of time itself, it has to be advanced periodically using
+ * {@link TimerWheel#advance(long)}.
+ *
+ * @param <K> The type of the scheduled keys.
+ */
+public class TimerWheel<K> {
+	private final long tickMillis;
+	private final List<Set<K>> buckets;
+	private final Map<K, Long> deadlines = new HashMap<>();
+	private long currentTick;
+
+	/**
+	 * Creates a new timer wheel.
+	 *
+	 * @param tickMillis  The duration of a single tick, which is the wheel's precision.
+	 * @param bucketCount The amount of buckets, i.e. the amount of ticks in a single rotation.
+	 * @param nowMillis   The current time.
+	 */
+	public TimerWheel(long tickMillis, int bucketCount, long nowMillis) {
+		if (tickMillis < 1 || bucketCount < 1) throw new IllegalArgumentException("Tick duration and bucket count must be positive.");
+		this.tickMillis = tickMillis;
+		this.buckets = new ArrayList<>(bucketCount);
+		for (int i = 0; i < bucketCount; i++) {
+			buckets.add(new LinkedHashSet<>());
+		}
+		this.currentTick = nowMillis / tickMillis;
+	}
+
+	/**
+	 * Schedules the given key, replacing any deadline that was previously scheduled for it.
+	 * Deadlines in the past expire on the next call to {@link TimerWheel#advance(long)} after their tick has passed.
+	 *
+	 * @param key            The key to schedule.
+	 * @param deadlineMillis The time at which the key expires.
+	 */
+	public synchronized void schedule(@NotNull K key, long deadlineMillis) {
+		cancel(key);
+		deadlines.put(key, deadlineMillis);
+		bucketOf(Math.max(currentTick, deadlineMillis / tickMillis)).add(key);
+	}
+
+	/**
+	 * Cancels the deadline of the given key.
+	 *
+	 * @param key The key whose deadline should be cancelled.
+	 * @return Whether a deadline was scheduled for the key.
+	 */
+	public synchronized boolean cancel(@NotNull K key) {
+		Long deadline = deadlines.remove(key);
+		if (deadline == null) return false;
+		bucketOf(Math.max(currentTick, deadline / tickMillis)).remove(key);
+		return true;
+	}
+
+	/**
+	 * Gets the deadline that is scheduled for the given key.
+	 *
+	 * @param key The key.
+	 * @return The deadline, or null if none is scheduled.
+	 */
+	public synchronized Long getDeadline(@NotNull K key) {
+		return deadlines.get(key);
+	}
+
+	/**
+	 * Advances the wheel to the given time, removing and returning all keys whose deadline lies in a tick that
+	 * has fully passed. Keys thus never expire early, but up to one tick late.
+	 *
+	 * @param nowMillis The current time.
+	 * @return All expired keys, in no particular order.
+	 */
+	public synchronized @NotNull List<K> advance(long nowMillis) {
+		long nowTick = nowMillis / tickMillis;
+		List<K> expired = new ArrayList<>();
+		// after a full rotation, every bucket has been visited once
+		long lastTick = Math.min(nowTick, currentTick + buckets.size() - 1);
+		for (long tick = currentTick; tick <= lastTick; tick++) {
+			Iterator<K> it = bucketOf(tick).iterator();
+			while (it.hasNext()) {
+				K key = it.next();
+				if (deadlines.get(key) / tickMillis < nowTick) {
+					it.remove();
+					deadlines.remove(key);
+					expired.add(key);
+				}
+			}
+		}
+		currentTick = Math.max(currentTick, nowTick);
+		return expired;
+	}
+
+	/**
+	 * Gets the amount of scheduled keys.
+	 *
+	 * @return The amount of keys.
+	 */
+	public synchronized int size() {
+		return deadlines.size();
+	}
+
+	private Set<K> bucketOf(long tick) {
+		return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+	}
+}
@@ -0,0 +1,31 @@
+package net.javadiscord.javabot.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Utility class for using virtual threads, which are only available on newer JDKs.
+ * The bot is compiled for Java 17, so they are looked up reflectively at runtime.
+ */
+public final class VirtualThreads {
+	private VirtualThreads() {
+	}
+
+	/**
+	 * Creates an executor which starts a new virtual thread for each task.
+	 *
+	 * @return The executor, or an empty {@link Optional} if the running JDK doesn't support virtual threads,
+	 * or only supports them as a preview feature which isn't enabled.
+	 */
+	public static @NotNull Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+		try {
+			return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+		} catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+			return Optional.empty();
+		}
+	}
+}
@@ -1,26 +1,61 @@
 package net.javadiscord.javabot.util;
 
 import club.minnced.discord.webhook.WebhookClientBuilder;
+import club.minnced.discord.webhook.exception.HttpException;
 import club.minnced.discord.webhook.external.JDAWebhookClient;
 import club.minnced.discord.webhook.receive.ReadonlyMessage;
 import club.minnced.discord.webhook.send.AllowedMentions;
 import club.minnced.discord.webhook.send.WebhookMessageBuilder;
 import club.minnced.discord.webhook.send.component.LayoutComponent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.Message.Attachment;
 import net.dv8tion.jda.api.entities.Webhook;
 import net.dv8tion.jda.api.entities.channel.middleman.StandardGuildMessageChannel;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
  * Contains utility methods for dealing with Discord Webhooks.
+ * <p>
+ * The webhook of each channel is cached, and so are the clients used to send messages through them. Clients are
+ * closed once they have been idle for a while, and all of them share JDA's HTTP client, as well as a single
+ * executor which sends their requests and handles their rate limits.
+ * </p>
  */
 public class WebhookUtil {
+	private static final int HTTP_NOT_FOUND = 404;
+	private static final int EXECUTOR_POOL_SIZE = 2;
+	/**
+	 * The executor shared by all clients. Each client only gets a {@link NonOwningScheduledExecutor} view of it,
+	 * since clients shut down their executor when they are closed.
+	 */
+	private static final ScheduledExecutorService EXECUTOR = new ScheduledThreadPoolExecutor(EXECUTOR_POOL_SIZE, createThreadFactory());
+	private static final Cache<Long, Webhook> WEBHOOKS = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofHours(1))
+			.build();
+	private static final Cache<ClientKey, JDAWebhookClient> CLIENTS = Caffeine.newBuilder()
+			.expireAfterAccess(Duration.ofMinutes(10))
+			.removalListener((ClientKey key, JDAWebhookClient client, RemovalCause cause) -> {
+				if (client != null) client.close();
+			})
+			// evict idle clients on time, even if no other clients are used in the meantime
+			.scheduler(Scheduler.systemScheduler())
+			.build();
+
 	private WebhookUtil() {
 	}
 
@@ -48,19 +83,40 @@ public class WebhookUtil {
 	 *                        lookup/creation failed
 	 */
 	public static void ensureWebhookExists(@NotNull StandardGuildMessageChannel channel, Consumer<? super Webhook> callback, Consumer<? super Throwable> failureCallback) {
-
+		Webhook cached = WEBHOOKS.getIfPresent(channel.getIdLong());
+		if (cached != null) {
+			callback.accept(cached);
+			return;
+		}
 		channel.retrieveWebhooks().queue(webhooks -> {
 			Optional<Webhook> hook = webhooks.stream()
 					.filter(webhook -> webhook.getChannel().getIdLong() == channel.getIdLong())
 					.filter(wh -> wh.getToken() != null).findAny();
 			if (hook.isPresent()) {
+				WEBHOOKS.put(channel.getIdLong(), hook.get());
 				callback.accept(hook.get());
 			} else {
-				channel.createWebhook("JavaBot-webhook").queue(callback, failureCallback);
+				channel.createWebhook("JavaBot-webhook").queue(webhook -> {
+					WEBHOOKS.put(channel.getIdLong(), webhook);
+					callback.accept(webhook);
+				}, failureCallback);
 			}
 		}, failureCallback);
 	}
 
+	/**
+	 * Removes the cached webhook of the given channel, and closes all clients that use it.
+	 * The webhook is looked up again the next time it's needed.
+	 *
+	 * @param channelId The channel's id.
+	 */
+	public static void invalidateWebhook(long channelId) {
+		Webhook webhook = WEBHOOKS.asMap().remove(channelId);
+		if (webhook != null) {
+			CLIENTS.asMap().keySet().removeIf(key -> key.webhookId() == webhook.getIdLong());
+		}
+	}
+
 	/**
 	 * Resends a specific message using a webhook with a custom content.
 	 *
@@ -74,8 +130,6 @@ public class WebhookUtil {
 	 * the message
 	 */
 	public static CompletableFuture<ReadonlyMessage> mirrorMessageToWebhook(@NotNull Webhook webhook, @NotNull Message originalMessage, String newMessageContent, long threadId, LayoutComponent @NotNull ... components) {
-		JDAWebhookClient client = new WebhookClientBuilder(webhook.getIdLong(), webhook.getToken())
-				.setThreadId(threadId).buildJDA();
 		WebhookMessageBuilder message = new WebhookMessageBuilder().setContent(newMessageContent)
 				.setAllowedMentions(AllowedMentions.none())
 				.setAvatarUrl(originalMessage.getMember().getEffectiveAvatarUrl())
@@ -91,7 +145,34 @@ public class WebhookUtil {
 			futures[i] = attachment.getProxy().download().thenAccept(
 					is -> message.addFile((attachment.isSpoiler() ? "SPOILER_" : "") + attachment.getFileName(), is));
 		}
-		return CompletableFuture.allOf(futures).thenCompose(unused -> client.send(message.build()))
-				.whenComplete((result, err) -> client.close());
+		// the client is only looked up once the attachments are downloaded, as it may have expired in the meantime
+		return CompletableFuture.allOf(futures).thenCompose(unused -> getClient(webhook, threadId).send(message.build()))
+				.whenComplete((result, err) -> {
+					// the webhook has been deleted, or its token has been reset
+					Throwable cause = err instanceof CompletionException ? err.getCause() : err;
+					if (cause instanceof HttpException e && e.getCode() == HTTP_NOT_FOUND) {
+						invalidateWebhook(webhook.getChannel().getIdLong());
+					}
+				});
+	}
+
+	private static @NotNull JDAWebhookClient getClient(@NotNull Webhook webhook, long threadId) {
+		return CLIENTS.get(new ClientKey(webhook.getIdLong(), threadId), key -> new WebhookClientBuilder(webhook.getIdLong(), webhook.getToken())
+				.setThreadId(threadId)
+				.setHttpClient(webhook.getJDA().getHttpClient())
+				.setExecutorService(new NonOwningScheduledExecutor(EXECUTOR))
+				.buildJDA());
+	}
+
+	private static @NotNull ThreadFactory createThreadFactory() {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "webhook-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private record ClientKey(long webhookId, long threadId) {
 	}
 }
@@ -0,0 +1,7 @@
+CREATE INDEX IF NOT EXISTS warn_user_id_created_at_idx ON warn (user_id, created_at);
+CREATE INDEX IF NOT EXISTS qotw_submissions_author_id_idx ON qotw_submissions (author_id);
+CREATE INDEX IF NOT EXISTS qotw_submissions_question_number_guild_id_idx ON qotw_submissions (question_number, guild_id);
+CREATE INDEX IF NOT EXISTS help_transaction_recipient_created_at_idx ON help_transaction (recipient, created_at);
+CREATE INDEX IF NOT EXISTS custom_tags_guild_id_name_idx ON custom_tags (guild_id, name);
+CREATE INDEX IF NOT EXISTS starboard_starboard_message_id_idx ON starboard (starboard_message_id);
+CREATE INDEX IF NOT EXISTS qotw_points_points_idx ON qotw_points (points);
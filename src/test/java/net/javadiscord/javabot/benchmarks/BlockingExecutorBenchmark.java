@@ -0,0 +1,106 @@
+package net.javadiscord.javabot.benchmarks;
+
+import net.javadiscord.javabot.util.MonitoredScheduledExecutor;
+import net.javadiscord.javabot.util.VirtualThreads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test which measures how many blocking Discord requests per second the async pool completes, when every
+ * request waits for a simulated REST latency, like {@code RestAction#complete()} does while the request is
+ * in flight or rate limited. Compares the fixed pool with the pool which runs its tasks on virtual threads.
+ * <p>
+ * The {@code virtual} mode requires a JDK with virtual threads, and fails on Java 17.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockingExecutorBenchmark {
+	private static final int REQUESTS = 400;
+	private static final int POOL_SIZE = 4;
+
+	@Param({"fixed", "virtual"})
+	private String mode;
+
+	@Param({"5", "50"})
+	private int latencyMillis;
+
+	private MonitoredScheduledExecutor executor;
+
+	/**
+	 * Creates the pool, with the same default size as the bot's async pool.
+	 */
+	@Setup
+	public void setup() {
+		ExecutorService virtualThreads = null;
+		if (mode.equals("virtual")) {
+			virtualThreads = VirtualThreads.newVirtualThreadPerTaskExecutor()
+					.orElseThrow(() -> new IllegalStateException("This JDK does not support virtual threads."));
+		}
+		executor = new MonitoredScheduledExecutor("benchmark", POOL_SIZE, virtualThreads);
+	}
+
+	/**
+	 * Shuts down the pool.
+	 */
+	@TearDown
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Submits a burst of blocking requests, and waits for all of them to complete.
+	 *
+	 * @throws InterruptedException If the benchmark is interrupted.
+	 * @throws ExecutionException   If a request fails.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(REQUESTS)
+	public void blockingRequests() throws InterruptedException, ExecutionException {
+		List<Future<?>> futures = new ArrayList<>(REQUESTS);
+		for (int i = 0; i < REQUESTS; i++) {
+			futures.add(executor.submit(() -> {
+				Thread.sleep(latencyMillis);
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+	}
+
+	/**
+	 * Runs this benchmark.
+	 *
+	 * @param args Command-line arguments, which are ignored.
+	 * @throws RunnerException If the benchmark could not be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(BlockingExecutorBenchmark.class.getSimpleName()).build()).run();
+	}
+}
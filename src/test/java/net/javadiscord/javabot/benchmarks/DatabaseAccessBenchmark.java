@@ -0,0 +1,149 @@
+package net.javadiscord.javabot.benchmarks;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.data.h2db.DbHelper;
+import net.javadiscord.javabot.systems.moderation.warn.dao.WarnRepository;
+import net.javadiscord.javabot.systems.qotw.dao.QuestionPointsRepository;
+import net.javadiscord.javabot.systems.qotw.model.QOTWAccount;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of typical repository calls when the database is accessed over the loopback TCP server
+ * (the bot's default) and when it is opened in-process using a {@code jdbc:h2:file} url.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DatabaseAccessBenchmark {
+	private static final int ACCOUNTS = 1000;
+	private static final int WARNS = 5000;
+	private static final String TCP_PORT = "9123";
+
+	@Param({"tcp", "embedded"})
+	private String mode;
+
+	private Path directory;
+	private Server server;
+	private HikariDataSource dataSource;
+	private QuestionPointsRepository pointsRepository;
+	private WarnRepository warnRepository;
+	private LocalDateTime cutoff;
+
+	/**
+	 * Starts the database in the benchmarked mode, creates the schema and fills it with some data.
+	 *
+	 * @throws Exception If the database cannot be started.
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		directory = Files.createTempDirectory("database_access_benchmark");
+		String jdbcUrl;
+		if (mode.equals("tcp")) {
+			server = Server.createTcpServer("-tcpPort", TCP_PORT, "-ifNotExists", "-baseDir", directory.toString()).start();
+			jdbcUrl = "jdbc:h2:tcp://localhost:" + TCP_PORT + "/./java_bot";
+		} else {
+			jdbcUrl = "jdbc:h2:file:" + directory.resolve("java_bot");
+		}
+		SystemsConfig.HikariConfig config = new SystemsConfig.HikariConfig();
+		config.setJdbcUrl(jdbcUrl);
+		dataSource = new HikariDataSource(DbHelper.createHikariConfig(config));
+		DbHelper.initializeSchema(dataSource, true);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		List<Object[]> accounts = new ArrayList<>(ACCOUNTS);
+		for (int i = 0; i < ACCOUNTS; i++) {
+			accounts.add(new Object[]{(long) i, (long) i % 50});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO qotw_points (user_id, points) VALUES (?, ?)", accounts);
+		List<Object[]> warns = new ArrayList<>(WARNS);
+		for (int i = 0; i < WARNS; i++) {
+			warns.add(new Object[]{(long) i % ACCOUNTS, 1L, "MEDIUM", 20, "Benchmark warn"});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO warn (user_id, warned_by, severity, severity_weight, reason) VALUES (?, ?, ?, ?, ?)", warns);
+		pointsRepository = new QuestionPointsRepository(jdbcTemplate);
+		warnRepository = new WarnRepository(jdbcTemplate);
+		cutoff = LocalDateTime.now().minusDays(30);
+	}
+
+	/**
+	 * Closes the database and deletes its files.
+	 *
+	 * @throws Exception If the files cannot be deleted.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		dataSource.close();
+		if (server != null) server.stop();
+		FileSystemUtils.deleteRecursively(directory);
+	}
+
+	/**
+	 * Benchmarks a primary key lookup.
+	 *
+	 * @return The account.
+	 */
+	@Benchmark
+	public Optional<QOTWAccount> getPoints() {
+		return pointsRepository.getByUserId(ThreadLocalRandom.current().nextInt(ACCOUNTS));
+	}
+
+	/**
+	 * Benchmarks an aggregate over a user's warns, as done for every new warn.
+	 *
+	 * @return The total severity weight.
+	 */
+	@Benchmark
+	public int getTotalSeverityWeight() {
+		return warnRepository.getTotalSeverityWeight(ThreadLocalRandom.current().nextInt(ACCOUNTS), cutoff);
+	}
+
+	/**
+	 * Benchmarks a single write.
+	 *
+	 * @return The new amount of points.
+	 */
+	@Benchmark
+	public long incrementPoints() {
+		return pointsRepository.increment(ThreadLocalRandom.current().nextInt(ACCOUNTS), 1);
+	}
+
+	/**
+	 * Runs this benchmark.
+	 *
+	 * @param args Command-line arguments, which are ignored.
+	 * @throws RunnerException If the benchmark could not be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(DatabaseAccessBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,86 @@
+package net.javadiscord.javabot.benchmarks;
+
+import net.javadiscord.javabot.data.config.GuildConfig;
+import net.javadiscord.javabot.data.config.UnknownPropertyException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Measures the throughput of {@link GuildConfig#resolve(String)}, which uses cached method handles, compared to
+ * the previous implementation which looked up every field reflectively on each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GuildConfigResolveBenchmark {
+	@Param({"helpConfig.helperRoleId", "moderationConfig.logChannelId", "starboardConfig.reactionThreshold"})
+	private String property;
+
+	private GuildConfig config;
+
+	/**
+	 * Creates a default configuration, which is never written to disk.
+	 */
+	@Setup
+	public void setup() {
+		config = new GuildConfig(null, Path.of("benchmark.json"));
+	}
+
+	/**
+	 * Benchmarks the current implementation.
+	 *
+	 * @return The property's value.
+	 * @throws UnknownPropertyException If the property does not exist.
+	 */
+	@Benchmark
+	public Object resolve() throws UnknownPropertyException {
+		return config.resolve(property);
+	}
+
+	/**
+	 * Benchmarks the previous implementation, which called {@link Class#getDeclaredField(String)} and
+	 * {@link Field#setAccessible(boolean)} for every segment of the property name.
+	 *
+	 * @return The property's value.
+	 * @throws ReflectiveOperationException If the property does not exist.
+	 */
+	@Benchmark
+	public Object legacyResolve() throws ReflectiveOperationException {
+		return legacyResolve(property.split("\\."), config);
+	}
+
+	private Object legacyResolve(String[] fieldNames, Object parent) throws ReflectiveOperationException {
+		Field field = parent.getClass().getDeclaredField(fieldNames[0]);
+		field.setAccessible(true);
+		Object value = field.get(parent);
+		if (fieldNames.length == 1 || value == null) return value;
+		return legacyResolve(Arrays.copyOfRange(fieldNames, 1, fieldNames.length), value);
+	}
+
+	/**
+	 * Runs this benchmark.
+	 *
+	 * @param args Command-line arguments, which are ignored.
+	 * @throws RunnerException If the benchmark could not be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(GuildConfigResolveBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,134 @@
+package net.javadiscord.javabot.benchmarks;
+
+import net.javadiscord.javabot.data.h2db.message_cache.dao.MessageCacheRepository;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how many rows per second {@link MessageCacheRepository#insertList(List, int)} can write
+ * to an embedded H2 database, compared to the previous implementation which executed every row twice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MessageCacheRepositoryBenchmark {
+	private static final int ROWS = 1000;
+
+	@Param({"50", "100", "500"})
+	private int batchSize;
+
+	private SingleConnectionDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private MessageCacheRepository repository;
+	private List<CachedMessage> messages;
+
+	/**
+	 * Starts the embedded database and creates the message cache table.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		dataSource = new SingleConnectionDataSource("jdbc:h2:mem:message_cache_benchmark;DB_CLOSE_DELAY=-1", true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("""
+				CREATE TABLE IF NOT EXISTS message_cache (
+					message_id      BIGINT PRIMARY KEY,
+					author_id       BIGINT        NOT NULL,
+					message_content VARCHAR(4000) NOT NULL
+				)""");
+		repository = new MessageCacheRepository(jdbcTemplate);
+		messages = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			CachedMessage message = new CachedMessage();
+			message.setMessageId(1_000_000_000_000L + i);
+			message.setAuthorId(374328434677121036L + i % 50);
+			message.setMessageContent("Hey, does anyone know why my `HashMap` returns null for key number " + i + "?");
+			messages.add(message);
+		}
+	}
+
+	/**
+	 * Empties the table so that every invocation starts with the same state.
+	 */
+	@Setup(Level.Invocation)
+	public void clearTable() {
+		jdbcTemplate.update("DELETE FROM message_cache");
+	}
+
+	/**
+	 * Closes the embedded database.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		jdbcTemplate.execute("DROP TABLE message_cache");
+		dataSource.destroy();
+	}
+
+	/**
+	 * Benchmarks the current, chunked batch implementation.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void batchedInsert() {
+		repository.insertList(messages, batchSize);
+	}
+
+	/**
+	 * Benchmarks the previous implementation, which executed each statement inside the batch setter
+	 * and then once more as part of the batch.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void legacyInsert() {
+		jdbcTemplate.batchUpdate("MERGE INTO message_cache (message_id, author_id, message_content) VALUES (?, ?, ?)",
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement stmt, int i) throws SQLException {
+						CachedMessage msg = messages.get(i);
+						stmt.setLong(1, msg.getMessageId());
+						stmt.setLong(2, msg.getAuthorId());
+						stmt.setString(3, msg.getMessageContent());
+						stmt.executeUpdate();
+					}
+
+					@Override
+					public int getBatchSize() {
+						return messages.size();
+					}
+				});
+	}
+
+	/**
+	 * Runs this benchmark.
+	 *
+	 * @param args Command-line arguments, which are ignored.
+	 * @throws RunnerException If the benchmark could not be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MessageCacheRepositoryBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,114 @@
+package net.javadiscord.javabot.benchmarks;
+
+import net.javadiscord.javabot.systems.qotw.QOTWRankIndex;
+import net.javadiscord.javabot.systems.qotw.model.QOTWAccount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares QOTW rank lookups using the {@link QOTWRankIndex} with the previous approach of sorting
+ * all accounts and searching the user in the resulting list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QOTWRankIndexBenchmark {
+	@Param({"100000"})
+	private int accountCount;
+
+	private List<QOTWAccount> accounts;
+	private QOTWRankIndex index;
+
+	/**
+	 * Generates the accounts and loads them into the index.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		accounts = new ArrayList<>(accountCount);
+		for (int i = 0; i < accountCount; i++) {
+			QOTWAccount account = new QOTWAccount();
+			account.setUserId(i);
+			account.setPoints(random.nextInt(50));
+			accounts.add(account);
+		}
+		index = new QOTWRankIndex();
+		index.load(accounts);
+	}
+
+	/**
+	 * Benchmarks a rank lookup in the index.
+	 *
+	 * @return The rank of a random user.
+	 */
+	@Benchmark
+	public int indexRank() {
+		return index.getRank(ThreadLocalRandom.current().nextInt(accountCount));
+	}
+
+	/**
+	 * Benchmarks a rank lookup by sorting all accounts, like {@code ORDER BY points DESC} did before.
+	 *
+	 * @return The rank of a random user.
+	 */
+	@Benchmark
+	public int sortedListRank() {
+		long userId = ThreadLocalRandom.current().nextInt(accountCount);
+		return accounts.stream()
+				.sorted(Comparator.comparingLong(QOTWAccount::getPoints).reversed())
+				.map(QOTWAccount::getUserId)
+				.toList()
+				.indexOf(userId) + 1;
+	}
+
+	/**
+	 * Benchmarks updating a user's points in the index.
+	 */
+	@Benchmark
+	public void indexUpdate() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		index.set(random.nextInt(accountCount), random.nextInt(50));
+	}
+
+	/**
+	 * Benchmarks fetching the top ten accounts from the index.
+	 *
+	 * @return The top ten accounts.
+	 */
+	@Benchmark
+	public List<QOTWAccount> indexTopTen() {
+		return index.getTopAccounts(0, 10);
+	}
+
+	/**
+	 * Runs this benchmark.
+	 *
+	 * @param args Command-line arguments, which are ignored.
+	 * @throws RunnerException If the benchmark could not be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(QOTWRankIndexBenchmark.class.getSimpleName()).build()).run();
+	}
+}
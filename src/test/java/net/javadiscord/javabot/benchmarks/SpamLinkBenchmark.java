@@ -0,0 +1,110 @@
+package net.javadiscord.javabot.benchmarks;
+
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.systems.moderation.AutoMod;
+import net.javadiscord.javabot.systems.moderation.MessageScanner;
+import net.javadiscord.javabot.systems.moderation.SpamDomainIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link AutoMod#hasSuspiciousLink(String)} on realistic message content, and
+ * compares lookups in the {@link SpamDomainIndex} with the previous linear {@link List#contains(Object)} scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpamLinkBenchmark {
+	private static final Map<String, String> MESSAGES = Map.of(
+			"plain", "Hey, can someone help me? My for-loop never terminates and I don't understand why, I already checked the condition twice.",
+			"docs", "Have a look at https://docs.oracle.com/en/java/javase/17/docs/api/java.base/java/util/HashMap.html and https://www.baeldung.com/java-hashmap",
+			"code", "```java\nString url = \"https://example.com/api/v1/users?id=\" + id;\nHttpClient client = HttpClient.newHttpClient();\n```\nwhy does this throw?",
+			"scam", "@everyone free nitro for 3 months, just login here: https://discord-nitro.gift.101nitro.com/claim?code=x7Fh2"
+	);
+
+	@Param({"plain", "docs", "code", "scam"})
+	private String messageType;
+
+	private String message;
+	private AutoMod autoMod;
+	private SpamDomainIndex index;
+	private List<String> spamUrls;
+
+	/**
+	 * Loads the bundled spam links.
+	 *
+	 * @throws IOException If the bundled spam links cannot be read.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		message = MESSAGES.get(messageType);
+		index = new SpamDomainIndex(new SystemsConfig());
+		// the link check only depends on the message scanner
+		autoMod = new AutoMod(null, null, null, null, null, new MessageScanner(index));
+		try (InputStream is = SpamLinkBenchmark.class.getResourceAsStream("/spamLinks.txt")) {
+			spamUrls = List.of(new String(is.readAllBytes(), StandardCharsets.UTF_8).split("\n"));
+		}
+	}
+
+	/**
+	 * Benchmarks the full link check on a single message.
+	 *
+	 * @return Whether the message contains a suspicious link.
+	 */
+	@Benchmark
+	public boolean hasSuspiciousLink() {
+		return autoMod.hasSuspiciousLink(message);
+	}
+
+	/**
+	 * Benchmarks a single host lookup using the hashed index.
+	 *
+	 * @return Whether the host is a spam domain.
+	 */
+	@Benchmark
+	public boolean indexLookup() {
+		return index.isSpamHost("docs.oracle.com");
+	}
+
+	/**
+	 * Benchmarks a single host lookup using the previous list-based approach.
+	 *
+	 * @return Whether the host is a spam domain.
+	 */
+	@Benchmark
+	public boolean listLookup() {
+		return spamUrls.contains("docs.oracle.com");
+	}
+
+	/**
+	 * Runs this benchmark.
+	 *
+	 * @param args Command-line arguments, which are ignored.
+	 * @throws RunnerException If the benchmark could not be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(SpamLinkBenchmark.class.getSimpleName()).build()).run();
+	}
+}
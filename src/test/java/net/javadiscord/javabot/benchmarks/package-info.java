@@ -0,0 +1,6 @@
+/**
+ * This package contains JMH benchmarks for performance-critical parts of the JavaBot.
+ * They are not run as part of the regular test suite; run a benchmark's {@code main} method instead.
+ */
+
+package net.javadiscord.javabot.benchmarks;
@@ -0,0 +1,145 @@
+package net.javadiscord.javabot.data.config;
+
+import com.google.gson.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link ConfigPersister} class.
+ */
+public class ConfigPersisterTest {
+	@TempDir
+	Path directory;
+
+	/**
+	 * Tests that a reader never observes a partially written file, while the file is rewritten concurrently.
+	 *
+	 * @throws Exception If the file cannot be written.
+	 */
+	@Test
+	public void testReadersNeverSeePartialWrites() throws Exception {
+		Path file = directory.resolve("1.json");
+		ConfigPersister.writeAtomically(file, new TestConfig(0));
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread reader = new Thread(() -> {
+			while (running.get()) {
+				try {
+					TestConfig config = ConfigPersister.GSON.fromJson(Files.readString(file), TestConfig.class);
+					if (config == null || !config.isComplete()) {
+						throw new IllegalStateException("Read an incomplete config");
+					}
+				} catch (IOException | JsonParseException | IllegalStateException e) {
+					failure.set(e);
+					return;
+				}
+			}
+		});
+		reader.start();
+		try {
+			for (int i = 1; i <= 200; i++) {
+				ConfigPersister.writeAtomically(file, new TestConfig(i));
+			}
+		} finally {
+			running.set(false);
+			reader.join();
+		}
+		assertNull(failure.get());
+		assertEquals(200, readConfig(file).value);
+	}
+
+	/**
+	 * Tests that a write which fails after the temporary file was written keeps the previous file intact, and
+	 * doesn't leave the temporary file behind.
+	 *
+	 * @throws Exception If the file cannot be written.
+	 */
+	@Test
+	public void testFailedMoveKeepsPreviousFile() throws Exception {
+		Path file = directory.resolve("1.json");
+		ConfigPersister.writeAtomically(file, new TestConfig(1));
+		assertThrows(IOException.class, () -> ConfigPersister.writeAtomically(file, new TestConfig(2), (source, target) -> {
+			throw new IOException("Simulated failure while moving " + source);
+		}));
+		assertEquals(1, readConfig(file).value);
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(List.of(file), files.toList());
+		}
+	}
+
+	/**
+	 * Tests that a temporary file left behind by a crashed write neither replaces nor blocks the actual file.
+	 *
+	 * @throws Exception If the file cannot be written.
+	 */
+	@Test
+	public void testStaleTemporaryFileIsIgnored() throws Exception {
+		Path file = directory.resolve("1.json");
+		ConfigPersister.writeAtomically(file, new TestConfig(1));
+		String json = ConfigPersister.GSON.toJson(new TestConfig(2));
+		Files.writeString(directory.resolve("1.json" + "123.tmp"), json.substring(0, json.length() / 2));
+		assertEquals(1, readConfig(file).value);
+		ConfigPersister.writeAtomically(file, new TestConfig(3));
+		assertEquals(3, readConfig(file).value);
+	}
+
+	/**
+	 * Tests that many changes in a short time are coalesced into a single write of the latest state.
+	 *
+	 * @throws Exception If the file cannot be read.
+	 */
+	@Test
+	public void testScheduledWritesAreCoalesced() throws Exception {
+		Path file = directory.resolve("1.json");
+		ConfigPersister persister = new ConfigPersister(60_000);
+		TestConfig config = new TestConfig(0);
+		for (int i = 1; i <= 100; i++) {
+			synchronized (config) {
+				config.value = i;
+			}
+			persister.schedule(file, config);
+		}
+		assertEquals(1, persister.getPendingCount());
+		assertTrue(Files.notExists(file));
+		persister.flushAll();
+		assertEquals(0, persister.getPendingCount());
+		assertEquals(100, readConfig(file).value);
+	}
+
+	private TestConfig readConfig(Path file) throws IOException {
+		TestConfig config = ConfigPersister.GSON.fromJson(Files.readString(file), TestConfig.class);
+		assertNotNull(config);
+		assertTrue(config.isComplete());
+		return config;
+	}
+
+	private static class TestConfig {
+		private static final String PADDING = "x".repeat(64 * 1024);
+
+		private int value;
+		private String padding = PADDING;
+		private boolean end = true;
+
+		TestConfig(int value) {
+			this.value = value;
+		}
+
+		boolean isComplete() {
+			return end && PADDING.equals(padding);
+		}
+	}
+}
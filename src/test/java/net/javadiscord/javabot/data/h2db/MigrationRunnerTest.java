@@ -0,0 +1,92 @@
+package net.javadiscord.javabot.data.h2db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link MigrationRunner} class against an embedded H2 database.
+ */
+public class MigrationRunnerTest {
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Creates a fresh in-memory database.
+	 */
+	@BeforeEach
+	public void setup() {
+		dataSource = new DriverManagerDataSource("jdbc:h2:mem:migration_test;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * Drops the in-memory database.
+	 */
+	@AfterEach
+	public void tearDown() {
+		jdbcTemplate.execute("DROP ALL OBJECTS");
+	}
+
+	/**
+	 * Tests that all versioned migrations are applied on top of the initial schema, and recorded, so that
+	 * they're not applied again.
+	 *
+	 * @throws Exception If the schema cannot be initialized.
+	 */
+	@Test
+	public void testMigrate() throws Exception {
+		DbHelper.initializeSchema(dataSource, true);
+		List<MigrationRunner.Migration> migrations = MigrationRunner.loadMigrations();
+		assertTrue(migrations.size() > 0);
+		MigrationRunner runner = new MigrationRunner(dataSource);
+		assertEquals(migrations.size(), runner.getAppliedVersions().size());
+		assertEquals(0, runner.migrate());
+		Integer indexes = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'WARN_USER_ID_CREATED_AT_IDX'", Integer.class);
+		assertEquals(1, indexes);
+	}
+
+	/**
+	 * Tests that a failing migration is not recorded, and that the tables it created are dropped again.
+	 *
+	 * @throws SQLException If the version table cannot be read.
+	 */
+	@Test
+	public void testFailingMigration() throws SQLException {
+		MigrationRunner runner = new MigrationRunner(dataSource);
+		MigrationRunner.Migration migration = new MigrationRunner.Migration(1000, "V1000__broken.sql",
+				List.of("CREATE TABLE broken_test (id BIGINT)", "INSERT INTO missing_table VALUES (1)"));
+		assertThrows(SQLException.class, () -> runner.apply(migration));
+		assertTrue(runner.getAppliedVersions().isEmpty());
+		Integer tables = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'BROKEN_TEST'", Integer.class);
+		assertEquals(0, tables);
+	}
+
+	/**
+	 * Tests that a failing migration keeps tables which already existed before, even if it tried to create them.
+	 *
+	 * @throws SQLException If the version table cannot be read.
+	 */
+	@Test
+	public void testFailingMigrationKeepsExistingTables() throws SQLException {
+		jdbcTemplate.execute("CREATE TABLE existing_test (id BIGINT)");
+		MigrationRunner runner = new MigrationRunner(dataSource);
+		MigrationRunner.Migration migration = new MigrationRunner.Migration(1001, "V1001__broken.sql",
+				List.of("CREATE TABLE IF NOT EXISTS existing_test (id BIGINT)", "INSERT INTO missing_table VALUES (1)"));
+		assertThrows(SQLException.class, () -> runner.apply(migration));
+		Integer tables = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'EXISTING_TEST'", Integer.class);
+		assertEquals(1, tables);
+	}
+}
@@ -0,0 +1,61 @@
+package net.javadiscord.javabot.data.h2db;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the functionality of the {@link QueryStatistics} class.
+ */
+public class QueryStatisticsTest {
+
+	/**
+	 * Tests that durations are sorted into the correct logarithmic buckets.
+	 */
+	@Test
+	public void testBuckets() {
+		assertEquals(0, QueryStatistics.getBucket(999));
+		assertEquals(1, QueryStatistics.getBucket(1_000));
+		assertEquals(1, QueryStatistics.getBucket(1_999));
+		assertEquals(2, QueryStatistics.getBucket(2_000));
+		assertEquals(11, QueryStatistics.getBucket(1_500_000));
+		assertEquals(QueryStatistics.BUCKET_COUNT - 1, QueryStatistics.getBucket(Long.MAX_VALUE));
+	}
+
+	/**
+	 * Tests the snapshots' aggregates and percentile estimates, and that they're sorted by total execution time.
+	 */
+	@Test
+	public void testSnapshots() {
+		QueryStatistics statistics = new QueryStatistics(10);
+		for (int i = 0; i < 99; i++) {
+			statistics.record("SELECT 1", 1_500);
+		}
+		statistics.record("SELECT 1", 50_000_000);
+		statistics.record("SELECT 2", 10_000);
+		List<QueryStatistics.Snapshot> snapshots = statistics.getSnapshots();
+		assertEquals(2, snapshots.size());
+		QueryStatistics.Snapshot snapshot = snapshots.get(0);
+		assertEquals("SELECT 1", snapshot.sql());
+		assertEquals(100, snapshot.count());
+		assertEquals(50_000_000, snapshot.maxNanos());
+		assertEquals(2_000, snapshot.percentileNanos(0.5));
+		assertEquals(2_000, snapshot.percentileNanos(0.99));
+		assertEquals(50_000_000, snapshot.percentileNanos(1));
+	}
+
+	/**
+	 * Tests that queries beyond the limit are recorded under a shared key.
+	 */
+	@Test
+	public void testMaxQueries() {
+		QueryStatistics statistics = new QueryStatistics(1);
+		statistics.record("SELECT 1", 1_000);
+		statistics.record("SELECT 2", 1_000);
+		statistics.record("SELECT 3", 1_000);
+		assertEquals(List.of(QueryStatistics.OTHER_QUERIES, "SELECT 1"), statistics.getSnapshots().stream()
+				.map(QueryStatistics.Snapshot::sql).sorted().toList());
+	}
+}
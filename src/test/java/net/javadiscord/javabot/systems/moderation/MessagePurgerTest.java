@@ -0,0 +1,154 @@
+package net.javadiscord.javabot.systems.moderation;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.User;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link MessagePurger} class, using a fake channel which counts its requests.
+ */
+public class MessagePurgerTest {
+	private static final Instant NOW = Instant.parse("2022-10-01T12:00:00Z");
+	private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+	/**
+	 * Tests that recent messages are deleted with one bulk delete request per batch.
+	 */
+	@Test
+	public void testRecentMessagesAreBulkDeleted() {
+		FakeChannel channel = new FakeChannel();
+		channel.addMessages(250, 1, Duration.ofHours(1));
+		List<Message> archived = new ArrayList<>();
+		long count = new MessagePurger(channel, CLOCK).purge(250, null, archived::add, removed -> {});
+		assertEquals(250, count);
+		assertEquals(250, archived.size());
+		assertEquals(3, channel.retrieveRequests);
+		assertEquals(3, channel.bulkDeleteRequests);
+		assertEquals(0, channel.deleteRequests);
+		assertEquals(0, channel.messages.size());
+	}
+
+	/**
+	 * Tests that only messages which are too old for bulk deletion are deleted one by one.
+	 */
+	@Test
+	public void testOldMessagesAreDeletedIndividually() {
+		FakeChannel channel = new FakeChannel();
+		channel.addMessages(60, 1, Duration.ofDays(1));
+		channel.addMessages(40, 1, Duration.ofDays(15));
+		List<Long> progress = new ArrayList<>();
+		long count = new MessagePurger(channel, CLOCK).purge(100, null, m -> {}, progress::add);
+		assertEquals(100, count);
+		assertEquals(List.of(100L), progress);
+		assertEquals(1, channel.bulkDeleteRequests);
+		assertEquals(40, channel.deleteRequests);
+	}
+
+	/**
+	 * Tests that only the given user's messages are deleted, and that no more than the given amount are deleted.
+	 */
+	@Test
+	public void testUserFilterAndAmount() {
+		FakeChannel channel = new FakeChannel();
+		for (int i = 0; i < 150; i++) {
+			channel.addMessages(1, i % 3 == 0 ? 2 : 1, Duration.ofMinutes(1));
+		}
+		long count = new MessagePurger(channel, CLOCK).purge(30, 2L, m -> assertEquals(2, m.getAuthor().getIdLong()), removed -> {});
+		assertEquals(30, count);
+		assertEquals(120, channel.messages.size());
+		assertEquals(1, channel.retrieveRequests);
+		assertEquals(1, channel.bulkDeleteRequests);
+	}
+
+	/**
+	 * Tests that a single recent message is deleted without a bulk delete request, which requires at least two messages.
+	 */
+	@Test
+	public void testSingleMessage() {
+		FakeChannel channel = new FakeChannel();
+		channel.addMessages(1, 1, Duration.ofMinutes(1));
+		assertEquals(1, new MessagePurger(channel, CLOCK).purge(5, null, m -> {}, removed -> {}));
+		assertEquals(0, channel.bulkDeleteRequests);
+		assertEquals(1, channel.deleteRequests);
+		assertEquals(2, channel.retrieveRequests);
+	}
+
+	private static Message createMessage(long id, long authorId, OffsetDateTime timeCreated) {
+		User author = (User) Proxy.newProxyInstance(User.class.getClassLoader(), new Class<?>[]{User.class}, (proxy, method, args) -> switch (method.getName()) {
+			case "getIdLong" -> authorId;
+			case "hashCode" -> Long.hashCode(authorId);
+			case "equals" -> proxy == args[0];
+			default -> throw new UnsupportedOperationException(method.getName());
+		});
+		return (Message) Proxy.newProxyInstance(Message.class.getClassLoader(), new Class<?>[]{Message.class}, (proxy, method, args) -> switch (method.getName()) {
+			case "getIdLong" -> id;
+			case "getId" -> Long.toString(id);
+			case "getAuthor" -> author;
+			case "getTimeCreated" -> timeCreated;
+			case "hashCode" -> Long.hashCode(id);
+			case "equals" -> proxy == args[0];
+			default -> throw new UnsupportedOperationException(method.getName());
+		});
+	}
+
+	/**
+	 * A channel which keeps its messages in memory, starting with the latest one, and counts all requests.
+	 */
+	private static class FakeChannel implements MessagePurger.PurgeTarget {
+		private final List<Message> messages = new ArrayList<>();
+		private long nextId = 1;
+		private int retrievedCount;
+		private int retrieveRequests;
+		private int bulkDeleteRequests;
+		private int deleteRequests;
+
+		void addMessages(int amount, long authorId, Duration age) {
+			for (int i = 0; i < amount; i++) {
+				messages.add(createMessage(nextId++, authorId, OffsetDateTime.ofInstant(NOW.minus(age), ZoneOffset.UTC)));
+			}
+		}
+
+		@Override
+		public List<Message> retrievePast(int amount) {
+			retrieveRequests++;
+			// deleted messages are removed from the list, so the history continues after the messages which were kept
+			List<Message> retrieved = List.copyOf(messages.subList(Math.min(retrievedCount, messages.size()), Math.min(retrievedCount + amount, messages.size())));
+			retrievedCount += retrieved.size();
+			return retrieved;
+		}
+
+		@Override
+		public void bulkDelete(List<String> messageIds) {
+			assertTrue(messageIds.size() >= 2 && messageIds.size() <= MessagePurger.MAX_BATCH_SIZE);
+			bulkDeleteRequests++;
+			messageIds.forEach(this::remove);
+		}
+
+		@Override
+		public void delete(String messageId) {
+			deleteRequests++;
+			remove(messageId);
+		}
+
+		private void remove(String messageId) {
+			int index = -1;
+			for (int i = 0; i < messages.size(); i++) {
+				if (messages.get(i).getId().equals(messageId)) index = i;
+			}
+			messages.remove(index);
+			if (index < retrievedCount) retrievedCount--;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package net.javadiscord.javabot.systems.moderation;
+
+import net.javadiscord.javabot.util.FakeClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the functionality of the {@link MessageRateTracker} class.
+ */
+public class MessageRateTrackerTest {
+
+	/**
+	 * Tests that only messages within the window are counted.
+	 */
+	@Test
+	public void testSlidingWindow() {
+		FakeClock clock = new FakeClock();
+		MessageRateTracker tracker = new MessageRateTracker(clock, Duration.ofSeconds(6), 6);
+		for (int i = 0; i < 6; i++) {
+			assertEquals(i, tracker.record(1, 1));
+			clock.advance(Duration.ofMillis(500));
+		}
+		assertEquals(6, tracker.record(1, 1));
+		clock.advance(Duration.ofSeconds(4));
+		// only the messages sent 1.5 seconds after the first one (or later) are still within the window
+		assertEquals(4, tracker.record(1, 1));
+		clock.advance(Duration.ofSeconds(10));
+		assertEquals(0, tracker.record(1, 1));
+	}
+
+	/**
+	 * Tests that the count never exceeds the tracker's capacity.
+	 */
+	@Test
+	public void testCapacity() {
+		FakeClock clock = new FakeClock();
+		MessageRateTracker tracker = new MessageRateTracker(clock, Duration.ofSeconds(6), 3);
+		for (int i = 0; i < 10; i++) {
+			tracker.record(1, 1);
+		}
+		assertEquals(3, tracker.record(1, 1));
+	}
+
+	/**
+	 * Tests that users and channels are tracked separately.
+	 */
+	@Test
+	public void testSeparateUsersAndChannels() {
+		FakeClock clock = new FakeClock();
+		MessageRateTracker tracker = new MessageRateTracker(clock, Duration.ofSeconds(6), 6);
+		tracker.record(1, 1);
+		tracker.record(1, 1);
+		assertEquals(0, tracker.record(2, 1));
+		assertEquals(0, tracker.record(1, 2));
+		assertEquals(2, tracker.record(1, 1));
+	}
+
+	/**
+	 * Tests that idle users and channels expire.
+	 */
+	@Test
+	public void testExpiry() {
+		FakeClock clock = new FakeClock();
+		MessageRateTracker tracker = new MessageRateTracker(clock, Duration.ofSeconds(6), 6);
+		tracker.record(1, 1);
+		tracker.record(2, 1);
+		tracker.cleanUp();
+		assertEquals(2, tracker.size());
+		clock.advance(Duration.ofSeconds(7));
+		tracker.cleanUp();
+		assertEquals(0, tracker.size());
+	}
+}
@@ -0,0 +1,52 @@
+package net.javadiscord.javabot.systems.moderation.server_lock;
+
+import net.javadiscord.javabot.util.FakeClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the functionality of the {@link JoinRateTracker} class.
+ */
+public class JoinRateTrackerTest {
+
+	/**
+	 * Tests that only joins within the requested window are counted.
+	 */
+	@Test
+	public void testWindow() {
+		FakeClock clock = new FakeClock();
+		JoinRateTracker tracker = new JoinRateTracker(clock, 60);
+		for (int i = 0; i < 5; i++) {
+			tracker.record(i % 2 == 0);
+			tracker.record(false);
+			clock.advance(Duration.ofSeconds(1));
+		}
+		// the last joins happened one second ago
+		assertEquals(0, tracker.getJoins(1));
+		assertEquals(4, tracker.getJoins(3));
+		assertEquals(10, tracker.getJoins(60));
+		assertEquals(3, tracker.getNewAccountJoins(60));
+		assertEquals(1, tracker.getNewAccountJoins(3));
+	}
+
+	/**
+	 * Tests that buckets are reused once they're older than the tracker's window.
+	 */
+	@Test
+	public void testBucketReuse() {
+		FakeClock clock = new FakeClock();
+		JoinRateTracker tracker = new JoinRateTracker(clock, 10);
+		tracker.record(true);
+		tracker.record(true);
+		clock.advance(Duration.ofSeconds(10));
+		assertEquals(0, tracker.getJoins(10));
+		tracker.record(false);
+		assertEquals(1, tracker.getJoins(10));
+		assertEquals(0, tracker.getNewAccountJoins(10));
+		// windows longer than the tracker's are capped
+		assertEquals(1, tracker.getJoins(1000));
+	}
+}
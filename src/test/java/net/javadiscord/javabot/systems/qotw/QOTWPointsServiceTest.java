@@ -0,0 +1,98 @@
+package net.javadiscord.javabot.systems.qotw;
+
+import net.javadiscord.javabot.systems.qotw.dao.QuestionPointsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link QOTWPointsService} class against an embedded H2 database.
+ */
+public class QOTWPointsServiceTest {
+	private static final int THREADS = 8;
+	private static final int INCREMENTS_PER_THREAD = 50;
+
+	private JdbcTemplate jdbcTemplate;
+	private QOTWPointsService service;
+
+	/**
+	 * Creates a fresh in-memory database with the qotw_points table.
+	 */
+	@BeforeEach
+	public void setup() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:qotw_points_test;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE qotw_points (user_id BIGINT PRIMARY KEY, points BIGINT NOT NULL DEFAULT 0)");
+		service = new QOTWPointsService(new QuestionPointsRepository(jdbcTemplate));
+	}
+
+	/**
+	 * Drops the in-memory database.
+	 */
+	@AfterEach
+	public void tearDown() {
+		jdbcTemplate.execute("DROP ALL OBJECTS");
+	}
+
+	/**
+	 * Tests that increments create the account and return the new total.
+	 */
+	@Test
+	public void testIncrement() {
+		assertEquals(1, service.increment(1));
+		assertEquals(2, service.increment(1));
+		assertEquals(1, service.increment(2));
+		assertEquals(2, service.getPoints(1));
+		assertEquals(1, service.getQOTWRank(1));
+		assertEquals(2, service.getQOTWRank(2));
+	}
+
+	/**
+	 * Tests that no increments are lost if the same (initially non-existent) account is incremented in parallel,
+	 * and that every increment observes a distinct total.
+	 *
+	 * @throws Exception If a thread fails or is interrupted.
+	 */
+	@Test
+	public void testParallelIncrements() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<List<Long>>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				List<Long> results = new ArrayList<>(INCREMENTS_PER_THREAD);
+				for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+					results.add(service.increment(42));
+				}
+				return results;
+			}));
+		}
+		start.countDown();
+		Set<Long> totals = new HashSet<>();
+		for (Future<List<Long>> future : futures) {
+			totals.addAll(future.get(30, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+		int expected = THREADS * INCREMENTS_PER_THREAD;
+		assertEquals(expected, totals.size());
+		assertTrue(totals.stream().allMatch(total -> total >= 1 && total <= expected));
+		assertEquals(expected, jdbcTemplate.queryForObject("SELECT points FROM qotw_points WHERE user_id = 42", Long.class));
+		assertEquals(expected, service.getPoints(42));
+	}
+}
@@ -0,0 +1,64 @@
+package net.javadiscord.javabot.systems.qotw;
+
+import net.javadiscord.javabot.systems.qotw.model.QOTWAccount;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link QOTWRankIndex} class.
+ */
+public class QOTWRankIndexTest {
+
+	/**
+	 * Tests that every page matches the corresponding part of the full, sorted list of accounts.
+	 */
+	@Test
+	public void testPages() {
+		QOTWRankIndex index = new QOTWRankIndex();
+		List<QOTWAccount> accounts = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			accounts.add(account(i, (i * 37) % 20));
+		}
+		index.load(accounts);
+		List<Long> all = userIds(index.getTopAccounts(0, 100));
+		assertEquals(100, all.size());
+		for (int offset = 0; offset < 105; offset += 7) {
+			for (int limit : new int[]{0, 1, 10, 200}) {
+				List<Long> expected = all.subList(Math.min(offset, 100), Math.min(offset + limit, 100));
+				assertEquals(expected, userIds(index.getTopAccounts(offset, limit)));
+			}
+		}
+	}
+
+	/**
+	 * Tests that users are ranked by their points, and that users without an account have no rank.
+	 */
+	@Test
+	public void testRank() {
+		QOTWRankIndex index = new QOTWRankIndex();
+		index.load(List.of(account(1, 5), account(2, 10), account(3, 5)));
+		assertEquals(1, index.getRank(2));
+		assertEquals(2, index.getRank(1));
+		assertEquals(3, index.getRank(3));
+		assertEquals(0, index.getRank(4));
+		index.set(3, 11);
+		assertEquals(1, index.getRank(3));
+		assertTrue(index.getTopAccounts(3, 10).isEmpty());
+	}
+
+	private QOTWAccount account(long userId, long points) {
+		QOTWAccount account = new QOTWAccount();
+		account.setUserId(userId);
+		account.setPoints(points);
+		return account;
+	}
+
+	private List<Long> userIds(List<QOTWAccount> accounts) {
+		return accounts.stream().map(QOTWAccount::getUserId).toList();
+	}
+}
@@ -0,0 +1,71 @@
+package net.javadiscord.javabot.systems.staff_commands.tags;
+
+import net.javadiscord.javabot.systems.staff_commands.tags.model.CustomTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link CustomTagIndex} class.
+ */
+public class CustomTagIndexTest {
+
+	/**
+	 * Tests that prefix lookups return matching tags in alphabetical order, up to the limit.
+	 */
+	@Test
+	public void testFindByPrefix() {
+		CustomTagIndex index = new CustomTagIndex(List.of(tag("streams"), tag("string"), tag("static"), tag("records"), tag("str")));
+		assertEquals(List.of("str", "streams", "string"), names(index.findByPrefix("str", 25)));
+		assertEquals(List.of("str", "streams"), names(index.findByPrefix("STR", 2)));
+		assertEquals(List.of("records", "static", "str", "streams", "string"), names(index.findByPrefix("", 25)));
+		assertTrue(index.findByPrefix("zzz", 25).isEmpty());
+	}
+
+	/**
+	 * Tests that lookups by a part of the name return all tags which contain it, except those starting with it,
+	 * in alphabetical order, up to the limit.
+	 */
+	@Test
+	public void testFindContaining() {
+		CustomTagIndex index = new CustomTagIndex(List.of(tag("streams"), tag("string"), tag("instream"), tag("upstream"), tag("records"), tag("a")));
+		assertEquals(List.of("instream", "upstream"), names(index.findContaining("stream", 25)));
+		assertEquals(List.of("instream"), names(index.findContaining("STREAM", 1)));
+		assertEquals(List.of("instream", "streams", "upstream"), names(index.findContaining("re", 25)));
+		assertEquals(List.of("instream", "streams", "upstream"), names(index.findContaining("a", 25)));
+		assertTrue(index.findContaining("stx", 25).isEmpty());
+		assertTrue(index.findContaining("", 25).isEmpty());
+		index.remove("instream");
+		assertEquals(List.of("upstream"), names(index.findContaining("stream", 25)));
+	}
+
+	/**
+	 * Tests that tags are updated and removed in place.
+	 */
+	@Test
+	public void testPutAndRemove() {
+		CustomTagIndex index = new CustomTagIndex(List.of(tag("java")));
+		CustomTag update = tag("java");
+		update.setResponse("updated");
+		index.put(update);
+		assertEquals(1, index.size());
+		assertEquals("updated", index.get("Java").orElseThrow().getResponse());
+		assertTrue(index.remove("java").isPresent());
+		assertTrue(index.get("java").isEmpty());
+		assertTrue(index.findByPrefix("j", 25).isEmpty());
+	}
+
+	private CustomTag tag(String name) {
+		CustomTag tag = new CustomTag();
+		tag.setName(name);
+		tag.setResponse(name);
+		return tag;
+	}
+
+	private List<String> names(List<CustomTag> tags) {
+		return tags.stream().map(CustomTag::getName).toList();
+	}
+}
@@ -0,0 +1,36 @@
+package net.javadiscord.javabot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the functionality of the {@link AhoCorasickAutomaton} class.
+ */
+public class AhoCorasickAutomatonTest {
+
+	/**
+	 * Tests that all (overlapping) occurrences are found, ignoring case.
+	 */
+	@Test
+	public void testScan() {
+		AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(List.of("he", "she", "his", "hers", "HTTP://"));
+		List<String> matches = new ArrayList<>();
+		automaton.scan("uSHErs and his link: Http://example.com", (keyword, start) -> matches.add(automaton.getKeyword(keyword) + "@" + start));
+		assertEquals(List.of("she@1", "he@2", "hers@2", "his@11", "http://@21"), matches);
+	}
+
+	/**
+	 * Tests that nothing is reported if no keyword is contained in the text.
+	 */
+	@Test
+	public void testNoMatches() {
+		AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(List.of("discord", "fuck"));
+		List<Integer> matches = new ArrayList<>();
+		automaton.scan("How do I read a file line by line?", (keyword, start) -> matches.add(start));
+		assertEquals(List.of(), matches);
+	}
+}
@@ -0,0 +1,38 @@
+package net.javadiscord.javabot.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A {@link Clock} for tests, which only moves when told to.
+ */
+public class FakeClock extends Clock {
+	private Instant now = Instant.parse("2022-09-01T12:00:00Z");
+
+	/**
+	 * Moves this clock forward.
+	 *
+	 * @param duration The amount of time to move forward by.
+	 */
+	public void advance(Duration duration) {
+		now = now.plus(duration);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneOffset.UTC;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		return this;
+	}
+
+	@Override
+	public Instant instant() {
+		return now;
+	}
+}
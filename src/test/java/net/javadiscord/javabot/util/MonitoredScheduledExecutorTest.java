@@ -0,0 +1,107 @@
+package net.javadiscord.javabot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link MonitoredScheduledExecutor} class.
+ */
+public class MonitoredScheduledExecutorTest {
+
+	/**
+	 * Tests that only due tasks count towards the queue depth, and that waiting and running times are recorded.
+	 *
+	 * @throws InterruptedException If the test is interrupted while waiting for the executor.
+	 */
+	@Test
+	public void testSnapshot() throws InterruptedException {
+		MonitoredScheduledExecutor executor = new MonitoredScheduledExecutor("test", 1);
+		try {
+			CountDownLatch release = new CountDownLatch(1);
+			CountDownLatch started = new CountDownLatch(1);
+			executor.execute(() -> {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			started.await();
+			executor.execute(() -> {});
+			executor.execute(() -> {});
+			executor.schedule(() -> {}, 1, TimeUnit.HOURS);
+			Thread.sleep(20);
+			MonitoredScheduledExecutor.Snapshot busy = executor.snapshot();
+			assertEquals(1, busy.activeThreads());
+			assertEquals(2, busy.queueDepth());
+			assertEquals(3, busy.scheduledTasks());
+
+			release.countDown();
+			while (executor.getCompletedTaskCount() < 3) {
+				Thread.sleep(5);
+			}
+			MonitoredScheduledExecutor.Snapshot idle = executor.snapshot();
+			assertEquals(0, idle.queueDepth());
+			assertTrue(idle.maxWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+			assertTrue(idle.maxRunNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that immediate tasks run on the separate executor, while delayed tasks still run on the pool,
+	 * and that both are recorded.
+	 *
+	 * @throws Exception If a task fails, or the test is interrupted while waiting for the executor.
+	 */
+	@Test
+	public void testImmediateExecutor() throws Exception {
+		ExecutorService immediate = Executors.newCachedThreadPool(runnable -> new Thread(runnable, "immediate"));
+		MonitoredScheduledExecutor executor = new MonitoredScheduledExecutor("test", 1, immediate);
+		try {
+			assertEquals("immediate", executor.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS));
+			assertEquals("test-1", executor.schedule(() -> Thread.currentThread().getName(), 1, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS));
+			// tasks are counted after their futures have been completed
+			while (executor.snapshot().completedTasks() < 2) {
+				Thread.sleep(5);
+			}
+			MonitoredScheduledExecutor.Snapshot snapshot = executor.snapshot();
+			assertTrue(snapshot.immediate());
+			assertEquals(2, snapshot.completedTasks());
+		} finally {
+			executor.shutdown();
+		}
+		assertTrue(immediate.isShutdown());
+		assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+	}
+
+	/**
+	 * Tests that virtual threads are used on JDKs which support them, and that other JDKs fall back to the pool.
+	 *
+	 * @throws Exception If a task fails, or the test is interrupted while waiting for the executor.
+	 */
+	@Test
+	public void testVirtualThreads() throws Exception {
+		Optional<ExecutorService> virtualThreads = VirtualThreads.newVirtualThreadPerTaskExecutor();
+		assertEquals(Runtime.version().feature() >= 21, virtualThreads.isPresent());
+		MonitoredScheduledExecutor executor = new MonitoredScheduledExecutor("test", 1, virtualThreads.orElse(null));
+		try {
+			assertEquals(virtualThreads.isPresent(), executor.snapshot().immediate());
+			assertEquals(virtualThreads.isEmpty(), executor.submit(() -> Thread.currentThread().getName().startsWith("test-")).get(1, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
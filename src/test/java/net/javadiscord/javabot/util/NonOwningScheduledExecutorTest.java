@@ -0,0 +1,58 @@
+package net.javadiscord.javabot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link NonOwningScheduledExecutor} class.
+ */
+public class NonOwningScheduledExecutorTest {
+
+	/**
+	 * Tests that shutting down a view rejects new tasks, but neither stops the shared executor nor its pending tasks.
+	 *
+	 * @throws InterruptedException If the test is interrupted while waiting for the executor.
+	 */
+	@Test
+	public void testShutdownKeepsDelegateRunning() throws InterruptedException {
+		ScheduledExecutorService delegate = Executors.newSingleThreadScheduledExecutor();
+		try {
+			NonOwningScheduledExecutor view = new NonOwningScheduledExecutor(delegate);
+			CountDownLatch release = new CountDownLatch(1);
+			CountDownLatch ran = new CountDownLatch(1);
+			view.execute(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				ran.countDown();
+			});
+			view.shutdown();
+			assertTrue(view.isShutdown());
+			assertFalse(view.isTerminated());
+			assertThrows(RejectedExecutionException.class, () -> view.execute(() -> {}));
+			assertThrows(RejectedExecutionException.class, () -> view.schedule(() -> {}, 1, TimeUnit.SECONDS));
+
+			release.countDown();
+			assertTrue(view.awaitTermination(1, TimeUnit.SECONDS));
+			assertTrue(ran.await(1, TimeUnit.SECONDS));
+			assertFalse(delegate.isShutdown());
+
+			CountDownLatch other = new CountDownLatch(1);
+			new NonOwningScheduledExecutor(delegate).execute(other::countDown);
+			assertTrue(other.await(1, TimeUnit.SECONDS));
+		} finally {
+			delegate.shutdownNow();
+		}
+	}
+}
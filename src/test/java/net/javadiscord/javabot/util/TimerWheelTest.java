@@ -0,0 +1,57 @@
+package net.javadiscord.javabot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link TimerWheel} class.
+ */
+public class TimerWheelTest {
+
+	/**
+	 * Tests that keys expire once their tick has passed, but never earlier.
+	 */
+	@Test
+	public void testExpiry() {
+		TimerWheel<String> wheel = new TimerWheel<>(1000, 8, 0);
+		wheel.schedule("a", 2500);
+		wheel.schedule("b", 5000);
+		assertEquals(List.of(), wheel.advance(2999));
+		assertEquals(List.of("a"), wheel.advance(3000));
+		assertEquals(List.of("b"), wheel.advance(6000));
+		assertEquals(0, wheel.size());
+	}
+
+	/**
+	 * Tests that rescheduling replaces the previous deadline, and that cancelled keys never expire.
+	 */
+	@Test
+	public void testRescheduleAndCancel() {
+		TimerWheel<String> wheel = new TimerWheel<>(1000, 8, 0);
+		wheel.schedule("a", 1000);
+		wheel.schedule("a", 4000);
+		wheel.schedule("b", 1000);
+		assertTrue(wheel.cancel("b"));
+		assertFalse(wheel.cancel("b"));
+		assertEquals(List.of(), wheel.advance(2000));
+		assertEquals(List.of("a"), wheel.advance(5000));
+	}
+
+	/**
+	 * Tests deadlines which lie multiple rotations ahead, and advancing the wheel by more than a rotation at once.
+	 */
+	@Test
+	public void testMultipleRotations() {
+		TimerWheel<String> wheel = new TimerWheel<>(1000, 4, 0);
+		wheel.schedule("a", 10_500);
+		wheel.schedule("b", 2_000);
+		assertEquals(List.of("b"), wheel.advance(9_000));
+		assertEquals(List.of(), wheel.advance(10_000));
+		assertEquals(List.of("a"), wheel.advance(100_000));
+	}
+}